@@ -0,0 +1,127 @@
+package panda.analytics;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import panda.analytics.dto.AdminActiveUsersResponseDto;
+import panda.analytics.dto.AdminUniqueActorsResponseDto;
+import panda.analytics.ingest.VisitEvent;
+
+/**
+ * Unique-actor estimates backed by one Redis HyperLogLog per KST day.
+ * Range queries use PFCOUNT over several keys, which merges the sketches server-side.
+ */
+@Slf4j
+@Service
+public class ActorCardinalityService {
+
+    public static final String DAU_KEY_PREFIX = "analytics:hll:dau:";
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter KEY_DATE_FORMAT = DateTimeFormatter.ISO_LOCAL_DATE;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final long sketchTtlSeconds;
+    private final int maxRangeDays;
+
+    public ActorCardinalityService(
+            StringRedisTemplate stringRedisTemplate,
+            @Value("${app.analytics.hll.ttl-days:400}") long ttlDays,
+            @Value("${app.analytics.hll.max-range-days:400}") int maxRangeDays
+    ) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.sketchTtlSeconds = ttlDays * 24 * 60 * 60;
+        this.maxRangeDays = maxRangeDays;
+    }
+
+    /**
+     * Adds the batch's actors to their day sketches in one pipelined round trip. Failures are logged only;
+     * the relational tables remain the source of truth.
+     */
+    public void record(List<VisitEvent> events) {
+        Map<LocalDate, Set<String>> actorsByDate = new TreeMap<>();
+        for (VisitEvent event : events) {
+            actorsByDate.computeIfAbsent(event.eventDateKst(), date -> new LinkedHashSet<>()).add(event.actorKey());
+        }
+        if (actorsByDate.isEmpty()) {
+            return;
+        }
+
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Map.Entry<LocalDate, Set<String>> entry : actorsByDate.entrySet()) {
+                    byte[] key = toKey(entry.getKey()).getBytes(StandardCharsets.UTF_8);
+                    byte[][] actors = entry.getValue().stream()
+                            .map(actorKey -> actorKey.getBytes(StandardCharsets.UTF_8))
+                            .toArray(byte[][]::new);
+                    connection.hyperLogLogCommands().pfAdd(key, actors);
+                    connection.keyCommands().expire(key, sketchTtlSeconds);
+                }
+                return null;
+            });
+        } catch (RuntimeException ex) {
+            log.warn("Failed to update actor HyperLogLog sketches [days={}]", actorsByDate.keySet(), ex);
+        }
+    }
+
+    public AdminActiveUsersResponseDto getActiveUsers(LocalDate date) {
+        LocalDate targetDate = date == null ? LocalDate.now(KST) : date;
+        return new AdminActiveUsersResponseDto(
+                targetDate.toString(),
+                countUnique(targetDate, targetDate),
+                countUnique(targetDate.minusDays(6), targetDate),
+                countUnique(targetDate.minusDays(29), targetDate)
+        );
+    }
+
+    public AdminUniqueActorsResponseDto getUniqueActors(LocalDate startDate, LocalDate endDate) {
+        if (ChronoUnit.DAYS.between(startDate, endDate) >= maxRangeDays) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "date range must not exceed " + maxRangeDays + " days"
+            );
+        }
+        return new AdminUniqueActorsResponseDto(
+                startDate.toString(),
+                endDate.toString(),
+                countUnique(startDate, endDate)
+        );
+    }
+
+    public long countUnique(LocalDate startDate, LocalDate endDate) {
+        List<String> keys = new ArrayList<>();
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            keys.add(toKey(date));
+        }
+        try {
+            Long count = stringRedisTemplate.opsForHyperLogLog().size(keys.toArray(String[]::new));
+            return count == null ? 0L : count;
+        } catch (RuntimeException ex) {
+            log.warn("Failed to read actor HyperLogLog sketches [start={}, end={}]", startDate, endDate, ex);
+            throw new ResponseStatusException(
+                    HttpStatus.SERVICE_UNAVAILABLE,
+                    "unique actor estimates are temporarily unavailable",
+                    ex
+            );
+        }
+    }
+
+    private String toKey(LocalDate date) {
+        return DAU_KEY_PREFIX + KEY_DATE_FORMAT.format(date);
+    }
+}
@@ -1,21 +1,40 @@
 package panda.analytics;
 
 import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ResponseStatusException;
+import panda.analytics.dto.AdminActiveUsersResponseDto;
+import panda.analytics.dto.AdminCohortRetentionResponseDto;
 import panda.analytics.dto.AdminDauResponseDto;
+import panda.analytics.dto.AdminMetricRollupResponseDto;
+import panda.analytics.dto.AdminTopItemDto;
+import panda.analytics.dto.AdminTopItemsResponseDto;
+import panda.analytics.dto.AdminUniqueActorsResponseDto;
+import panda.analytics.retention.CohortRetentionService;
+import panda.analytics.traffic.HeavyHitters;
+import panda.analytics.traffic.TrafficAggregator;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/admin/metrics")
 public class AdminMetricsController {
 
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final int MAX_TOP_LIMIT = 100;
+
     private final AnalyticsService analyticsService;
+    private final DailyMetricRollupService dailyMetricRollupService;
+    private final TrafficAggregator trafficAggregator;
+    private final ActorCardinalityService actorCardinalityService;
+    private final CohortRetentionService cohortRetentionService;
 
     @GetMapping("/dau")
     public AdminDauResponseDto getDau(
@@ -27,4 +46,91 @@ public class AdminMetricsController {
         }
         return new AdminDauResponseDto(analyticsService.getDailyMetrics(startDate, endDate));
     }
+
+    @GetMapping("/active-users")
+    public AdminActiveUsersResponseDto getActiveUsers(@RequestParam(required = false) LocalDate date) {
+        return actorCardinalityService.getActiveUsers(date);
+    }
+
+    @GetMapping("/unique-actors")
+    public AdminUniqueActorsResponseDto getUniqueActors(
+            @RequestParam LocalDate startDate,
+            @RequestParam LocalDate endDate
+    ) {
+        if (startDate.isAfter(endDate)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "startDate must be before or equal to endDate");
+        }
+        return actorCardinalityService.getUniqueActors(startDate, endDate);
+    }
+
+    @GetMapping("/retention")
+    public AdminCohortRetentionResponseDto getRetention(
+            @RequestParam(required = false) LocalDate startDate,
+            @RequestParam(required = false) LocalDate endDate,
+            @RequestParam(defaultValue = "1,7,30") List<Integer> days
+    ) {
+        LocalDate targetEndDate = endDate == null ? LocalDate.now(KST).minusDays(1) : endDate;
+        LocalDate targetStartDate = startDate == null
+                ? targetEndDate.minusDays(cohortRetentionService.getMaxCohortDays() - 1L)
+                : startDate;
+        if (targetStartDate.isAfter(targetEndDate)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "startDate must be before or equal to endDate");
+        }
+        return cohortRetentionService.getRetention(targetStartDate, targetEndDate, days);
+    }
+
+    @PostMapping("/rollup")
+    public AdminMetricRollupResponseDto rollup(
+            @RequestParam LocalDate startDate,
+            @RequestParam LocalDate endDate
+    ) {
+        if (startDate.isAfter(endDate)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "startDate must be before or equal to endDate");
+        }
+        if (!endDate.isBefore(LocalDate.now(KST))) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "endDate must be a closed day");
+        }
+        int rows = dailyMetricRollupService.backfill(startDate, endDate);
+        return new AdminMetricRollupResponseDto(startDate.toString(), endDate.toString(), rows);
+    }
+
+    @GetMapping("/top-paths")
+    public AdminTopItemsResponseDto getTopPaths(
+            @RequestParam(required = false) LocalDate date,
+            @RequestParam(required = false) Integer hour,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        LocalDate targetDate = validateTopQuery(date, hour, limit);
+        return toTopItemsResponse(targetDate, hour, trafficAggregator.topPaths(targetDate, hour, limit));
+    }
+
+    @GetMapping("/top-listings")
+    public AdminTopItemsResponseDto getTopListings(
+            @RequestParam(required = false) LocalDate date,
+            @RequestParam(required = false) Integer hour,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        LocalDate targetDate = validateTopQuery(date, hour, limit);
+        return toTopItemsResponse(targetDate, hour, trafficAggregator.topListings(targetDate, hour, limit));
+    }
+
+    private LocalDate validateTopQuery(LocalDate date, Integer hour, int limit) {
+        if (hour != null && (hour < 0 || hour > 23)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "hour must be between 0 and 23");
+        }
+        if (limit <= 0 || limit > MAX_TOP_LIMIT) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit must be between 1 and " + MAX_TOP_LIMIT);
+        }
+        return date == null ? LocalDate.now(KST) : date;
+    }
+
+    private AdminTopItemsResponseDto toTopItemsResponse(LocalDate date, Integer hour, List<HeavyHitters.Item> items) {
+        return new AdminTopItemsResponseDto(
+                date.toString(),
+                hour,
+                items.stream()
+                        .map(item -> new AdminTopItemDto(item.key(), item.count()))
+                        .toList()
+        );
+    }
 }
@@ -0,0 +1,61 @@
+package panda.analytics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import panda.analytics.ingest.AnalyticsIngestionPipeline;
+
+/**
+ * Pipeline throughput and HyperLogLog unique-actor gauges. All values are read at scrape time.
+ */
+@Component
+@RequiredArgsConstructor
+public class AnalyticsMetrics implements MeterBinder {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final AnalyticsIngestionPipeline ingestionPipeline;
+    private final ActorCardinalityService actorCardinalityService;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("analytics.ingest.events", ingestionPipeline, AnalyticsIngestionPipeline::acceptedCount)
+                .tag("result", "accepted")
+                .register(registry);
+        FunctionCounter.builder("analytics.ingest.events", ingestionPipeline, AnalyticsIngestionPipeline::writtenCount)
+                .tag("result", "written")
+                .register(registry);
+        FunctionCounter.builder("analytics.ingest.events", ingestionPipeline, AnalyticsIngestionPipeline::droppedCount)
+                .tag("result", "dropped")
+                .register(registry);
+        FunctionCounter.builder("analytics.ingest.events", ingestionPipeline, AnalyticsIngestionPipeline::failedCount)
+                .tag("result", "failed")
+                .register(registry);
+        Gauge.builder("analytics.ingest.queue.size", ingestionPipeline, AnalyticsIngestionPipeline::queuedCount)
+                .register(registry);
+
+        Gauge.builder("analytics.actors.unique", this, metrics -> metrics.uniqueActors(0))
+                .tag("window", "day")
+                .register(registry);
+        Gauge.builder("analytics.actors.unique", this, metrics -> metrics.uniqueActors(6))
+                .tag("window", "week")
+                .register(registry);
+        Gauge.builder("analytics.actors.unique", this, metrics -> metrics.uniqueActors(29))
+                .tag("window", "month")
+                .register(registry);
+    }
+
+    private double uniqueActors(int lookbackDays) {
+        LocalDate today = LocalDate.now(KST);
+        try {
+            return actorCardinalityService.countUnique(today.minusDays(lookbackDays), today);
+        } catch (RuntimeException ex) {
+            return Double.NaN;
+        }
+    }
+}
@@ -38,13 +38,29 @@ public interface AnalyticsRepository extends JpaRepository<DailyVisitEvent, Long
             @Param("now") LocalDateTime now
     );
 
+    @Query(value = """
+            SELECT id FROM daily_visit_events
+            WHERE occurred_at < :cutoff
+            ORDER BY id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Long> findVisitIdsOlderThan(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
     @Modifying
     @Transactional
     @Query(value = """
             DELETE FROM daily_visit_events
-            WHERE occurred_at < :cutoff
+            WHERE id IN (:ids)
             """, nativeQuery = true)
-    int deleteVisitsOlderThan(@Param("cutoff") LocalDateTime cutoff);
+    int deleteVisitsByIdIn(@Param("ids") List<Long> ids);
+
+    @Query(value = """
+            SELECT COUNT(*) FROM daily_actor_activity
+            WHERE event_date_kst = :eventDateKst
+            """, nativeQuery = true)
+    long countDailyActors(@Param("eventDateKst") LocalDate eventDateKst);
+
+    boolean existsByEventDateKst(LocalDate eventDateKst);
 
     interface DailyMetricRow {
 
@@ -1,26 +1,50 @@
 package panda.analytics;
 
+import java.time.LocalDate;
+import java.time.ZoneId;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import panda.analytics.ingest.VisitEventSegmentLog;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class AnalyticsRetentionScheduler {
 
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
     private final AnalyticsService analyticsService;
+    private final VisitEventPartitionManager visitEventPartitionManager;
+    private final VisitEventSegmentLog visitEventSegmentLog;
 
     @Value("${app.analytics.retention-days:30}")
     private int retentionDays;
 
+    @Value("${app.analytics.partition.ahead-days:7}")
+    private int partitionAheadDays;
+
     @Scheduled(cron = "${app.analytics.retention-cron:0 0 3 * * *}", zone = "Asia/Seoul")
     public void purgeOldVisitEvents() {
         int deleted = analyticsService.purgeOldVisitEvents(retentionDays);
         if (deleted > 0) {
             log.info("Purged {} rows from daily_visit_events (retentionDays={})", deleted, retentionDays);
         }
+        if (visitEventSegmentLog.isEnabled()) {
+            int deletedSegments = visitEventSegmentLog.deleteBefore(LocalDate.now(KST).minusDays(retentionDays));
+            if (deletedSegments > 0) {
+                log.info("Purged {} visit segment files (retentionDays={})", deletedSegments, retentionDays);
+            }
+        }
+    }
+
+    @Scheduled(cron = "${app.analytics.partition-cron:0 30 2 * * *}", zone = "Asia/Seoul")
+    public void createFuturePartitions() {
+        if (!visitEventPartitionManager.isPartitioned()) {
+            return;
+        }
+        visitEventPartitionManager.createPartitionsUntil(LocalDate.now(KST).plusDays(partitionAheadDays));
     }
 }
@@ -7,52 +7,93 @@ import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.regex.Pattern;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseCookie;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import panda.analytics.bot.BotTrafficClassifier;
 import panda.analytics.dto.AdminDauDailyMetricDto;
+import panda.analytics.ingest.AnalyticsIngestionPipeline;
+import panda.analytics.ingest.VisitEvent;
+import panda.analytics.ingest.VisitEventSegmentLog;
 
 @Slf4j
 @Service
 public class AnalyticsService {
 
     private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final Pattern ACTOR_KEY_PATTERN = Pattern.compile("^[A-Za-z0-9_-]{1,128}$");
 
     private final AnalyticsRepository analyticsRepository;
+    private final DailyMetricRollupRepository dailyMetricRollupRepository;
+    private final VisitEventPartitionManager visitEventPartitionManager;
+    private final VisitEventSegmentLog visitEventSegmentLog;
+    private final BotTrafficClassifier botTrafficClassifier;
+    private final AnalyticsIngestionPipeline ingestionPipeline;
     private final String cookieName;
     private final boolean cookieSecure;
     private final String cookieSameSite;
     private final long cookieMaxAgeDays;
+    private final int deleteChunkSize;
+    private final long deletePauseMs;
 
     public AnalyticsService(
             AnalyticsRepository analyticsRepository,
+            DailyMetricRollupRepository dailyMetricRollupRepository,
+            VisitEventPartitionManager visitEventPartitionManager,
+            VisitEventSegmentLog visitEventSegmentLog,
+            BotTrafficClassifier botTrafficClassifier,
+            AnalyticsIngestionPipeline ingestionPipeline,
             @Value("${app.analytics.cookie.name:anon_id}") String cookieName,
             @Value("${app.analytics.cookie.secure:true}") boolean cookieSecure,
             @Value("${app.analytics.cookie.same-site:None}") String cookieSameSite,
-            @Value("${app.analytics.cookie.max-age-days:180}") long cookieMaxAgeDays
+            @Value("${app.analytics.cookie.max-age-days:180}") long cookieMaxAgeDays,
+            @Value("${app.analytics.retention.delete-chunk-size:5000}") int deleteChunkSize,
+            @Value("${app.analytics.retention.delete-pause-ms:100}") long deletePauseMs
     ) {
         this.analyticsRepository = analyticsRepository;
+        this.dailyMetricRollupRepository = dailyMetricRollupRepository;
+        this.visitEventPartitionManager = visitEventPartitionManager;
+        this.visitEventSegmentLog = visitEventSegmentLog;
+        this.botTrafficClassifier = botTrafficClassifier;
+        this.ingestionPipeline = ingestionPipeline;
         this.cookieName = cookieName;
         this.cookieSecure = cookieSecure;
         this.cookieSameSite = cookieSameSite;
         this.cookieMaxAgeDays = cookieMaxAgeDays;
+        this.deleteChunkSize = deleteChunkSize;
+        this.deletePauseMs = deletePauseMs;
     }
 
-    public String getOrCreateActorKey(HttpServletRequest request, HttpServletResponse response) {
-        if (request.getCookies() != null) {
-            for (Cookie cookie : request.getCookies()) {
-                if (cookieName.equals(cookie.getName())
-                        && cookie.getValue() != null
-                        && !cookie.getValue().isBlank()) {
-                    return cookie.getValue();
-                }
+    public String findActorKey(HttpServletRequest request) {
+        if (request.getCookies() == null) {
+            return null;
+        }
+        for (Cookie cookie : request.getCookies()) {
+            if (cookieName.equals(cookie.getName())
+                    && cookie.getValue() != null
+                    && ACTOR_KEY_PATTERN.matcher(cookie.getValue()).matches()) {
+                return cookie.getValue();
             }
         }
+        return null;
+    }
+
+    public String getOrCreateActorKey(HttpServletRequest request, HttpServletResponse response) {
+        String existing = findActorKey(request);
+        if (existing != null) {
+            return existing;
+        }
 
         String actorKey = "anon_" + UUID.randomUUID();
         ResponseCookie cookie = ResponseCookie.from(cookieName, actorKey)
@@ -66,33 +107,178 @@ public class AnalyticsService {
         return actorKey;
     }
 
-    @Transactional
-    public void trackVisit(String actorKey, String path) {
-        if (actorKey == null || actorKey.isBlank()) {
+    /**
+     * Tracks a page request unless it is classified as automated; bots get no actor cookie and cause no I/O.
+     */
+    public void trackRequest(HttpServletRequest request, HttpServletResponse response) {
+        if (botTrafficClassifier.classify(request).isBot()) {
             return;
         }
+        trackVisit(getOrCreateActorKey(request, response), request.getRequestURI());
+    }
 
+    /**
+     * Counts a request in the traffic reports without persisting a visit, e.g. the listing view beacon.
+     * Bots are skipped as in {@link #trackRequest}; the aggregation itself runs on the ingestion writer thread.
+     */
+    public void trackTraffic(HttpServletRequest request) {
+        if (botTrafficClassifier.classify(request).isBot()) {
+            return;
+        }
         LocalDateTime nowKst = LocalDateTime.now(KST);
-        LocalDate eventDateKst = nowKst.toLocalDate();
+        VisitEvent event = new VisitEvent(nowKst.toLocalDate(), null, request.getRequestURI(), nowKst);
+        ingestionPipeline.submitTrafficOnly(event);
+    }
 
-        try {
-            analyticsRepository.insertDailyActorIgnore(eventDateKst, actorKey, nowKst);
-            analyticsRepository.insertVisit(eventDateKst, actorKey, path, nowKst);
-        } catch (Exception e) {
-            log.warn("Failed to track visit metric. actorKey={}, path={}", actorKey, path, e);
+    /**
+     * Enqueues the visit; rows are written asynchronously by {@link AnalyticsIngestionPipeline}.
+     */
+    public void trackVisit(String actorKey, String path) {
+        if (actorKey == null || actorKey.isBlank()) {
+            return;
         }
+
+        LocalDateTime nowKst = LocalDateTime.now(KST);
+        ingestionPipeline.submit(new VisitEvent(nowKst.toLocalDate(), actorKey, path, nowKst));
     }
 
+    /**
+     * Closed days come from daily_metric_rollup; only today and days the rollup job has not covered yet
+     * are aggregated from the raw tables.
+     */
     @Transactional(readOnly = true)
     public List<AdminDauDailyMetricDto> getDailyMetrics(LocalDate startDate, LocalDate endDate) {
-        return analyticsRepository.findDailyMetrics(startDate, endDate).stream()
-                .map(row -> new AdminDauDailyMetricDto(row.getDate(), row.getDau(), row.getVisits()))
-                .toList();
+        LocalDate today = LocalDate.now(KST);
+        LocalDate closedEndDate = endDate.isBefore(today) ? endDate : today.minusDays(1);
+
+        Map<LocalDate, DailyMetricRollup> rollupByDate = new HashMap<>();
+        if (!startDate.isAfter(closedEndDate)) {
+            for (DailyMetricRollup rollup : dailyMetricRollupRepository.findByPathAndMetricDateBetweenOrderByMetricDate(
+                    DailyMetricRollup.TOTAL_PATH, startDate, closedEndDate)) {
+                rollupByDate.put(rollup.getMetricDate(), rollup);
+            }
+        }
+
+        LocalDate liveStartDate = null;
+        LocalDate liveEndDate = null;
+        for (LocalDate date = startDate; !date.isAfter(endDate) && !date.isAfter(today); date = date.plusDays(1)) {
+            if (!rollupByDate.containsKey(date)) {
+                liveStartDate = liveStartDate == null ? date : liveStartDate;
+                liveEndDate = date;
+            }
+        }
+
+        Map<String, AnalyticsRepository.DailyMetricRow> liveRowByDate = new HashMap<>();
+        if (liveStartDate != null) {
+            for (AnalyticsRepository.DailyMetricRow row : analyticsRepository.findDailyMetrics(liveStartDate, liveEndDate)) {
+                liveRowByDate.put(row.getDate(), row);
+            }
+        }
+
+        List<AdminDauDailyMetricDto> metrics = new ArrayList<>();
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            DailyMetricRollup rollup = rollupByDate.get(date);
+            AnalyticsRepository.DailyMetricRow liveRow = liveRowByDate.get(date.toString());
+            if (rollup != null) {
+                metrics.add(new AdminDauDailyMetricDto(date.toString(), rollup.getDau(), rollup.getVisits()));
+            } else {
+                int dau = liveRow == null ? 0 : liveRow.getDau();
+                int visits = liveRow == null ? 0 : liveRow.getVisits();
+                if (visitEventSegmentLog.isEnabled() && !date.isAfter(today)) {
+                    visits += (int) visitEventSegmentLog.countEvents(date);
+                }
+                metrics.add(new AdminDauDailyMetricDto(date.toString(), dau, visits));
+            }
+        }
+        return metrics;
     }
 
+    /**
+     * Rebuilds the rollup rows of one day; safe to re-run for late events. A day whose raw visits are
+     * already purged keeps its existing rollup instead of being rebuilt as zeros.
+     */
     @Transactional
+    public int rollupDailyMetrics(LocalDate metricDate) {
+        boolean segmentSource = visitEventSegmentLog.isEnabled();
+        boolean hasSourceRows = segmentSource
+                ? visitEventSegmentLog.hasSegments(metricDate)
+                : analyticsRepository.existsByEventDateKst(metricDate);
+        if (!hasSourceRows) {
+            log.info("Skipped daily metric rollup without raw visits [metricDate={}]", metricDate);
+            return 0;
+        }
+
+        LocalDateTime nowKst = LocalDateTime.now(KST);
+        dailyMetricRollupRepository.deleteByMetricDate(metricDate);
+        if (segmentSource) {
+            return rollupFromSegments(metricDate, nowKst);
+        }
+        int rows = dailyMetricRollupRepository.insertTotalRollup(metricDate, nowKst);
+        rows += dailyMetricRollupRepository.insertPathRollups(metricDate, nowKst);
+        return rows;
+    }
+
+    private int rollupFromSegments(LocalDate metricDate, LocalDateTime nowKst) {
+        Map<String, Set<String>> actorsByPath = new HashMap<>();
+        Map<String, Integer> visitsByPath = new HashMap<>();
+        int[] totalVisits = new int[1];
+        visitEventSegmentLog.replay(metricDate, event -> {
+            totalVisits[0]++;
+            if (event.path() != null && !DailyMetricRollup.TOTAL_PATH.equals(event.path())) {
+                actorsByPath.computeIfAbsent(event.path(), path -> new HashSet<>()).add(event.actorKey());
+                visitsByPath.merge(event.path(), 1, Integer::sum);
+            }
+        });
+
+        List<DailyMetricRollup> rollups = new ArrayList<>();
+        rollups.add(DailyMetricRollup.builder()
+                .metricDate(metricDate)
+                .path(DailyMetricRollup.TOTAL_PATH)
+                .dau((int) analyticsRepository.countDailyActors(metricDate))
+                .visits(totalVisits[0])
+                .updatedAt(nowKst)
+                .build());
+        for (Map.Entry<String, Integer> entry : visitsByPath.entrySet()) {
+            rollups.add(DailyMetricRollup.builder()
+                    .metricDate(metricDate)
+                    .path(entry.getKey())
+                    .dau(actorsByPath.get(entry.getKey()).size())
+                    .visits(entry.getValue())
+                    .updatedAt(nowKst)
+                    .build());
+        }
+        dailyMetricRollupRepository.saveAll(rollups);
+        return rollups.size();
+    }
+
+    /**
+     * Drops whole expired partitions when the table is partitioned; otherwise deletes in small
+     * id-ordered chunks, each in its own transaction, pausing between chunks to spare the primary.
+     * Not transactional on purpose.
+     */
     public int purgeOldVisitEvents(int retentionDays) {
         LocalDateTime cutoffKst = LocalDateTime.now(KST).minusDays(retentionDays);
-        return analyticsRepository.deleteVisitsOlderThan(cutoffKst);
+        if (visitEventPartitionManager.isPartitioned()) {
+            return (int) visitEventPartitionManager.dropPartitionsBefore(cutoffKst.toLocalDate());
+        }
+
+        int deleted = 0;
+        while (true) {
+            List<Long> ids = analyticsRepository.findVisitIdsOlderThan(cutoffKst, deleteChunkSize);
+            if (ids.isEmpty()) {
+                return deleted;
+            }
+            deleted += analyticsRepository.deleteVisitsByIdIn(ids);
+            if (ids.size() < deleteChunkSize) {
+                return deleted;
+            }
+            try {
+                Thread.sleep(deletePauseMs);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                log.warn("Visit event purge interrupted after deleting {} rows", deleted);
+                return deleted;
+            }
+        }
     }
 }
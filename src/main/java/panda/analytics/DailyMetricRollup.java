@@ -0,0 +1,57 @@
+package panda.analytics;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * One row per closed KST day and path; {@link #TOTAL_PATH} holds the whole-site totals.
+ */
+@Getter
+@Entity
+@Table(
+        name = "daily_metric_rollup",
+        indexes = @Index(name = "idx_daily_metric_rollup_path_date", columnList = "path, metric_date"),
+        uniqueConstraints = @UniqueConstraint(
+                name = "uq_daily_metric_rollup",
+                columnNames = {"metric_date", "path"}
+        )
+)
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DailyMetricRollup {
+
+    public static final String TOTAL_PATH = "*";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "metric_date", nullable = false)
+    private LocalDate metricDate;
+
+    @Column(name = "path", nullable = false, length = 255)
+    private String path;
+
+    @Column(name = "dau", nullable = false)
+    private Integer dau;
+
+    @Column(name = "visits", nullable = false)
+    private Integer visits;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
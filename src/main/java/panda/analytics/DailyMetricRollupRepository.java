@@ -0,0 +1,50 @@
+package panda.analytics;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DailyMetricRollupRepository extends JpaRepository<DailyMetricRollup, Long> {
+
+    List<DailyMetricRollup> findByPathAndMetricDateBetweenOrderByMetricDate(
+            String path,
+            LocalDate startDate,
+            LocalDate endDate
+    );
+
+    @Modifying
+    @Query(value = """
+            DELETE FROM daily_metric_rollup
+            WHERE metric_date = :metricDate
+            """, nativeQuery = true)
+    int deleteByMetricDate(@Param("metricDate") LocalDate metricDate);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO daily_metric_rollup (metric_date, path, dau, visits, updated_at)
+            SELECT :metricDate,
+                   '*',
+                   (SELECT COUNT(*) FROM daily_actor_activity WHERE event_date_kst = :metricDate),
+                   (SELECT COUNT(*) FROM daily_visit_events WHERE event_date_kst = :metricDate),
+                   :now
+            """, nativeQuery = true)
+    int insertTotalRollup(@Param("metricDate") LocalDate metricDate, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO daily_metric_rollup (metric_date, path, dau, visits, updated_at)
+            SELECT event_date_kst, path, COUNT(DISTINCT actor_key), COUNT(*), :now
+            FROM daily_visit_events
+            WHERE event_date_kst = :metricDate
+              AND path IS NOT NULL
+              AND path <> '*'
+            GROUP BY event_date_kst, path
+            """, nativeQuery = true)
+    int insertPathRollups(@Param("metricDate") LocalDate metricDate, @Param("now") LocalDateTime now);
+}
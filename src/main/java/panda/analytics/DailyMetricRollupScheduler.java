@@ -0,0 +1,34 @@
+package panda.analytics;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class DailyMetricRollupScheduler {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final DailyMetricRollupService dailyMetricRollupService;
+
+    @Value("${app.analytics.rollup-lookback-days:2}")
+    private int lookbackDays;
+
+    /**
+     * Re-rolls the last few closed days so events flushed after midnight are included.
+     */
+    @Scheduled(cron = "${app.analytics.rollup-cron:0 10 0 * * *}", zone = "Asia/Seoul")
+    public void rollupClosedDays() {
+        LocalDate yesterday = LocalDate.now(KST).minusDays(1);
+        LocalDate startDate = yesterday.minusDays(Math.max(0, lookbackDays - 1));
+        LocalDate oldestRetainedDate = dailyMetricRollupService.getOldestRetainedDate();
+        dailyMetricRollupService.backfill(
+                startDate.isBefore(oldestRetainedDate) ? oldestRetainedDate : startDate,
+                yesterday
+        );
+    }
+}
@@ -0,0 +1,53 @@
+package panda.analytics;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Re-rolls closed days one transaction per day. Only days whose raw visits are still fully retained
+ * can be rebuilt; older rollups are the only copy left and are never touched.
+ */
+@Slf4j
+@Service
+public class DailyMetricRollupService {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final AnalyticsService analyticsService;
+    private final int retentionDays;
+
+    public DailyMetricRollupService(
+            AnalyticsService analyticsService,
+            @Value("${app.analytics.retention-days:30}") int retentionDays
+    ) {
+        this.analyticsService = analyticsService;
+        this.retentionDays = retentionDays;
+    }
+
+    public int backfill(LocalDate startDate, LocalDate endDate) {
+        LocalDate oldestRetainedDate = getOldestRetainedDate();
+        if (startDate.isBefore(oldestRetainedDate)) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "startDate must be on or after " + oldestRetainedDate + " (raw visit retention)"
+            );
+        }
+
+        int rows = 0;
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            rows += analyticsService.rollupDailyMetrics(date);
+        }
+        log.info("Rolled up daily metrics [startDate={}, endDate={}, rows={}]", startDate, endDate, rows);
+        return rows;
+    }
+
+    // The purge job deletes by occurred_at, so the day at the cutoff itself is already partially gone.
+    public LocalDate getOldestRetainedDate() {
+        return LocalDate.now(KST).minusDays(retentionDays - 1L);
+    }
+}
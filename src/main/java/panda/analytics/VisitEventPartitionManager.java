@@ -0,0 +1,165 @@
+package panda.analytics;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Maintains RANGE COLUMNS(event_date_kst) partitions of daily_visit_events when the table has been
+ * migrated to a partitioned layout. MySQL requires the partitioning column in every unique key, so the
+ * migration widens the primary key to (id, event_date_kst) and ends with a {@code pmax} MAXVALUE partition:
+ *
+ * <pre>
+ * ALTER TABLE daily_visit_events DROP PRIMARY KEY, ADD PRIMARY KEY (id, event_date_kst)
+ *   PARTITION BY RANGE COLUMNS(event_date_kst) (PARTITION pmax VALUES LESS THAN (MAXVALUE));
+ * </pre>
+ *
+ * Partitions are named {@code pYYYYMMDD} after their first day and cover one day or one month.
+ */
+@Slf4j
+@Component
+public class VisitEventPartitionManager {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final String TABLE_NAME = "daily_visit_events";
+    private static final String MAX_PARTITION = "pmax";
+    private static final DateTimeFormatter PARTITION_NAME_FORMAT = DateTimeFormatter.ofPattern("'p'yyyyMMdd");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final Granularity granularity;
+
+    public VisitEventPartitionManager(
+            JdbcTemplate jdbcTemplate,
+            @Value("${app.analytics.partition.enabled:true}") boolean enabled,
+            @Value("${app.analytics.partition.granularity:DAILY}") Granularity granularity
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.granularity = granularity;
+    }
+
+    public boolean isPartitioned() {
+        if (!enabled) {
+            return false;
+        }
+        try {
+            return findPartitions().stream().anyMatch(partition -> MAX_PARTITION.equals(partition.name()));
+        } catch (DataAccessException ex) {
+            log.debug("Partition metadata unavailable for {}", TABLE_NAME, ex);
+            return false;
+        }
+    }
+
+    /**
+     * Splits {@code pmax} so that partitions exist up to and including {@code untilDate}. On the first run
+     * every row still lives in {@code pmax}, so the split starts at the oldest stored event date; otherwise
+     * all history would land in the first partition and never age out. That first REORGANIZE copies the
+     * whole table and belongs in a maintenance window.
+     */
+    public int createPartitionsUntil(LocalDate untilDate) {
+        List<Partition> partitions = findPartitions();
+        LocalDate nextStart = partitions.stream()
+                .map(Partition::upperBound)
+                .filter(Objects::nonNull)
+                .max(LocalDate::compareTo)
+                .orElseGet(this::findFirstPartitionStart);
+
+        List<String> definitions = new ArrayList<>();
+        while (!nextStart.isAfter(untilDate)) {
+            LocalDate nextEnd = granularity.next(nextStart);
+            definitions.add("PARTITION " + PARTITION_NAME_FORMAT.format(nextStart)
+                    + " VALUES LESS THAN ('" + nextEnd + "')");
+            nextStart = nextEnd;
+        }
+        if (definitions.isEmpty()) {
+            return 0;
+        }
+
+        definitions.add("PARTITION " + MAX_PARTITION + " VALUES LESS THAN (MAXVALUE)");
+        jdbcTemplate.execute("ALTER TABLE " + TABLE_NAME + " REORGANIZE PARTITION " + MAX_PARTITION
+                + " INTO (" + String.join(", ", definitions) + ")");
+        log.info("Created {} partitions on {} up to {}", definitions.size() - 1, TABLE_NAME, untilDate);
+        return definitions.size() - 1;
+    }
+
+    /**
+     * Drops partitions whose every row is older than {@code cutoffDate}.
+     *
+     * @return estimated number of rows removed, from table statistics
+     */
+    public long dropPartitionsBefore(LocalDate cutoffDate) {
+        List<Partition> expired = findPartitions().stream()
+                .filter(partition -> partition.upperBound() != null && !partition.upperBound().isAfter(cutoffDate))
+                .toList();
+        if (expired.isEmpty()) {
+            return 0L;
+        }
+
+        jdbcTemplate.execute("ALTER TABLE " + TABLE_NAME + " DROP PARTITION "
+                + String.join(", ", expired.stream().map(Partition::name).toList()));
+        long rows = expired.stream().mapToLong(Partition::estimatedRows).sum();
+        log.info("Dropped {} partitions from {} (cutoffDate={}, estimatedRows={})",
+                expired.size(), TABLE_NAME, cutoffDate, rows);
+        return rows;
+    }
+
+    private LocalDate findFirstPartitionStart() {
+        LocalDate today = LocalDate.now(KST);
+        LocalDate oldestEventDate = jdbcTemplate.queryForObject(
+                "SELECT MIN(event_date_kst) FROM " + TABLE_NAME,
+                LocalDate.class
+        );
+        LocalDate firstDate = oldestEventDate == null || oldestEventDate.isAfter(today) ? today : oldestEventDate;
+        return granularity.startOf(firstDate);
+    }
+
+    private List<Partition> findPartitions() {
+        return jdbcTemplate.query("""
+                        SELECT PARTITION_NAME, PARTITION_DESCRIPTION, TABLE_ROWS
+                        FROM information_schema.PARTITIONS
+                        WHERE TABLE_SCHEMA = DATABASE()
+                          AND TABLE_NAME = ?
+                          AND PARTITION_NAME IS NOT NULL
+                        ORDER BY PARTITION_ORDINAL_POSITION
+                        """,
+                (rs, rowNum) -> new Partition(
+                        rs.getString("PARTITION_NAME"),
+                        parseUpperBound(rs.getString("PARTITION_DESCRIPTION")),
+                        rs.getLong("TABLE_ROWS")
+                ),
+                TABLE_NAME
+        );
+    }
+
+    private LocalDate parseUpperBound(String description) {
+        if (description == null || description.equalsIgnoreCase("MAXVALUE")) {
+            return null;
+        }
+        return LocalDate.parse(description.replace("'", "").trim());
+    }
+
+    record Partition(String name, LocalDate upperBound, long estimatedRows) {
+    }
+
+    public enum Granularity {
+        DAILY,
+        MONTHLY;
+
+        LocalDate startOf(LocalDate date) {
+            return this == DAILY ? date : date.withDayOfMonth(1);
+        }
+
+        LocalDate next(LocalDate start) {
+            return this == DAILY ? start.plusDays(1) : start.plusMonths(1);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package panda.analytics.bot;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Queue;
+
+/**
+ * Case-insensitive multi-substring matcher compiled into a dense ASCII automaton, so a scan is one
+ * array lookup per character with no allocation. Non-ASCII characters never match a pattern character.
+ */
+public class AhoCorasickMatcher {
+
+    private static final int ALPHABET = 128;
+
+    private final int[][] transitions;
+    private final boolean[] terminal;
+
+    public AhoCorasickMatcher(List<String> patterns) {
+        List<int[]> gotoTable = new ArrayList<>();
+        List<Boolean> outputs = new ArrayList<>();
+        gotoTable.add(newState());
+        outputs.add(false);
+
+        for (String rawPattern : patterns) {
+            String pattern = rawPattern == null ? "" : rawPattern.trim().toLowerCase(Locale.ROOT);
+            if (pattern.isEmpty() || !pattern.chars().allMatch(c -> c < ALPHABET)) {
+                continue;
+            }
+            int state = 0;
+            for (int i = 0; i < pattern.length(); i++) {
+                int c = pattern.charAt(i);
+                if (gotoTable.get(state)[c] < 0) {
+                    gotoTable.get(state)[c] = gotoTable.size();
+                    gotoTable.add(newState());
+                    outputs.add(false);
+                }
+                state = gotoTable.get(state)[c];
+            }
+            outputs.set(state, true);
+        }
+
+        int stateCount = gotoTable.size();
+        this.transitions = new int[stateCount][];
+        this.terminal = new boolean[stateCount];
+        int[] failure = new int[stateCount];
+        for (int state = 0; state < stateCount; state++) {
+            transitions[state] = gotoTable.get(state);
+            terminal[state] = outputs.get(state);
+        }
+
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int c = 0; c < ALPHABET; c++) {
+            int next = transitions[0][c];
+            if (next < 0) {
+                transitions[0][c] = 0;
+            } else {
+                failure[next] = 0;
+                queue.add(next);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            terminal[state] |= terminal[failure[state]];
+            for (int c = 0; c < ALPHABET; c++) {
+                int next = transitions[state][c];
+                if (next < 0) {
+                    transitions[state][c] = transitions[failure[state]][c];
+                } else {
+                    failure[next] = transitions[failure[state]][c];
+                    queue.add(next);
+                }
+            }
+        }
+    }
+
+    public boolean matches(CharSequence text) {
+        if (text == null) {
+            return false;
+        }
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= ALPHABET) {
+                state = 0;
+                continue;
+            }
+            if (c >= 'A' && c <= 'Z') {
+                c = (char) (c + ('a' - 'A'));
+            }
+            state = transitions[state][c];
+            if (terminal[state]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int[] newState() {
+        int[] state = new int[ALPHABET];
+        Arrays.fill(state, -1);
+        return state;
+    }
+}
@@ -0,0 +1,114 @@
+package panda.analytics.bot;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import panda.common.Hashing;
+
+/**
+ * Classifies a request as human or automated before any analytics I/O happens:
+ * first by User-Agent substrings, then by a request rate per client IP and User-Agent. The client IP is
+ * taken from X-Forwarded-For behind trusted proxies, and the User-Agent splits users sharing one carrier NAT.
+ */
+@Slf4j
+@Component
+public class BotTrafficClassifier {
+
+    private static final long IDLE_EVICTION_NANOS = TimeUnit.MINUTES.toNanos(10);
+
+    private final boolean enabled;
+    private final boolean blockMissingUserAgent;
+    private final AhoCorasickMatcher userAgentMatcher;
+    private final TokenBucketRateDetector rateDetector;
+    private final ClientIpResolver clientIpResolver;
+    private final Counter userAgentDropCounter;
+    private final Counter missingUserAgentDropCounter;
+    private final Counter rateLimitDropCounter;
+
+    public BotTrafficClassifier(
+            MeterRegistry meterRegistry,
+            @Value("${app.analytics.bot.enabled:true}") boolean enabled,
+            @Value("${app.analytics.bot.block-missing-user-agent:true}") boolean blockMissingUserAgent,
+            @Value("${app.analytics.bot.user-agent-patterns:bot,crawl,spider,slurp,curl,wget,python-requests,"
+                    + "python-urllib,httpclient,okhttp,go-http-client,java/,headless,phantomjs,puppeteer,playwright,"
+                    + "facebookexternalhit,scrapy,axios,node-fetch,postman}") List<String> userAgentPatterns,
+            @Value("${app.analytics.bot.rate.capacity:120}") int rateCapacity,
+            @Value("${app.analytics.bot.rate.refill-per-second:2}") double refillPerSecond,
+            @Value("${app.analytics.bot.rate.max-tracked-ips:100000}") int maxTrackedIps,
+            @Value("${app.analytics.bot.trusted-proxies:127.0.0.0/8,::1,10.0.0.0/8,172.16.0.0/12,192.168.0.0/16,"
+                    + "fc00::/7}") List<String> trustedProxies
+    ) {
+        this.enabled = enabled;
+        this.blockMissingUserAgent = blockMissingUserAgent;
+        this.userAgentMatcher = new AhoCorasickMatcher(userAgentPatterns);
+        this.rateDetector = new TokenBucketRateDetector(rateCapacity, refillPerSecond, maxTrackedIps);
+        this.clientIpResolver = new ClientIpResolver(trustedProxies);
+        this.userAgentDropCounter = dropCounter(meterRegistry, "user_agent");
+        this.missingUserAgentDropCounter = dropCounter(meterRegistry, "missing_user_agent");
+        this.rateLimitDropCounter = dropCounter(meterRegistry, "rate_limit");
+    }
+
+    public Classification classify(HttpServletRequest request) {
+        if (!enabled) {
+            return Classification.HUMAN;
+        }
+
+        String userAgent = request.getHeader(HttpHeaders.USER_AGENT);
+        if (userAgent == null || userAgent.isBlank()) {
+            if (blockMissingUserAgent) {
+                missingUserAgentDropCounter.increment();
+                return Classification.MISSING_USER_AGENT;
+            }
+        } else if (userAgentMatcher.matches(userAgent)) {
+            userAgentDropCounter.increment();
+            return Classification.BOT_USER_AGENT;
+        }
+
+        String clientIp = clientIpResolver.resolve(request);
+        if (clientIp != null && !rateDetector.tryAcquire(rateKey(clientIp, userAgent), System.nanoTime())) {
+            rateLimitDropCounter.increment();
+            return Classification.RATE_LIMITED;
+        }
+        return Classification.HUMAN;
+    }
+
+    @Scheduled(fixedDelayString = "${app.analytics.bot.rate.eviction-interval-ms:60000}")
+    public void evictIdleClients() {
+        int evicted = rateDetector.evictIdle(System.nanoTime() - IDLE_EVICTION_NANOS);
+        if (evicted > 0) {
+            log.debug("Evicted {} idle client rate buckets (tracked={})", evicted, rateDetector.trackedKeyCount());
+        }
+    }
+
+    private String rateKey(String clientIp, String userAgent) {
+        if (userAgent == null || userAgent.isBlank()) {
+            return clientIp;
+        }
+        return clientIp + "|" + Long.toHexString(Hashing.fingerprint64(userAgent));
+    }
+
+    private Counter dropCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("analytics.bot.dropped")
+                .description("Visit events dropped as automated traffic")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    public enum Classification {
+        HUMAN,
+        BOT_USER_AGENT,
+        MISSING_USER_AGENT,
+        RATE_LIMITED;
+
+        public boolean isBot() {
+            return this != HUMAN;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package panda.analytics.bot;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Resolves the originating client address. X-Forwarded-For is only honoured when the direct peer is a
+ * trusted proxy; the chain is then walked right to left and the first untrusted hop is the client.
+ */
+public class ClientIpResolver {
+
+    private static final String FORWARDED_FOR_HEADER = "X-Forwarded-For";
+    private static final Pattern IP_LITERAL = Pattern.compile("^[0-9A-Fa-f:.]+$");
+
+    private final List<Cidr> trustedProxies;
+
+    /**
+     * @param trustedProxies CIDR blocks or single addresses, e.g. {@code 10.0.0.0/8} or {@code ::1}
+     */
+    public ClientIpResolver(List<String> trustedProxies) {
+        List<Cidr> parsed = new ArrayList<>();
+        for (String trustedProxy : trustedProxies) {
+            if (trustedProxy != null && !trustedProxy.isBlank()) {
+                parsed.add(Cidr.parse(trustedProxy.trim()));
+            }
+        }
+        this.trustedProxies = List.copyOf(parsed);
+    }
+
+    public String resolve(HttpServletRequest request) {
+        String remoteAddr = request.getRemoteAddr();
+        if (remoteAddr == null || !isTrusted(remoteAddr)) {
+            return remoteAddr;
+        }
+        String forwardedFor = request.getHeader(FORWARDED_FOR_HEADER);
+        if (forwardedFor == null || forwardedFor.isBlank()) {
+            return remoteAddr;
+        }
+
+        String[] hops = forwardedFor.split(",");
+        String client = remoteAddr;
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if (hop.isEmpty()) {
+                continue;
+            }
+            client = hop;
+            if (!isTrusted(hop)) {
+                break;
+            }
+        }
+        return client;
+    }
+
+    private boolean isTrusted(String address) {
+        byte[] bytes = toBytes(address);
+        if (bytes == null) {
+            return false;
+        }
+        for (Cidr trustedProxy : trustedProxies) {
+            if (trustedProxy.contains(bytes)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Only IP literals are parsed, so a forged host name can never trigger a DNS lookup.
+    private static byte[] toBytes(String address) {
+        if (!IP_LITERAL.matcher(address).matches()) {
+            return null;
+        }
+        try {
+            return InetAddress.getByName(address).getAddress();
+        } catch (UnknownHostException ex) {
+            return null;
+        }
+    }
+
+    private record Cidr(byte[] network, int prefixLength) {
+
+        static Cidr parse(String value) {
+            int slash = value.indexOf('/');
+            String address = slash < 0 ? value : value.substring(0, slash);
+            byte[] network = toBytes(address);
+            if (network == null) {
+                throw new IllegalArgumentException("Invalid trusted proxy address: " + value);
+            }
+            int prefixLength = slash < 0 ? network.length * 8 : Integer.parseInt(value.substring(slash + 1));
+            if (prefixLength < 0 || prefixLength > network.length * 8) {
+                throw new IllegalArgumentException("Invalid trusted proxy prefix: " + value);
+            }
+            return new Cidr(network, prefixLength);
+        }
+
+        boolean contains(byte[] address) {
+            if (address.length != network.length) {
+                return false;
+            }
+            int fullBytes = prefixLength / 8;
+            for (int i = 0; i < fullBytes; i++) {
+                if (address[i] != network[i]) {
+                    return false;
+                }
+            }
+            int remainingBits = prefixLength % 8;
+            if (remainingBits == 0) {
+                return true;
+            }
+            int mask = 0xFF << (8 - remainingBits);
+            return (address[fullBytes] & mask) == (network[fullBytes] & mask);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package panda.analytics.bot;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Per-key token buckets. A key that empties its bucket is considered to be sending automated traffic.
+ */
+public class TokenBucketRateDetector {
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private final int maxTrackedKeys;
+    private final ConcurrentMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    public TokenBucketRateDetector(int capacity, double refillPerSecond, int maxTrackedKeys) {
+        this.capacity = capacity;
+        this.tokensPerNano = refillPerSecond / 1_000_000_000d;
+        this.maxTrackedKeys = maxTrackedKeys;
+    }
+
+    /**
+     * @return {@code false} when the key has exceeded its rate. Unknown keys beyond
+     *         {@code maxTrackedKeys} are let through rather than tracked.
+     */
+    public boolean tryAcquire(String key, long nowNanos) {
+        Bucket bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= maxTrackedKeys) {
+                return true;
+            }
+            bucket = buckets.computeIfAbsent(key, ignored -> new Bucket(capacity, nowNanos));
+        }
+        return bucket.tryAcquire(nowNanos, capacity, tokensPerNano);
+    }
+
+    /**
+     * Forgets keys that have not been seen since {@code idleBeforeNanos}.
+     */
+    public int evictIdle(long idleBeforeNanos) {
+        int before = buckets.size();
+        buckets.values().removeIf(bucket -> bucket.lastRefillNanos() < idleBeforeNanos);
+        return before - buckets.size();
+    }
+
+    public int trackedKeyCount() {
+        return buckets.size();
+    }
+
+    private static final class Bucket {
+
+        private double tokens;
+        private long lastRefillNanos;
+
+        private Bucket(double tokens, long nowNanos) {
+            this.tokens = tokens;
+            this.lastRefillNanos = nowNanos;
+        }
+
+        private synchronized boolean tryAcquire(long nowNanos, double capacity, double tokensPerNano) {
+            long elapsed = nowNanos - lastRefillNanos;
+            if (elapsed > 0) {
+                tokens = Math.min(capacity, tokens + elapsed * tokensPerNano);
+                lastRefillNanos = nowNanos;
+            }
+            if (tokens < 1d) {
+                return false;
+            }
+            tokens -= 1d;
+            return true;
+        }
+
+        private synchronized long lastRefillNanos() {
+            return lastRefillNanos;
+        }
+    }
+}
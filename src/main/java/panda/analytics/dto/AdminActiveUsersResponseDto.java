@@ -0,0 +1,9 @@
+package panda.analytics.dto;
+
+public record AdminActiveUsersResponseDto(
+        String date,
+        long dau,
+        long wau,
+        long mau
+) {
+}
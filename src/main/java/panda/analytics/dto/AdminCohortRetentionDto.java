@@ -0,0 +1,11 @@
+package panda.analytics.dto;
+
+import java.util.List;
+
+public record AdminCohortRetentionDto(
+        String cohortDate,
+        int cohortSize,
+        List<Integer> retained,
+        List<Double> rates
+) {
+}
@@ -0,0 +1,13 @@
+package panda.analytics.dto;
+
+import java.util.List;
+
+public record AdminCohortRetentionResponseDto(
+        String startDate,
+        String endDate,
+        String historyStartDate,
+        String historyEndDate,
+        List<Integer> days,
+        List<AdminCohortRetentionDto> data
+) {
+}
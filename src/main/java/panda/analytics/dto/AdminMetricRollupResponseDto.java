@@ -0,0 +1,8 @@
+package panda.analytics.dto;
+
+public record AdminMetricRollupResponseDto(
+        String startDate,
+        String endDate,
+        int rows
+) {
+}
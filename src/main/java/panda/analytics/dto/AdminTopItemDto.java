@@ -0,0 +1,7 @@
+package panda.analytics.dto;
+
+public record AdminTopItemDto(
+        String key,
+        long estimatedCount
+) {
+}
@@ -0,0 +1,10 @@
+package panda.analytics.dto;
+
+import java.util.List;
+
+public record AdminTopItemsResponseDto(
+        String date,
+        Integer hour,
+        List<AdminTopItemDto> data
+) {
+}
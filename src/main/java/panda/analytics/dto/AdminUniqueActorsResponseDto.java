@@ -0,0 +1,8 @@
+package panda.analytics.dto;
+
+public record AdminUniqueActorsResponseDto(
+        String startDate,
+        String endDate,
+        long uniqueActors
+) {
+}
@@ -0,0 +1,198 @@
+package panda.analytics.ingest;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import panda.analytics.ActorCardinalityService;
+import panda.analytics.traffic.TrafficAggregator;
+import panda.analytics.traffic.VisitMeters;
+
+/**
+ * Decouples visit tracking from the request thread: producers enqueue into a lock-free ring buffer
+ * and a single background writer drains it in multi-row batches.
+ */
+@Slf4j
+@Component
+public class AnalyticsIngestionPipeline {
+
+    private final VisitEventBatchWriter writer;
+    private final ActorCardinalityService actorCardinalityService;
+    private final TrafficAggregator trafficAggregator;
+    private final VisitMeters visitMeters;
+    private final BoundedMpmcQueue<VisitEvent> queue;
+    private final BoundedMpmcQueue<VisitEvent> trafficOnlyQueue;
+    private final OverflowPolicy overflowPolicy;
+    private final int batchSize;
+    private final long idleParkNanos;
+    private final ReentrantLock drainLock = new ReentrantLock();
+    private final LongAdder acceptedCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder writtenCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+
+    private volatile boolean running;
+    private volatile Thread writerThread;
+
+    public AnalyticsIngestionPipeline(
+            VisitEventBatchWriter writer,
+            ActorCardinalityService actorCardinalityService,
+            TrafficAggregator trafficAggregator,
+            VisitMeters visitMeters,
+            @Value("${app.analytics.ingest.capacity:8192}") int capacity,
+            @Value("${app.analytics.ingest.batch-size:500}") int batchSize,
+            @Value("${app.analytics.ingest.idle-park-ms:200}") long idleParkMs,
+            @Value("${app.analytics.ingest.overflow-policy:DROP}") OverflowPolicy overflowPolicy
+    ) {
+        this.writer = writer;
+        this.actorCardinalityService = actorCardinalityService;
+        this.trafficAggregator = trafficAggregator;
+        this.visitMeters = visitMeters;
+        this.queue = new BoundedMpmcQueue<>(capacity);
+        this.trafficOnlyQueue = new BoundedMpmcQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.idleParkNanos = TimeUnit.MILLISECONDS.toNanos(idleParkMs);
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writerThread = Thread.ofPlatform()
+                .name("analytics-writer")
+                .daemon(true)
+                .start(this::runWriter);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        Thread thread = writerThread;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flush();
+        log.info(
+                "Analytics ingestion stopped [accepted={}, written={}, dropped={}, failed={}]",
+                acceptedCount.sum(),
+                writtenCount.sum(),
+                droppedCount.sum(),
+                failedCount.sum()
+        );
+    }
+
+    public void submit(VisitEvent event) {
+        if (queue.offer(event)) {
+            acceptedCount.increment();
+            if (queue.size() >= batchSize) {
+                Thread thread = writerThread;
+                if (thread != null) {
+                    LockSupport.unpark(thread);
+                }
+            }
+            return;
+        }
+
+        if (overflowPolicy == OverflowPolicy.CALLER_RUNS) {
+            acceptedCount.increment();
+            writeBatch(List.of(event));
+            return;
+        }
+        droppedCount.increment();
+    }
+
+    /**
+     * Enqueues a request that only feeds {@link TrafficAggregator}, such as the listing view beacon; it is
+     * never persisted. Dropped when the buffer is full, since the reports are estimates anyway.
+     */
+    public void submitTrafficOnly(VisitEvent event) {
+        if (!trafficOnlyQueue.offer(event)) {
+            droppedCount.increment();
+        }
+    }
+
+    /**
+     * Synchronously writes everything buffered so far.
+     */
+    public void flush() {
+        while (drainOnce() > 0) {
+            // keep draining until the buffer is empty
+        }
+    }
+
+    public long acceptedCount() {
+        return acceptedCount.sum();
+    }
+
+    public long droppedCount() {
+        return droppedCount.sum();
+    }
+
+    public long writtenCount() {
+        return writtenCount.sum();
+    }
+
+    public long failedCount() {
+        return failedCount.sum();
+    }
+
+    public int queuedCount() {
+        return queue.size();
+    }
+
+    private void runWriter() {
+        while (running) {
+            try {
+                if (drainOnce() < batchSize) {
+                    LockSupport.parkNanos(this, idleParkNanos);
+                }
+            } catch (RuntimeException ex) {
+                log.warn("Analytics writer iteration failed", ex);
+            }
+        }
+    }
+
+    private int drainOnce() {
+        drainLock.lock();
+        try {
+            List<VisitEvent> batch = new ArrayList<>(Math.min(batchSize, queue.capacity()));
+            int drained = queue.drainTo(batch, batchSize);
+            if (drained > 0) {
+                writeBatch(batch);
+            }
+            List<VisitEvent> trafficOnly = new ArrayList<>(Math.min(batchSize, trafficOnlyQueue.capacity()));
+            int drainedTrafficOnly = trafficOnlyQueue.drainTo(trafficOnly, batchSize);
+            if (drainedTrafficOnly > 0) {
+                trafficAggregator.record(trafficOnly);
+            }
+            return drained + drainedTrafficOnly;
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    private void writeBatch(List<VisitEvent> batch) {
+        try {
+            writer.write(batch);
+            writtenCount.add(batch.size());
+        } catch (RuntimeException ex) {
+            failedCount.add(batch.size());
+            log.warn("Failed to write analytics batch [size={}]", batch.size(), ex);
+        }
+        actorCardinalityService.record(batch);
+        trafficAggregator.record(batch);
+        visitMeters.record(batch);
+    }
+}
@@ -0,0 +1,81 @@
+package panda.analytics.ingest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import panda.common.Hashing;
+import panda.common.LongHashSet;
+
+/**
+ * Remembers 64-bit fingerprints of actors already written to daily_actor_activity for the current KST day,
+ * so repeat visits skip the INSERT IGNORE round trip. Events for any other day pass through untouched
+ * and the unique constraint stays the source of truth.
+ */
+@Component
+public class DailyActorDeduplicator {
+
+    private final int maxEntries;
+    private final LongHashSet fingerprints;
+    private LocalDate currentDate;
+
+    public DailyActorDeduplicator(
+            @Value("${app.analytics.dau-dedupe.max-entries:1000000}") int maxEntries
+    ) {
+        this.maxEntries = maxEntries;
+        this.fingerprints = new LongHashSet(Math.min(maxEntries, 1 << 16));
+    }
+
+    /**
+     * Returns the events whose actor may not be recorded yet for their day, one per actor.
+     */
+    public synchronized List<VisitEvent> filterUnseen(List<VisitEvent> events) {
+        List<VisitEvent> unseen = new ArrayList<>();
+        LongHashSet batchFingerprints = new LongHashSet(events.size());
+        for (VisitEvent event : events) {
+            long fingerprint = fingerprint(event.actorKey());
+            boolean alreadyRecorded = event.eventDateKst().equals(currentDate) && fingerprints.contains(fingerprint);
+            if (!alreadyRecorded && batchFingerprints.add(batchKey(event.eventDateKst(), fingerprint))) {
+                unseen.add(event);
+            }
+        }
+        return unseen;
+    }
+
+    /**
+     * Call only after the rows are persisted.
+     */
+    public synchronized void markRecorded(List<VisitEvent> events) {
+        for (VisitEvent event : events) {
+            LocalDate eventDate = event.eventDateKst();
+            if (currentDate == null || eventDate.isAfter(currentDate)) {
+                currentDate = eventDate;
+                fingerprints.clear();
+            }
+            if (eventDate.equals(currentDate) && fingerprints.size() < maxEntries) {
+                fingerprints.add(fingerprint(event.actorKey()));
+            }
+        }
+    }
+
+    @Scheduled(cron = "0 0 0 * * *", zone = "Asia/Seoul")
+    public synchronized void reset() {
+        fingerprints.clear();
+        currentDate = null;
+    }
+
+    public synchronized int size() {
+        return fingerprints.size();
+    }
+
+    private static long fingerprint(String actorKey) {
+        return Hashing.fingerprint64(actorKey);
+    }
+
+    // A batch can straddle KST midnight; the same actor must survive once per day, not once per batch.
+    private static long batchKey(LocalDate eventDate, long fingerprint) {
+        return fingerprint ^ (eventDate.toEpochDay() * 0x9E3779B97F4A7C15L);
+    }
+}
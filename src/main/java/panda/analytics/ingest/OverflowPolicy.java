@@ -0,0 +1,11 @@
+package panda.analytics.ingest;
+
+/**
+ * What {@link AnalyticsIngestionPipeline#submit} does when the buffer is full.
+ */
+public enum OverflowPolicy {
+    /** Discard the event and count it as dropped. */
+    DROP,
+    /** Write the event synchronously on the request thread. */
+    CALLER_RUNS
+}
@@ -0,0 +1,12 @@
+package panda.analytics.ingest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public record VisitEvent(
+        LocalDate eventDateKst,
+        String actorKey,
+        String path,
+        LocalDateTime occurredAt
+) {
+}
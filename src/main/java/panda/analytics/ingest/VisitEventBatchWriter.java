@@ -0,0 +1,71 @@
+package panda.analytics.ingest;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Persists a batch of visits with one multi-row statement per table, or appends the raw visits
+ * to {@link VisitEventSegmentLog} when that sink is enabled.
+ * Actors already recorded today are filtered out before the INSERT IGNORE.
+ */
+@Component
+@RequiredArgsConstructor
+public class VisitEventBatchWriter {
+
+    private static final String INSERT_ACTORS_PREFIX =
+            "INSERT IGNORE INTO daily_actor_activity (event_date_kst, actor_key, first_seen_at) VALUES ";
+    private static final String INSERT_VISITS_PREFIX =
+            "INSERT INTO daily_visit_events (event_date_kst, actor_key, path, occurred_at) VALUES ";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DailyActorDeduplicator dailyActorDeduplicator;
+    private final VisitEventSegmentLog visitEventSegmentLog;
+
+    public void write(List<VisitEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        List<VisitEvent> unseenActors = dailyActorDeduplicator.filterUnseen(events);
+        if (!unseenActors.isEmpty()) {
+            insertActors(unseenActors);
+            dailyActorDeduplicator.markRecorded(unseenActors);
+        }
+        if (visitEventSegmentLog.isEnabled()) {
+            visitEventSegmentLog.append(events);
+        } else {
+            insertVisits(events);
+        }
+    }
+
+    private void insertActors(List<VisitEvent> events) {
+        List<Object> args = new ArrayList<>(events.size() * 3);
+        StringBuilder sql = new StringBuilder(INSERT_ACTORS_PREFIX.length() + events.size() * 10)
+                .append(INSERT_ACTORS_PREFIX);
+        for (int i = 0; i < events.size(); i++) {
+            VisitEvent event = events.get(i);
+            sql.append(i == 0 ? "(?, ?, ?)" : ", (?, ?, ?)");
+            args.add(event.eventDateKst());
+            args.add(event.actorKey());
+            args.add(event.occurredAt());
+        }
+        jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+
+    private void insertVisits(List<VisitEvent> events) {
+        List<Object> args = new ArrayList<>(events.size() * 4);
+        StringBuilder sql = new StringBuilder(INSERT_VISITS_PREFIX.length() + events.size() * 14)
+                .append(INSERT_VISITS_PREFIX);
+        for (int i = 0; i < events.size(); i++) {
+            VisitEvent event = events.get(i);
+            sql.append(i == 0 ? "(?, ?, ?, ?)" : ", (?, ?, ?, ?)");
+            args.add(event.eventDateKst());
+            args.add(event.actorKey());
+            args.add(event.path());
+            args.add(event.occurredAt());
+        }
+        jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+}
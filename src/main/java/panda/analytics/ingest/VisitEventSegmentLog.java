@@ -0,0 +1,417 @@
+package panda.analytics.ingest;
+
+import jakarta.annotation.PreDestroy;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Append-only store for raw visits, used instead of daily_visit_events when
+ * {@code app.analytics.ingest.visit-sink=SEGMENT_LOG}.
+ *
+ * <p>Files are per KST day ({@code visits-yyyyMMdd-NNNNNN.seg}) and rotate by size. Each written batch
+ * becomes one frame: {@code [int length][int crc32][gzip payload]}, where the payload stores the batch
+ * column by column (dates, timestamps, then dictionary indexes for actor and path). A torn trailing
+ * frame is ignored on replay, and every process start opens fresh segments instead of appending to old ones.
+ * The sink is opt-in and, when enabled, needs an absolute {@code app.analytics.segment-log.directory} so the
+ * files do not follow the process working directory.
+ *
+ * <p>Segments are local to the instance, so the sink supports a single application instance only: rollups and
+ * live counts read nothing another instance wrote. {@link VisitEventSegmentLogLease} refuses to start a second
+ * instance with the sink enabled; scale out with the DATABASE sink instead.
+ */
+@Slf4j
+@Component
+public class VisitEventSegmentLog {
+
+    private static final int FORMAT_VERSION = 1;
+    private static final int FRAME_HEADER_BYTES = 8;
+    private static final DateTimeFormatter FILE_DATE_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final Pattern SEGMENT_NAME = Pattern.compile("^visits-(\\d{8})-(\\d{6})\\.seg$");
+
+    private final boolean enabled;
+    private final Path directory;
+    private final long maxSegmentBytes;
+    private final int maxOpenSegments;
+    private final Map<LocalDate, OpenSegment> openSegments = new LinkedHashMap<>();
+    private final Set<Path> ownSegments = ConcurrentHashMap.newKeySet();
+    private final ConcurrentMap<LocalDate, Long> previousRunCounts = new ConcurrentHashMap<>();
+    private final ConcurrentMap<LocalDate, LongAdder> appendedCounts = new ConcurrentHashMap<>();
+
+    public VisitEventSegmentLog(
+            @Value("${app.analytics.ingest.visit-sink:DATABASE}") VisitSink visitSink,
+            @Value("${app.analytics.segment-log.directory:}") String directory,
+            @Value("${app.analytics.segment-log.max-segment-bytes:67108864}") long maxSegmentBytes,
+            @Value("${app.analytics.segment-log.max-open-segments:2}") int maxOpenSegments
+    ) {
+        this.enabled = visitSink == VisitSink.SEGMENT_LOG;
+        this.directory = Path.of(directory);
+        if (enabled && (directory.isBlank() || !this.directory.isAbsolute())) {
+            throw new IllegalStateException(
+                    "app.analytics.segment-log.directory must be an absolute path when the segment sink is enabled: "
+                            + directory
+            );
+        }
+        this.maxSegmentBytes = maxSegmentBytes;
+        this.maxOpenSegments = maxOpenSegments;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public synchronized void append(List<VisitEvent> events) {
+        Map<LocalDate, List<VisitEvent>> eventsByDate = new TreeMap<>();
+        for (VisitEvent event : events) {
+            eventsByDate.computeIfAbsent(event.eventDateKst(), date -> new ArrayList<>()).add(event);
+        }
+
+        try {
+            for (Map.Entry<LocalDate, List<VisitEvent>> entry : eventsByDate.entrySet()) {
+                OpenSegment segment = segmentFor(entry.getKey());
+                writeFully(segment.channel(), encodeFrame(entry.getValue()));
+                appendedCounts.computeIfAbsent(entry.getKey(), date -> new LongAdder()).add(entry.getValue().size());
+                if (segment.channel().size() >= maxSegmentBytes) {
+                    closeSegment(entry.getKey());
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to append visit events to segment log", ex);
+        }
+    }
+
+    /**
+     * Streams every stored event of one KST day in write order.
+     */
+    public void replay(LocalDate date, Consumer<VisitEvent> consumer) {
+        for (Path segment : listSegments(date)) {
+            replaySegment(segment, consumer);
+        }
+    }
+
+    /**
+     * Number of stored events of one KST day: a counter of what this process appended plus the events of
+     * segments left by earlier runs. Those files never change again, so they are replayed once per day outside
+     * the append lock and the result is kept.
+     */
+    public long countEvents(LocalDate date) {
+        Long previous = previousRunCounts.get(date);
+        if (previous == null) {
+            long[] count = new long[1];
+            for (Path segment : listSegments(date)) {
+                if (!ownSegments.contains(segment)) {
+                    replaySegment(segment, event -> count[0]++);
+                }
+            }
+            previous = count[0];
+            previousRunCounts.putIfAbsent(date, previous);
+        }
+        LongAdder appended = appendedCounts.get(date);
+        return previous + (appended == null ? 0L : appended.sum());
+    }
+
+    public boolean hasSegments(LocalDate date) {
+        return !listSegments(date).isEmpty();
+    }
+
+    /**
+     * Deletes the segments of days before {@code cutoffDate}.
+     *
+     * @return number of deleted files
+     */
+    public synchronized int deleteBefore(LocalDate cutoffDate) {
+        previousRunCounts.keySet().removeIf(date -> date.isBefore(cutoffDate));
+        appendedCounts.keySet().removeIf(date -> date.isBefore(cutoffDate));
+        int deleted = 0;
+        Iterator<Map.Entry<LocalDate, OpenSegment>> iterator = openSegments.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<LocalDate, OpenSegment> entry = iterator.next();
+            if (entry.getKey().isBefore(cutoffDate)) {
+                closeQuietly(entry.getValue());
+                iterator.remove();
+            }
+        }
+        for (Path segment : listSegments(null)) {
+            LocalDate segmentDate = segmentDate(segment);
+            if (segmentDate != null && segmentDate.isBefore(cutoffDate)) {
+                try {
+                    Files.deleteIfExists(segment);
+                    ownSegments.remove(segment);
+                    deleted++;
+                } catch (IOException ex) {
+                    log.warn("Failed to delete visit segment {}", segment, ex);
+                }
+            }
+        }
+        return deleted;
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        for (OpenSegment segment : openSegments.values()) {
+            closeQuietly(segment);
+        }
+        openSegments.clear();
+    }
+
+    private OpenSegment segmentFor(LocalDate date) throws IOException {
+        OpenSegment segment = openSegments.get(date);
+        if (segment != null) {
+            return segment;
+        }
+
+        Files.createDirectories(directory);
+        int nextSequence = listSegments(date).stream()
+                .mapToInt(this::segmentSequence)
+                .max()
+                .orElse(0) + 1;
+        Path path = directory.resolve(
+                "visits-" + FILE_DATE_FORMAT.format(date) + "-" + String.format("%06d", nextSequence) + ".seg"
+        );
+        ownSegments.add(path);
+        segment = new OpenSegment(path, FileChannel.open(
+                path,
+                StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND
+        ));
+        openSegments.put(date, segment);
+
+        while (openSegments.size() > maxOpenSegments) {
+            LocalDate oldest = openSegments.keySet().stream()
+                    .filter(openDate -> !openDate.equals(date))
+                    .min(LocalDate::compareTo)
+                    .orElseThrow();
+            closeSegment(oldest);
+        }
+        return segment;
+    }
+
+    private void replaySegment(Path segment, Consumer<VisitEvent> consumer) {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            readFrames(segment, channel, consumer);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to replay segment " + segment, ex);
+        }
+    }
+
+    private void closeSegment(LocalDate date) {
+        OpenSegment segment = openSegments.remove(date);
+        if (segment != null) {
+            closeQuietly(segment);
+        }
+    }
+
+    private void closeQuietly(OpenSegment segment) {
+        try {
+            segment.channel().force(false);
+            segment.channel().close();
+        } catch (IOException ex) {
+            log.warn("Failed to close visit segment {}", segment.path(), ex);
+        }
+    }
+
+    private ByteBuffer encodeFrame(List<VisitEvent> events) throws IOException {
+        Map<String, Integer> dictionary = new HashMap<>();
+        List<String> entries = new ArrayList<>();
+        int[] actorIndexes = new int[events.size()];
+        int[] pathIndexes = new int[events.size()];
+        for (int i = 0; i < events.size(); i++) {
+            actorIndexes[i] = dictionaryIndex(dictionary, entries, events.get(i).actorKey());
+            pathIndexes[i] = dictionaryIndex(dictionary, entries, events.get(i).path());
+        }
+
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(compressed))) {
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(events.size());
+            out.writeInt(entries.size());
+            for (String entry : entries) {
+                out.writeUTF(entry);
+            }
+            for (VisitEvent event : events) {
+                out.writeLong(event.eventDateKst().toEpochDay());
+            }
+            for (VisitEvent event : events) {
+                out.writeLong(event.occurredAt().toEpochSecond(ZoneOffset.UTC));
+                out.writeInt(event.occurredAt().getNano());
+            }
+            for (int actorIndex : actorIndexes) {
+                out.writeInt(actorIndex);
+            }
+            for (int pathIndex : pathIndexes) {
+                out.writeInt(pathIndex);
+            }
+        }
+
+        byte[] payload = compressed.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        ByteBuffer frame = ByteBuffer.allocate(FRAME_HEADER_BYTES + payload.length);
+        frame.putInt(payload.length);
+        frame.putInt((int) crc.getValue());
+        frame.put(payload);
+        frame.flip();
+        return frame;
+    }
+
+    private int dictionaryIndex(Map<String, Integer> dictionary, List<String> entries, String value) {
+        if (value == null) {
+            return -1;
+        }
+        return dictionary.computeIfAbsent(value, key -> {
+            entries.add(key);
+            return entries.size() - 1;
+        });
+    }
+
+    private void readFrames(Path segment, FileChannel channel, Consumer<VisitEvent> consumer) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(FRAME_HEADER_BYTES);
+        while (true) {
+            header.clear();
+            if (!readFully(channel, header)) {
+                return;
+            }
+            header.flip();
+            int length = header.getInt();
+            int expectedCrc = header.getInt();
+            if (length <= 0 || length > channel.size() - channel.position()) {
+                log.warn("Ignoring torn frame at the end of visit segment {}", segment);
+                return;
+            }
+
+            ByteBuffer payload = ByteBuffer.allocate(length);
+            if (!readFully(channel, payload)) {
+                log.warn("Ignoring torn frame at the end of visit segment {}", segment);
+                return;
+            }
+            CRC32 crc = new CRC32();
+            crc.update(payload.array());
+            if ((int) crc.getValue() != expectedCrc) {
+                log.warn("Ignoring corrupt frame in visit segment {}", segment);
+                return;
+            }
+            decodeFrame(payload.array(), consumer);
+        }
+    }
+
+    private void decodeFrame(byte[] payload, Consumer<VisitEvent> consumer) throws IOException {
+        try (DataInputStream in = new DataInputStream(new GZIPInputStream(new ByteArrayInputStream(payload)))) {
+            int version = in.readInt();
+            if (version != FORMAT_VERSION) {
+                throw new IOException("Unsupported visit segment format: " + version);
+            }
+            int rows = in.readInt();
+            String[] entries = new String[in.readInt()];
+            for (int i = 0; i < entries.length; i++) {
+                entries[i] = in.readUTF();
+            }
+            long[] epochDays = new long[rows];
+            for (int i = 0; i < rows; i++) {
+                epochDays[i] = in.readLong();
+            }
+            LocalDateTime[] occurredAts = new LocalDateTime[rows];
+            for (int i = 0; i < rows; i++) {
+                occurredAts[i] = LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+            }
+            int[] actorIndexes = new int[rows];
+            for (int i = 0; i < rows; i++) {
+                actorIndexes[i] = in.readInt();
+            }
+            for (int i = 0; i < rows; i++) {
+                int pathIndex = in.readInt();
+                consumer.accept(new VisitEvent(
+                        LocalDate.ofEpochDay(epochDays[i]),
+                        entries[actorIndexes[i]],
+                        pathIndex < 0 ? null : entries[pathIndex],
+                        occurredAts[i]
+                ));
+            }
+        }
+    }
+
+    private boolean readFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private List<Path> listSegments(LocalDate date) {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        String glob = date == null ? "visits-*.seg" : "visits-" + FILE_DATE_FORMAT.format(date) + "-*.seg";
+        List<Path> segments = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, glob)) {
+            for (Path segment : stream) {
+                if (SEGMENT_NAME.matcher(segment.getFileName().toString()).matches()) {
+                    segments.add(segment);
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to list visit segments in " + directory, ex);
+        }
+        segments.sort(Path::compareTo);
+        return segments;
+    }
+
+    private LocalDate segmentDate(Path segment) {
+        Matcher matcher = SEGMENT_NAME.matcher(segment.getFileName().toString());
+        return matcher.matches() ? LocalDate.parse(matcher.group(1), FILE_DATE_FORMAT) : null;
+    }
+
+    private int segmentSequence(Path segment) {
+        Matcher matcher = SEGMENT_NAME.matcher(segment.getFileName().toString());
+        return matcher.matches() ? Integer.parseInt(matcher.group(2)) : 0;
+    }
+
+    private record OpenSegment(Path path, FileChannel channel) {
+    }
+
+    public enum VisitSink {
+        DATABASE,
+        SEGMENT_LOG
+    }
+}
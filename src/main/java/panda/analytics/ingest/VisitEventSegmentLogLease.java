@@ -0,0 +1,102 @@
+package panda.analytics.ingest;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Enforces the single-writer deployment {@link VisitEventSegmentLog} relies on: its files live on the local
+ * disk, so rollups and live counts only see the events of the instance that wrote them. When the segment sink
+ * is enabled the instance claims a Redis lease at startup and refuses to start while another instance holds
+ * it; the lease is renewed in the background and released on shutdown.
+ */
+@Slf4j
+@Component
+public class VisitEventSegmentLogLease {
+
+    static final String LEASE_KEY = "analytics:segment-log:owner";
+
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then "
+                    + "return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end",
+            Long.class
+    );
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class
+    );
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final boolean enabled;
+    private final Duration ttl;
+    private final String owner = UUID.randomUUID().toString();
+
+    public VisitEventSegmentLogLease(
+            StringRedisTemplate stringRedisTemplate,
+            VisitEventSegmentLog visitEventSegmentLog,
+            @Value("${app.analytics.segment-log.lease-ttl-ms:60000}") long ttlMs
+    ) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.enabled = visitEventSegmentLog.isEnabled();
+        this.ttl = Duration.ofMillis(ttlMs);
+    }
+
+    @PostConstruct
+    public void acquire() {
+        if (!enabled) {
+            return;
+        }
+        Boolean acquired = stringRedisTemplate.opsForValue().setIfAbsent(LEASE_KEY, owner, ttl);
+        if (!Boolean.TRUE.equals(acquired)) {
+            throw new IllegalStateException(
+                    "Another instance already writes visits to a segment log; the SEGMENT_LOG sink supports a "
+                            + "single instance only [holder=" + stringRedisTemplate.opsForValue().get(LEASE_KEY) + "]"
+            );
+        }
+        log.info("Acquired visit segment log lease [owner={}]", owner);
+    }
+
+    @Scheduled(fixedDelayString = "${app.analytics.segment-log.lease-renew-interval-ms:20000}")
+    public void renew() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Long renewed = stringRedisTemplate.execute(
+                    RENEW_SCRIPT,
+                    List.of(LEASE_KEY),
+                    owner,
+                    Long.toString(ttl.toMillis())
+            );
+            if (renewed == null || renewed == 0L) {
+                Boolean reacquired = stringRedisTemplate.opsForValue().setIfAbsent(LEASE_KEY, owner, ttl);
+                if (!Boolean.TRUE.equals(reacquired)) {
+                    log.error("Visit segment log lease is held by another instance; segment counts will be incomplete");
+                }
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Failed to renew visit segment log lease", ex);
+        }
+    }
+
+    @PreDestroy
+    public void release() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(LEASE_KEY), owner);
+        } catch (RuntimeException ex) {
+            log.warn("Failed to release visit segment log lease", ex);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package panda.analytics.retention;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable per-day activity bitmaps over dictionary-encoded actor ids, plus first-seen cohorts.
+ * Actors first seen before {@link #startDate()} are unknown to the snapshot, so the earliest cohorts
+ * may include returning actors; load a history longer than the reporting window.
+ */
+public class ActorActivityBitmaps {
+
+    private final LocalDate startDate;
+    private final long[][] activeWords;
+    private final long[][] cohortWords;
+    private final int actorCount;
+
+    private ActorActivityBitmaps(LocalDate startDate, long[][] activeWords, long[][] cohortWords, int actorCount) {
+        this.startDate = startDate;
+        this.activeWords = activeWords;
+        this.cohortWords = cohortWords;
+        this.actorCount = actorCount;
+    }
+
+    public static Builder builder(LocalDate startDate, LocalDate endDate) {
+        return new Builder(startDate, endDate);
+    }
+
+    public LocalDate startDate() {
+        return startDate;
+    }
+
+    public LocalDate endDate() {
+        return startDate.plusDays(activeWords.length - 1L);
+    }
+
+    public int actorCount() {
+        return actorCount;
+    }
+
+    public boolean covers(LocalDate date) {
+        int index = indexOf(date);
+        return index >= 0 && index < activeWords.length;
+    }
+
+    public int cohortSize(LocalDate cohortDate) {
+        return covers(cohortDate) ? cardinality(cohortWords[indexOf(cohortDate)]) : 0;
+    }
+
+    /**
+     * Number of actors first seen on {@code cohortDate} who were active again {@code offsetDays} later,
+     * or {@code null} when that day is outside the snapshot.
+     */
+    public Integer retained(LocalDate cohortDate, int offsetDays) {
+        LocalDate activeDate = cohortDate.plusDays(offsetDays);
+        if (!covers(cohortDate) || !covers(activeDate)) {
+            return null;
+        }
+        return intersectionCardinality(cohortWords[indexOf(cohortDate)], activeWords[indexOf(activeDate)]);
+    }
+
+    private int indexOf(LocalDate date) {
+        long index = ChronoUnit.DAYS.between(startDate, date);
+        return index < 0 || index > Integer.MAX_VALUE ? -1 : (int) index;
+    }
+
+    private static int cardinality(long[] words) {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    private static int intersectionCardinality(long[] left, long[] right) {
+        int count = 0;
+        int length = Math.min(left.length, right.length);
+        for (int i = 0; i < length; i++) {
+            count += Long.bitCount(left[i] & right[i]);
+        }
+        return count;
+    }
+
+    public static final class Builder {
+
+        private final LocalDate startDate;
+        private final BitSet[] days;
+        private final Map<String, Integer> actorIds = new HashMap<>();
+
+        private Builder(LocalDate startDate, LocalDate endDate) {
+            this.startDate = startDate;
+            this.days = new BitSet[(int) ChronoUnit.DAYS.between(startDate, endDate) + 1];
+            for (int i = 0; i < days.length; i++) {
+                days[i] = new BitSet();
+            }
+        }
+
+        public Builder add(LocalDate date, String actorKey) {
+            long index = ChronoUnit.DAYS.between(startDate, date);
+            if (index >= 0 && index < days.length) {
+                int actorId = actorIds.computeIfAbsent(actorKey, key -> actorIds.size());
+                days[(int) index].set(actorId);
+            }
+            return this;
+        }
+
+        public ActorActivityBitmaps build() {
+            long[][] activeWords = new long[days.length][];
+            long[][] cohortWords = new long[days.length][];
+            BitSet seenBefore = new BitSet(actorIds.size());
+            for (int i = 0; i < days.length; i++) {
+                BitSet cohort = (BitSet) days[i].clone();
+                cohort.andNot(seenBefore);
+                seenBefore.or(days[i]);
+                activeWords[i] = days[i].toLongArray();
+                cohortWords[i] = cohort.toLongArray();
+            }
+            return new ActorActivityBitmaps(startDate, activeWords, cohortWords, actorIds.size());
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package panda.analytics.retention;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import panda.analytics.dto.AdminCohortRetentionDto;
+import panda.analytics.dto.AdminCohortRetentionResponseDto;
+
+/**
+ * First-seen cohort retention computed from per-day actor bitmaps built off daily_actor_activity.
+ * Actor keys are dictionary-encoded to dense ints, so each day is a plain bitset and every matrix cell
+ * is a single AND + popcount over two word arrays.
+ */
+@Slf4j
+@Service
+public class CohortRetentionService {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final String SELECT_ACTIVITY_SQL = """
+            SELECT event_date_kst, actor_key
+              FROM daily_actor_activity
+             WHERE event_date_kst BETWEEN ? AND ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int historyDays;
+    private final int maxCohortDays;
+    private final int maxOffsetDays;
+
+    private volatile ActorActivityBitmaps snapshot;
+
+    public CohortRetentionService(
+            JdbcTemplate jdbcTemplate,
+            @Value("${app.analytics.cohort.history-days:150}") int historyDays,
+            @Value("${app.analytics.cohort.max-cohort-days:90}") int maxCohortDays,
+            @Value("${app.analytics.cohort.max-offset-days:90}") int maxOffsetDays
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.historyDays = historyDays;
+        this.maxCohortDays = maxCohortDays;
+        this.maxOffsetDays = maxOffsetDays;
+    }
+
+    /**
+     * Rebuilds the bitmaps over the last {@code history-days} closed days. Runs after the daily rollup so
+     * actors flushed shortly after midnight are included.
+     */
+    @Scheduled(cron = "${app.analytics.cohort.rebuild-cron:0 20 0 * * *}", zone = "Asia/Seoul")
+    public synchronized void rebuild() {
+        long startedAt = System.nanoTime();
+        LocalDate endDate = LocalDate.now(KST).minusDays(1);
+        LocalDate startDate = endDate.minusDays(Math.max(1, historyDays) - 1L);
+
+        ActorActivityBitmaps.Builder builder = ActorActivityBitmaps.builder(startDate, endDate);
+        jdbcTemplate.query(
+                SELECT_ACTIVITY_SQL,
+                (RowCallbackHandler) rs -> builder.add(rs.getObject(1, LocalDate.class), rs.getString(2)),
+                startDate,
+                endDate
+        );
+        snapshot = builder.build();
+        log.info(
+                "Rebuilt cohort retention bitmaps [startDate={}, endDate={}, actors={}, elapsedMs={}]",
+                startDate,
+                endDate,
+                snapshot.actorCount(),
+                (System.nanoTime() - startedAt) / 1_000_000
+        );
+    }
+
+    public AdminCohortRetentionResponseDto getRetention(LocalDate startDate, LocalDate endDate, List<Integer> offsets) {
+        if (ChronoUnit.DAYS.between(startDate, endDate) >= maxCohortDays) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "cohort range must not exceed " + maxCohortDays + " days"
+            );
+        }
+        for (Integer offset : offsets) {
+            if (offset == null || offset <= 0 || offset > maxOffsetDays) {
+                throw new ResponseStatusException(
+                        HttpStatus.BAD_REQUEST,
+                        "days must be between 1 and " + maxOffsetDays
+                );
+            }
+        }
+
+        ActorActivityBitmaps bitmaps = currentSnapshot();
+        List<AdminCohortRetentionDto> data = new ArrayList<>();
+        for (LocalDate cohortDate = startDate; !cohortDate.isAfter(endDate); cohortDate = cohortDate.plusDays(1)) {
+            int cohortSize = bitmaps.cohortSize(cohortDate);
+            List<Integer> retained = new ArrayList<>(offsets.size());
+            List<Double> rates = new ArrayList<>(offsets.size());
+            for (int offset : offsets) {
+                Integer count = cohortSize == 0 ? null : bitmaps.retained(cohortDate, offset);
+                retained.add(count);
+                rates.add(count == null ? null : (double) count / cohortSize);
+            }
+            data.add(new AdminCohortRetentionDto(cohortDate.toString(), cohortSize, retained, rates));
+        }
+        return new AdminCohortRetentionResponseDto(
+                startDate.toString(),
+                endDate.toString(),
+                bitmaps.startDate().toString(),
+                bitmaps.endDate().toString(),
+                List.copyOf(offsets),
+                data
+        );
+    }
+
+    public int getMaxCohortDays() {
+        return maxCohortDays;
+    }
+
+    private ActorActivityBitmaps currentSnapshot() {
+        ActorActivityBitmaps current = snapshot;
+        if (current != null && current.endDate().isEqual(LocalDate.now(KST).minusDays(1))) {
+            return current;
+        }
+        synchronized (this) {
+            if (snapshot == null || !snapshot.endDate().isEqual(LocalDate.now(KST).minusDays(1))) {
+                rebuild();
+            }
+            return snapshot;
+        }
+    }
+}
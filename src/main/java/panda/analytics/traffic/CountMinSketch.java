@@ -0,0 +1,48 @@
+package panda.analytics.traffic;
+
+/**
+ * Count-min sketch over pre-hashed keys. Estimates never undercount; overcount is bounded by
+ * roughly {@code total * e / width} with probability {@code 1 - e^-depth}.
+ */
+public class CountMinSketch {
+
+    private final int depth;
+    private final int mask;
+    private final int[] counters;
+
+    public CountMinSketch(int depth, int requestedWidth) {
+        int width = Integer.highestOneBit(Math.max(2, requestedWidth) - 1) << 1;
+        this.depth = depth;
+        this.mask = width - 1;
+        this.counters = new int[depth * width];
+    }
+
+    /**
+     * Conservative update: only the rows currently holding the minimum are raised.
+     */
+    public int addAndEstimate(long hash, int count) {
+        int estimate = estimate(hash);
+        int target = estimate + count;
+        int width = mask + 1;
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        for (int row = 0; row < depth; row++) {
+            int index = row * width + ((h1 + row * h2) & mask);
+            if (counters[index] < target) {
+                counters[index] = target;
+            }
+        }
+        return target;
+    }
+
+    public int estimate(long hash) {
+        int width = mask + 1;
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        int min = Integer.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, counters[row * width + ((h1 + row * h2) & mask)]);
+        }
+        return min;
+    }
+}
@@ -0,0 +1,74 @@
+package panda.analytics.traffic;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import panda.common.Hashing;
+
+/**
+ * Streaming top-N: a count-min sketch estimates every key, and only the current heaviest
+ * {@code capacity} keys are kept by name. Not thread-safe.
+ */
+public class HeavyHitters {
+
+    private final CountMinSketch sketch;
+    private final int capacity;
+    private final Map<String, Integer> candidates;
+    private String minKey;
+    private int minCount;
+
+    public HeavyHitters(int capacity, int sketchDepth, int sketchWidth) {
+        this.sketch = new CountMinSketch(sketchDepth, sketchWidth);
+        this.capacity = capacity;
+        this.candidates = new HashMap<>(capacity * 2);
+    }
+
+    public void add(String key) {
+        int estimate = sketch.addAndEstimate(Hashing.fingerprint64(key), 1);
+        if (candidates.containsKey(key)) {
+            candidates.put(key, estimate);
+            if (key.equals(minKey)) {
+                recomputeMin();
+            }
+            return;
+        }
+        if (candidates.size() < capacity) {
+            candidates.put(key, estimate);
+            if (minKey == null || estimate < minCount) {
+                minKey = key;
+                minCount = estimate;
+            }
+            return;
+        }
+        if (estimate > minCount) {
+            candidates.remove(minKey);
+            candidates.put(key, estimate);
+            recomputeMin();
+        }
+    }
+
+    public List<Item> top(int limit) {
+        List<Item> items = new ArrayList<>(candidates.size());
+        for (Map.Entry<String, Integer> entry : candidates.entrySet()) {
+            items.add(new Item(entry.getKey(), entry.getValue()));
+        }
+        items.sort(Comparator.comparingLong(Item::count).reversed().thenComparing(Item::key));
+        return items.size() <= limit ? items : List.copyOf(items.subList(0, limit));
+    }
+
+    private void recomputeMin() {
+        minKey = null;
+        minCount = Integer.MAX_VALUE;
+        for (Map.Entry<String, Integer> entry : candidates.entrySet()) {
+            if (entry.getValue() < minCount) {
+                minKey = entry.getKey();
+                minCount = entry.getValue();
+            }
+        }
+    }
+
+    public record Item(String key, long count) {
+    }
+}
@@ -0,0 +1,141 @@
+package panda.analytics.traffic;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import panda.analytics.ingest.VisitEvent;
+
+/**
+ * Per-hour and per-day heavy hitters for request paths and listing ids, kept in fixed rings
+ * so memory stays bounded regardless of traffic.
+ */
+@Component
+public class TrafficAggregator {
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(2000, 1, 1, 0, 0);
+    private static final Pattern NUMERIC_SEGMENT = Pattern.compile("/\\d+(?=/|$)");
+    private static final Pattern LISTING_PATH = Pattern.compile("^/api/v1/listings/(\\d+)(?:/.*)?$");
+
+    private final Bucket[] hourlyBuckets;
+    private final Bucket[] dailyBuckets;
+    private final int capacity;
+    private final int sketchDepth;
+    private final int sketchWidth;
+
+    public TrafficAggregator(
+            @Value("${app.analytics.traffic.retention-hours:48}") int retentionHours,
+            @Value("${app.analytics.traffic.retention-days:7}") int retentionDays,
+            @Value("${app.analytics.traffic.capacity:100}") int capacity,
+            @Value("${app.analytics.traffic.sketch-depth:4}") int sketchDepth,
+            @Value("${app.analytics.traffic.sketch-width:2048}") int sketchWidth
+    ) {
+        this.hourlyBuckets = new Bucket[retentionHours];
+        this.dailyBuckets = new Bucket[retentionDays];
+        this.capacity = capacity;
+        this.sketchDepth = sketchDepth;
+        this.sketchWidth = sketchWidth;
+    }
+
+    public synchronized void record(List<VisitEvent> events) {
+        for (VisitEvent event : events) {
+            record(event.path(), event.occurredAt());
+        }
+    }
+
+    /**
+     * Counts one request. Only the ingestion writer thread records, including the traffic-only events of the
+     * listing view beacon, so request threads never wait on this monitor.
+     */
+    public synchronized void record(String path, LocalDateTime occurredAtKst) {
+        if (path == null || path.isBlank()) {
+            return;
+        }
+        Bucket hourly = bucketForWrite(hourlyBuckets, ChronoUnit.HOURS.between(EPOCH, occurredAtKst));
+        Bucket daily = bucketForWrite(dailyBuckets, ChronoUnit.DAYS.between(EPOCH.toLocalDate(), occurredAtKst.toLocalDate()));
+
+        String normalizedPath = normalizePath(path);
+        Matcher listingMatcher = LISTING_PATH.matcher(path);
+        String listingId = listingMatcher.matches() ? listingMatcher.group(1) : null;
+        add(hourly, normalizedPath, listingId);
+        add(daily, normalizedPath, listingId);
+    }
+
+    /**
+     * Replaces numeric path segments with {@code {id}} so per-entity URLs share one key.
+     */
+    public static String normalizePath(String path) {
+        return NUMERIC_SEGMENT.matcher(path).replaceAll("/{id}");
+    }
+
+    private void add(Bucket bucket, String normalizedPath, String listingId) {
+        if (bucket == null) {
+            return;
+        }
+        bucket.paths.add(normalizedPath);
+        if (listingId != null) {
+            bucket.listings.add(listingId);
+        }
+    }
+
+    /**
+     * @param hour KST hour of day, or {@code null} for the whole day
+     */
+    public synchronized List<HeavyHitters.Item> topPaths(LocalDate date, Integer hour, int limit) {
+        Bucket bucket = bucketForRead(date, hour);
+        return bucket == null ? List.of() : bucket.paths.top(limit);
+    }
+
+    public synchronized List<HeavyHitters.Item> topListings(LocalDate date, Integer hour, int limit) {
+        Bucket bucket = bucketForRead(date, hour);
+        return bucket == null ? List.of() : bucket.listings.top(limit);
+    }
+
+    private Bucket bucketForRead(LocalDate date, Integer hour) {
+        if (hour == null) {
+            long day = ChronoUnit.DAYS.between(EPOCH.toLocalDate(), date);
+            Bucket bucket = dailyBuckets[ringIndex(day, dailyBuckets.length)];
+            return bucket != null && bucket.slot == day ? bucket : null;
+        }
+        long hourSlot = ChronoUnit.HOURS.between(EPOCH, date.atTime(hour, 0));
+        Bucket bucket = hourlyBuckets[ringIndex(hourSlot, hourlyBuckets.length)];
+        return bucket != null && bucket.slot == hourSlot ? bucket : null;
+    }
+
+    /**
+     * Returns {@code null} when the slot has already been overwritten by a newer period.
+     */
+    private Bucket bucketForWrite(Bucket[] ring, long slot) {
+        int index = ringIndex(slot, ring.length);
+        Bucket bucket = ring[index];
+        if (bucket != null && bucket.slot > slot) {
+            return null;
+        }
+        if (bucket == null || bucket.slot < slot) {
+            bucket = new Bucket(slot, capacity, sketchDepth, sketchWidth);
+            ring[index] = bucket;
+        }
+        return bucket;
+    }
+
+    private int ringIndex(long slot, int length) {
+        return (int) Math.floorMod(slot, (long) length);
+    }
+
+    private static final class Bucket {
+
+        private final long slot;
+        private final HeavyHitters paths;
+        private final HeavyHitters listings;
+
+        private Bucket(long slot, int capacity, int sketchDepth, int sketchWidth) {
+            this.slot = slot;
+            this.paths = new HeavyHitters(capacity, sketchDepth, sketchWidth);
+            this.listings = new HeavyHitters(capacity, sketchDepth, sketchWidth);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package panda.analytics.traffic;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import panda.analytics.ingest.VisitEvent;
+
+/**
+ * {@code analytics.visits} counters tagged by normalized path. Fed from the ingestion writer thread,
+ * so request threads never touch the registry; the number of distinct path tags is capped.
+ */
+@Component
+public class VisitMeters {
+
+    private static final String OTHER_PATH = "other";
+
+    private final MeterRegistry meterRegistry;
+    private final int maxPaths;
+    private final ConcurrentMap<String, Counter> countersByPath = new ConcurrentHashMap<>();
+
+    public VisitMeters(
+            MeterRegistry meterRegistry,
+            @Value("${app.analytics.metrics.max-path-tags:200}") int maxPaths
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.maxPaths = maxPaths;
+    }
+
+    public void record(List<VisitEvent> events) {
+        for (VisitEvent event : events) {
+            String path = event.path() == null ? OTHER_PATH : TrafficAggregator.normalizePath(event.path());
+            counterFor(path).increment();
+        }
+    }
+
+    private Counter counterFor(String path) {
+        Counter counter = countersByPath.get(path);
+        if (counter != null) {
+            return counter;
+        }
+        String tag = countersByPath.size() < maxPaths ? path : OTHER_PATH;
+        return countersByPath.computeIfAbsent(tag, key -> Counter.builder("analytics.visits")
+                .description("Visits recorded by the analytics pipeline")
+                .tag("path", key)
+                .register(meterRegistry));
+    }
+}
@@ -0,0 +1,34 @@
+package panda.common;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Evenly spaced permits shared by any number of threads. Each caller reserves the next free slot
+ * under the lock and sleeps outside it, so waiting callers do not serialize on the monitor.
+ */
+public class BlockingRateLimiter {
+
+    private final long intervalNanos;
+    private long nextFreeNanos;
+
+    public BlockingRateLimiter(double permitsPerSecond) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond must be greater than 0");
+        }
+        this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+        this.nextFreeNanos = System.nanoTime();
+    }
+
+    public void acquire() throws InterruptedException {
+        long waitNanos = reserve(System.nanoTime());
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    synchronized long reserve(long nowNanos) {
+        long slot = Math.max(nextFreeNanos, nowNanos);
+        nextFreeNanos = slot + intervalNanos;
+        return slot - nowNanos;
+    }
+}
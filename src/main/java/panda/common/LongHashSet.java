@@ -0,0 +1,90 @@
+package panda.common;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing set of primitive longs kept at most half full, i.e. 16-32 bytes per entry.
+ * Not thread-safe.
+ */
+public class LongHashSet {
+
+    private static final long EMPTY = 0L;
+
+    private long[] slots;
+    private int size;
+    private boolean containsZero;
+
+    public LongHashSet(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, expectedSize * 2 - 1)) << 1;
+        this.slots = new long[capacity];
+    }
+
+    public boolean contains(long key) {
+        if (key == EMPTY) {
+            return containsZero;
+        }
+        int mask = slots.length - 1;
+        for (int index = mix(key) & mask; ; index = (index + 1) & mask) {
+            long slot = slots[index];
+            if (slot == EMPTY) {
+                return false;
+            }
+            if (slot == key) {
+                return true;
+            }
+        }
+    }
+
+    public boolean add(long key) {
+        if (key == EMPTY) {
+            boolean added = !containsZero;
+            containsZero = true;
+            return added;
+        }
+        if ((size + 1) * 2 > slots.length) {
+            resize(slots.length * 2);
+        }
+        return insert(slots, key);
+    }
+
+    public int size() {
+        return containsZero ? size + 1 : size;
+    }
+
+    public void clear() {
+        Arrays.fill(slots, EMPTY);
+        size = 0;
+        containsZero = false;
+    }
+
+    private boolean insert(long[] table, long key) {
+        int mask = table.length - 1;
+        for (int index = mix(key) & mask; ; index = (index + 1) & mask) {
+            long slot = table[index];
+            if (slot == key) {
+                return false;
+            }
+            if (slot == EMPTY) {
+                table[index] = key;
+                size++;
+                return true;
+            }
+        }
+    }
+
+    private void resize(int capacity) {
+        long[] previous = slots;
+        slots = new long[capacity];
+        size = 0;
+        for (long key : previous) {
+            if (key != EMPTY) {
+                insert(slots, key);
+            }
+        }
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -3,14 +3,38 @@ package panda.common;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Scope;
 import org.springframework.web.client.RestClient;
+import panda.common.http.OutboundHttpClientFactory;
 
+/**
+ * One {@link RestClient.Builder} per upstream, each with its own connection pool, timeouts, bulkhead
+ * and circuit breaker ({@code app.http.<upstream>.*}). Prototype scope keeps builder customizations
+ * local to the injecting bean.
+ */
 @Configuration
 public class RestClientConfig {
 
+    public static final String NCP = "ncp";
+    public static final String BUILDING_LEDGER = "building-ledger";
+    public static final String SLACK = "slack";
+
+    @Bean
+    @Scope("prototype")
+    public RestClient.Builder ncpRestClientBuilder(OutboundHttpClientFactory outboundHttpClientFactory) {
+        return outboundHttpClientFactory.builder(NCP);
+    }
+
+    @Bean
+    @Scope("prototype")
+    public RestClient.Builder buildingLedgerRestClientBuilder(OutboundHttpClientFactory outboundHttpClientFactory) {
+        return outboundHttpClientFactory.builder(BUILDING_LEDGER);
+    }
+
     @Bean
-    public RestClient.Builder restClientBuilder() {
-        return RestClient.builder();
+    @Scope("prototype")
+    public RestClient.Builder slackRestClientBuilder(OutboundHttpClientFactory outboundHttpClientFactory) {
+        return outboundHttpClientFactory.builder(SLACK);
     }
 
     @Bean
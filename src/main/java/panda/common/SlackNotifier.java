@@ -8,6 +8,7 @@ import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
 import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
@@ -26,7 +27,7 @@ public class SlackNotifier {
     private final String webhookUrl;
 
     public SlackNotifier(
-            RestClient.Builder restClientBuilder,
+            @Qualifier("slackRestClientBuilder") RestClient.Builder restClientBuilder,
             @Value("${app.alert.slack.enabled:false}") boolean enabled,
             @Value("${app.alert.slack.webhook-url:}") String webhookUrl
     ) {
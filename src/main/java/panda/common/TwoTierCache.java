@@ -0,0 +1,124 @@
+package panda.common;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * Read-through cache with an in-process {@link ExpiringLruCache} in front of Redis JSON values.
+ * Concurrent misses for the same key share one loader call. Redis errors are logged and treated as
+ * misses; loader failures, including errors, are propagated to every waiting caller and never cached.
+ */
+@Slf4j
+public class TwoTierCache<V> {
+
+    private final String keyPrefix;
+    private final Class<V> valueType;
+    private final ExpiringLruCache<String, V> memoryCache;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration redisTtl;
+    private final ConcurrentMap<String, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    public TwoTierCache(
+            String keyPrefix,
+            Class<V> valueType,
+            int memoryMaxSize,
+            Duration memoryTtl,
+            StringRedisTemplate stringRedisTemplate,
+            ObjectMapper objectMapper,
+            Duration redisTtl
+    ) {
+        this.keyPrefix = keyPrefix;
+        this.valueType = valueType;
+        this.memoryCache = new ExpiringLruCache<>(memoryMaxSize, memoryTtl);
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.redisTtl = redisTtl;
+    }
+
+    public V get(String key, Supplier<V> loader) {
+        V cached = memoryCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        CompletableFuture<V> pending = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, pending);
+        if (existing != null) {
+            return await(existing);
+        }
+        try {
+            V value = load(key, loader);
+            pending.complete(value);
+            return value;
+        } catch (Throwable ex) {
+            // Errors too: waiters already holding the future would otherwise block forever.
+            pending.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, pending);
+        }
+    }
+
+    public void invalidate(String key) {
+        memoryCache.invalidate(key);
+        try {
+            stringRedisTemplate.delete(keyPrefix + key);
+        } catch (RuntimeException ex) {
+            log.warn("Failed to delete cached value [key={}]", keyPrefix + key, ex);
+        }
+    }
+
+    private V load(String key, Supplier<V> loader) {
+        V persisted = readRedis(key);
+        if (persisted != null) {
+            memoryCache.put(key, persisted);
+            return persisted;
+        }
+        V loaded = loader.get();
+        if (loaded != null) {
+            memoryCache.put(key, loaded);
+            writeRedis(key, loaded);
+        }
+        return loaded;
+    }
+
+    private V readRedis(String key) {
+        try {
+            String json = stringRedisTemplate.opsForValue().get(keyPrefix + key);
+            return json == null ? null : objectMapper.readValue(json, valueType);
+        } catch (Exception ex) {
+            log.warn("Failed to read cached value [key={}]", keyPrefix + key, ex);
+            return null;
+        }
+    }
+
+    private void writeRedis(String key, V value) {
+        try {
+            stringRedisTemplate.opsForValue().set(keyPrefix + key, objectMapper.writeValueAsString(value), redisTtl);
+        } catch (Exception ex) {
+            log.warn("Failed to write cached value [key={}]", keyPrefix + key, ex);
+        }
+    }
+
+    private V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package panda.common.http;
+
+/**
+ * Count-based circuit breaker. Opens when at least {@code failureRateThreshold} of the last
+ * {@code windowSize} calls failed (once {@code minimumCalls} have been seen), rejects calls while open,
+ * then lets a single probe through; the probe's outcome closes or re-opens the circuit.
+ */
+public class CircuitBreaker {
+
+    private final boolean[] outcomes;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openNanos;
+
+    private State state = State.CLOSED;
+    private int index;
+    private int count;
+    private int failures;
+    private long openedAtNanos;
+    private boolean probeInFlight;
+
+    public CircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold, long openNanos) {
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("windowSize must be greater than 0");
+        }
+        this.outcomes = new boolean[windowSize];
+        this.minimumCalls = Math.max(1, Math.min(minimumCalls, windowSize));
+        this.failureRateThreshold = failureRateThreshold;
+        this.openNanos = openNanos;
+    }
+
+    public synchronized boolean tryAcquire(long nowNanos) {
+        return switch (state) {
+            case CLOSED -> true;
+            case OPEN -> {
+                if (nowNanos - openedAtNanos < openNanos) {
+                    yield false;
+                }
+                state = State.HALF_OPEN;
+                probeInFlight = true;
+                yield true;
+            }
+            case HALF_OPEN -> {
+                if (probeInFlight) {
+                    yield false;
+                }
+                probeInFlight = true;
+                yield true;
+            }
+        };
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            state = State.CLOSED;
+            clearWindow();
+        } else if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    public synchronized void onFailure(long nowNanos) {
+        if (state == State.HALF_OPEN) {
+            open(nowNanos);
+        } else if (state == State.CLOSED) {
+            record(true);
+            if (count >= minimumCalls && failures >= failureRateThreshold * count) {
+                open(nowNanos);
+            }
+        }
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+
+    private void record(boolean failure) {
+        if (count == outcomes.length) {
+            if (outcomes[index]) {
+                failures--;
+            }
+        } else {
+            count++;
+        }
+        outcomes[index] = failure;
+        if (failure) {
+            failures++;
+        }
+        index = (index + 1) % outcomes.length;
+    }
+
+    private void open(long nowNanos) {
+        state = State.OPEN;
+        openedAtNanos = nowNanos;
+        probeInFlight = false;
+        clearWindow();
+    }
+
+    private void clearWindow() {
+        index = 0;
+        count = 0;
+        failures = 0;
+        probeInFlight = false;
+    }
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+}
@@ -0,0 +1,67 @@
+package panda.common.http;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.net.http.HttpClient;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+/**
+ * Builds {@link RestClient.Builder}s that share one pooled JDK {@link HttpClient} and one
+ * {@link ResilientHttpInterceptor} per upstream name. The JDK client keeps idle HTTP/1.1 connections
+ * alive per host (or multiplexes over HTTP/2 when configured), so each upstream gets its own pool.
+ */
+@Component
+public class OutboundHttpClientFactory {
+
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, Upstream> upstreams = new ConcurrentHashMap<>();
+
+    public OutboundHttpClientFactory(Environment environment, MeterRegistry meterRegistry) {
+        this.environment = environment;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * A new builder on every call, so callers may set a base URL or default headers without
+     * affecting other users of the same upstream.
+     */
+    public RestClient.Builder builder(String upstream) {
+        Upstream resolved = upstreams.computeIfAbsent(upstream, this::create);
+        return RestClient.builder()
+                .requestFactory(resolved.requestFactory())
+                .requestInterceptor(resolved.interceptor());
+    }
+
+    private Upstream create(String upstream) {
+        UpstreamSettings settings = UpstreamSettings.from(environment, upstream);
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(settings.httpVersion())
+                .connectTimeout(settings.connectTimeout())
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(settings.readTimeout());
+
+        ResilientHttpInterceptor interceptor = new ResilientHttpInterceptor(upstream, settings, meterRegistry);
+        Gauge.builder("http.client.upstream.circuit.open", interceptor,
+                        value -> value.circuitState() == CircuitBreaker.State.CLOSED ? 0 : 1)
+                .tag("upstream", upstream)
+                .description("1 while the upstream circuit is open or half-open")
+                .register(meterRegistry);
+        Gauge.builder("http.client.upstream.bulkhead.available", interceptor, ResilientHttpInterceptor::availableCalls)
+                .tag("upstream", upstream)
+                .register(meterRegistry);
+        return new Upstream(requestFactory, interceptor);
+    }
+
+    private record Upstream(JdkClientHttpRequestFactory requestFactory, ResilientHttpInterceptor interceptor) {
+    }
+}
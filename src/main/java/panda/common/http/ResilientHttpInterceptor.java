@@ -0,0 +1,192 @@
+package panda.common.http;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Bulkhead, circuit breaker, retry and latency histogram for one upstream. Only idempotent methods are
+ * retried, on I/O errors, 5xx and 429. The bulkhead bounds concurrent exchanges up to the point the
+ * response headers arrive; body reads happen after the permit is released.
+ */
+public class ResilientHttpInterceptor implements ClientHttpRequestInterceptor {
+
+    private final String upstream;
+    private final UpstreamSettings settings;
+    private final Semaphore bulkhead;
+    private final CircuitBreaker circuitBreaker;
+    private final MeterRegistry meterRegistry;
+    private final Counter retryCounter;
+    private final ConcurrentMap<HttpMethod, Timer[]> timersByMethod = new ConcurrentHashMap<>();
+
+    public ResilientHttpInterceptor(String upstream, UpstreamSettings settings, MeterRegistry meterRegistry) {
+        this.upstream = upstream;
+        this.settings = settings;
+        this.bulkhead = new Semaphore(Math.max(1, settings.maxConcurrentCalls()));
+        this.circuitBreaker = new CircuitBreaker(
+                settings.circuitWindowSize(),
+                settings.circuitMinimumCalls(),
+                settings.circuitFailureRateThreshold(),
+                settings.circuitOpenDuration().toNanos()
+        );
+        this.meterRegistry = meterRegistry;
+        this.retryCounter = Counter.builder("http.client.upstream.retries")
+                .tag("upstream", upstream)
+                .register(meterRegistry);
+        timersFor(HttpMethod.GET);
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        long startedAt = System.nanoTime();
+        if (!acquireBulkhead()) {
+            record(request, Outcome.REJECTED_BULKHEAD, startedAt);
+            throw new UpstreamRejectedException("Too many concurrent calls to upstream: " + upstream);
+        }
+        try {
+            int maxAttempts = isIdempotent(request.getMethod()) ? Math.max(1, settings.maxAttempts()) : 1;
+            for (int attempt = 1; ; attempt++) {
+                if (!circuitBreaker.tryAcquire(System.nanoTime())) {
+                    record(request, Outcome.REJECTED_CIRCUIT, startedAt);
+                    throw new UpstreamRejectedException("Circuit open for upstream: " + upstream);
+                }
+
+                ClientHttpResponse response;
+                int status;
+                try {
+                    response = execution.execute(request, body);
+                    status = response.getStatusCode().value();
+                } catch (IOException ex) {
+                    circuitBreaker.onFailure(System.nanoTime());
+                    if (attempt >= maxAttempts) {
+                        record(request, Outcome.IO_ERROR, startedAt);
+                        throw ex;
+                    }
+                    backoff(attempt);
+                    continue;
+                } catch (RuntimeException | Error ex) {
+                    // Not retried, but still settles a HALF_OPEN probe so the breaker cannot stay stuck.
+                    circuitBreaker.onFailure(System.nanoTime());
+                    record(request, Outcome.IO_ERROR, startedAt);
+                    throw ex;
+                }
+
+                if (status >= 500 || status == 429) {
+                    circuitBreaker.onFailure(System.nanoTime());
+                    if (attempt < maxAttempts) {
+                        response.close();
+                        backoff(attempt);
+                        continue;
+                    }
+                } else {
+                    circuitBreaker.onSuccess();
+                }
+                record(request, Outcome.ofStatus(status), startedAt);
+                return response;
+            }
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    public CircuitBreaker.State circuitState() {
+        return circuitBreaker.state();
+    }
+
+    public int availableCalls() {
+        return bulkhead.availablePermits();
+    }
+
+    private boolean acquireBulkhead() throws InterruptedIOException {
+        try {
+            return bulkhead.tryAcquire(settings.maxWait().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for upstream: " + upstream);
+        }
+    }
+
+    private void backoff(int attempt) throws InterruptedIOException {
+        retryCounter.increment();
+        long baseMillis = settings.retryBackoff().toMillis() << (attempt - 1);
+        long sleepMillis = baseMillis + ThreadLocalRandom.current().nextLong(baseMillis / 2 + 1);
+        try {
+            Thread.sleep(sleepMillis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while retrying upstream: " + upstream);
+        }
+    }
+
+    private boolean isIdempotent(HttpMethod method) {
+        return HttpMethod.GET.equals(method)
+                || HttpMethod.HEAD.equals(method)
+                || HttpMethod.OPTIONS.equals(method)
+                || HttpMethod.PUT.equals(method)
+                || HttpMethod.DELETE.equals(method);
+    }
+
+    private void record(HttpRequest request, Outcome outcome, long startedAt) {
+        timersFor(request.getMethod())[outcome.ordinal()].record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    // GET is registered up front; any other method gets its full outcome set on first use.
+    private Timer[] timersFor(HttpMethod method) {
+        Timer[] timers = timersByMethod.get(method);
+        if (timers != null) {
+            return timers;
+        }
+        return timersByMethod.computeIfAbsent(method, this::registerTimers);
+    }
+
+    private Timer[] registerTimers(HttpMethod method) {
+        Outcome[] outcomes = Outcome.values();
+        Timer[] timers = new Timer[outcomes.length];
+        for (Outcome outcome : outcomes) {
+            timers[outcome.ordinal()] = Timer.builder("http.client.upstream.requests")
+                    .tag("upstream", upstream)
+                    .tag("method", method.name())
+                    .tag("outcome", outcome.tag)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+        }
+        return timers;
+    }
+
+    private enum Outcome {
+        STATUS_1XX("1xx"),
+        STATUS_2XX("2xx"),
+        STATUS_3XX("3xx"),
+        STATUS_4XX("4xx"),
+        STATUS_5XX("5xx"),
+        IO_ERROR("io_error"),
+        REJECTED_BULKHEAD("rejected_bulkhead"),
+        REJECTED_CIRCUIT("rejected_circuit");
+
+        private static final Outcome[] STATUS_CLASSES = {STATUS_1XX, STATUS_2XX, STATUS_3XX, STATUS_4XX, STATUS_5XX};
+
+        private final String tag;
+
+        Outcome(String tag) {
+            this.tag = tag;
+        }
+
+        static Outcome ofStatus(int status) {
+            int statusClass = Math.clamp(status / 100, 1, 5);
+            return STATUS_CLASSES[statusClass - 1];
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package panda.common.http;
+
+import java.io.IOException;
+
+/**
+ * Thrown before any I/O when the bulkhead is full or the circuit is open. As an {@link IOException}
+ * it reaches callers as a {@code ResourceAccessException}, like any other connection failure.
+ */
+public class UpstreamRejectedException extends IOException {
+
+    public UpstreamRejectedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,49 @@
+package panda.common.http;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Per-upstream client settings read from {@code app.http.<upstream>.*}, falling back to
+ * {@code app.http.default.*} and then to the built-in defaults.
+ */
+public record UpstreamSettings(
+        Duration connectTimeout,
+        Duration readTimeout,
+        HttpClient.Version httpVersion,
+        int maxConcurrentCalls,
+        Duration maxWait,
+        int maxAttempts,
+        Duration retryBackoff,
+        int circuitWindowSize,
+        int circuitMinimumCalls,
+        double circuitFailureRateThreshold,
+        Duration circuitOpenDuration
+) {
+
+    public static UpstreamSettings from(Environment environment, String upstream) {
+        Resolver resolver = new Resolver(environment, upstream);
+        return new UpstreamSettings(
+                Duration.ofMillis(resolver.get("connect-timeout-ms", Long.class, 2_000L)),
+                Duration.ofMillis(resolver.get("read-timeout-ms", Long.class, 5_000L)),
+                resolver.get("http-version", HttpClient.Version.class, HttpClient.Version.HTTP_1_1),
+                resolver.get("max-concurrent-calls", Integer.class, 20),
+                Duration.ofMillis(resolver.get("max-wait-ms", Long.class, 100L)),
+                resolver.get("max-attempts", Integer.class, 2),
+                Duration.ofMillis(resolver.get("retry-backoff-ms", Long.class, 200L)),
+                resolver.get("circuit.window-size", Integer.class, 20),
+                resolver.get("circuit.minimum-calls", Integer.class, 10),
+                resolver.get("circuit.failure-rate-threshold", Double.class, 0.5),
+                Duration.ofMillis(resolver.get("circuit.open-ms", Long.class, 30_000L))
+        );
+    }
+
+    private record Resolver(Environment environment, String upstream) {
+
+        <T> T get(String key, Class<T> type, T defaultValue) {
+            T fallback = environment.getProperty("app.http.default." + key, type, defaultValue);
+            return environment.getProperty("app.http." + upstream + "." + key, type, fallback);
+        }
+    }
+}
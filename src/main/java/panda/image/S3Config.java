@@ -1,5 +1,6 @@
 package panda.image;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -18,11 +19,13 @@ public class S3Config {
             @Value("${app.image.s3.region:ap-northeast-2}") String region,
             @Value("${app.image.s3.credentials.access-key:}") String accessKey,
             @Value("${app.image.s3.credentials.secret-key:}") String secretKey,
-            @Value("${app.image.s3.credentials.session-token:}") String sessionToken
+            @Value("${app.image.s3.credentials.session-token:}") String sessionToken,
+            MeterRegistry meterRegistry
     ) {
         return S3Client.builder()
                 .region(Region.of(region))
                 .credentialsProvider(buildCredentialsProvider(accessKey, secretKey, sessionToken))
+                .overrideConfiguration(config -> config.addExecutionInterceptor(new S3MetricsInterceptor(meterRegistry)))
                 .build();
     }
 
@@ -0,0 +1,80 @@
+package panda.image;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+
+/**
+ * Records {@code s3.client.requests} latency per operation and outcome, retries included.
+ */
+public class S3MetricsInterceptor implements ExecutionInterceptor {
+
+    private static final ExecutionAttribute<Long> STARTED_AT = new ExecutionAttribute<>("panda.s3.startedAt");
+    private static final String UNKNOWN_OPERATION = "unknown";
+    private static final List<String> KNOWN_OPERATIONS = List.of("DeleteObject", "PutObject", "GetObject", "HeadObject");
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, OutcomeTimers> timersByOperation = new ConcurrentHashMap<>();
+
+    public S3MetricsInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        timersFor(UNKNOWN_OPERATION);
+        KNOWN_OPERATIONS.forEach(this::timersFor);
+    }
+
+    @Override
+    public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes executionAttributes) {
+        executionAttributes.putAttribute(STARTED_AT, System.nanoTime());
+    }
+
+    @Override
+    public void afterExecution(Context.AfterExecution context, ExecutionAttributes executionAttributes) {
+        Long startedAt = executionAttributes.getAttribute(STARTED_AT);
+        if (startedAt != null) {
+            timersFor(executionAttributes).success().record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void onExecutionFailure(Context.FailedExecution context, ExecutionAttributes executionAttributes) {
+        Long startedAt = executionAttributes.getAttribute(STARTED_AT);
+        if (startedAt != null) {
+            timersFor(executionAttributes).failure().record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private OutcomeTimers timersFor(ExecutionAttributes executionAttributes) {
+        String operation = executionAttributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME);
+        return timersFor(operation == null ? UNKNOWN_OPERATION : operation);
+    }
+
+    // Operations the app calls are registered up front; any other SDK operation is registered once on first use.
+    private OutcomeTimers timersFor(String operation) {
+        OutcomeTimers timers = timersByOperation.get(operation);
+        if (timers != null) {
+            return timers;
+        }
+        return timersByOperation.computeIfAbsent(operation, key -> new OutcomeTimers(
+                register(key, "success"),
+                register(key, "failure")
+        ));
+    }
+
+    private Timer register(String operation, String outcome) {
+        return Timer.builder("s3.client.requests")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private record OutcomeTimers(Timer success, Timer failure) {
+    }
+}
@@ -0,0 +1,41 @@
+package panda.listing;
+
+/**
+ * Parcel identifier used by the building ledger API, normalized to the API's fixed-width codes
+ * (5-digit sigungu/bjdong, 1-digit plat type, 4-digit bun/ji) so equivalent inputs share a cache key.
+ */
+public record BuildingLedgerParcel(
+        String sigunguCd,
+        String bjdongCd,
+        String platGbCd,
+        String bun,
+        String ji
+) {
+
+    public static BuildingLedgerParcel of(String sigunguCd, String bjdongCd, String platGbCd, String bun, String ji) {
+        return new BuildingLedgerParcel(
+                digits(sigunguCd, 5),
+                digits(bjdongCd, 5),
+                digits(platGbCd, 1),
+                digits(bun, 4),
+                digits(ji, 4)
+        );
+    }
+
+    public String cacheKey() {
+        return sigunguCd + ":" + bjdongCd + ":" + platGbCd + ":" + bun + ":" + ji;
+    }
+
+    private static String digits(String value, int width) {
+        String digits = value == null ? "" : value.replaceAll("\\D", "");
+        int leadingZeros = 0;
+        while (digits.length() - leadingZeros > width && digits.charAt(leadingZeros) == '0') {
+            leadingZeros++;
+        }
+        digits = digits.substring(leadingZeros);
+        if (digits.length() >= width) {
+            return digits;
+        }
+        return "0".repeat(width - digits.length()) + digits;
+    }
+}
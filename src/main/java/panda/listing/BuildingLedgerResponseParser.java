@@ -0,0 +1,148 @@
+package panda.listing;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Token-streaming reader for data.go.kr building ledger pages
+ * ({@code response.body.totalCount} and {@code response.body.items.item}). Everything outside those
+ * paths is skipped without being materialized, and each item is handed to an {@link ItemReader}
+ * positioned on its START_OBJECT.
+ */
+final class BuildingLedgerResponseParser {
+
+    private BuildingLedgerResponseParser() {
+    }
+
+    static <T> Page<T> parse(JsonParser parser, ItemReader<T> itemReader) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IllegalStateException("Building Ledger API returned an empty or non-object body");
+        }
+        PageBuilder<T> page = new PageBuilder<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if ("response".equals(field) && parser.currentToken() == JsonToken.START_OBJECT) {
+                readResponse(parser, itemReader, page);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return new Page<>(page.totalCount, page.rowCount, page.items);
+    }
+
+    /**
+     * Trimmed scalar value, or {@code defaultValue} when the value is missing, blank or not a scalar.
+     */
+    static String text(JsonParser parser, String defaultValue) throws IOException {
+        if (!parser.currentToken().isScalarValue()) {
+            parser.skipChildren();
+            return defaultValue;
+        }
+        String value = parser.getValueAsString();
+        if (value == null) {
+            return defaultValue;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? defaultValue : trimmed;
+    }
+
+    /**
+     * Integer value of a numeric or numeric-string scalar, truncating decimals; 0 when unparseable.
+     */
+    static int intValue(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+            return (int) parser.getValueAsDouble();
+        }
+        String value = text(parser, "0");
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException ex) {
+            try {
+                return (int) Double.parseDouble(value);
+            } catch (NumberFormatException ignored) {
+                return 0;
+            }
+        }
+    }
+
+    private static <T> void readResponse(JsonParser parser, ItemReader<T> itemReader, PageBuilder<T> page)
+            throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if ("body".equals(field) && parser.currentToken() == JsonToken.START_OBJECT) {
+                readBody(parser, itemReader, page);
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private static <T> void readBody(JsonParser parser, ItemReader<T> itemReader, PageBuilder<T> page)
+            throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if ("totalCount".equals(field)) {
+                page.totalCount = intValue(parser);
+            } else if ("items".equals(field) && parser.currentToken() == JsonToken.START_OBJECT) {
+                readItems(parser, itemReader, page);
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private static <T> void readItems(JsonParser parser, ItemReader<T> itemReader, PageBuilder<T> page)
+            throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+            if (!"item".equals(field)) {
+                parser.skipChildren();
+            } else if (token == JsonToken.START_ARRAY) {
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    page.add(itemReader.read(parser));
+                }
+            } else if (token == JsonToken.START_OBJECT) {
+                page.add(itemReader.read(parser));
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    /**
+     * Reads one item object, consuming tokens up to and including its END_OBJECT.
+     * Returns {@code null} to drop the item.
+     */
+    @FunctionalInterface
+    interface ItemReader<T> {
+        T read(JsonParser parser) throws IOException;
+    }
+
+    /**
+     * @param rowCount items on this page before the {@link ItemReader} dropped any, i.e. the served page size
+     */
+    record Page<T>(int totalCount, int rowCount, List<T> items) {
+    }
+
+    private static final class PageBuilder<T> {
+
+        private int totalCount;
+        private int rowCount;
+        private final List<T> items = new ArrayList<>();
+
+        private void add(T item) {
+            rowCount++;
+            if (item != null) {
+                items.add(item);
+            }
+        }
+    }
+}
@@ -1,111 +1,189 @@
 package panda.listing;
 
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClient;
+import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.util.UriUtils;
 import org.springframework.web.util.UriComponentsBuilder;
+import panda.common.ExpiringLruCache;
+import panda.common.TwoTierCache;
 import panda.listing.dto.BuildingLedgerExclusivityResponse;
 import panda.listing.dto.BuildingLedgerTitleResponse;
+import panda.listing.dto.BuildingLedgerUnitSummaryResponse;
 
+@Slf4j
 @Service
 public class BuildingLedgerService {
 
     private static final int DEFAULT_PAGE_NO = 1;
-    private static final int DEFAULT_NUM_OF_ROWS = 100;
+    private static final String EXCLUSIVE_AREA = "\uC804\uC720";
 
     private final RestClient restClient;
     private final ObjectMapper objectMapper;
     private final String serviceKey;
     private final String baseUrl;
+    private final int numOfRows;
+    private final int maxConcurrentPages;
+    private final int maxPages;
+    private final TwoTierCache<BuildingLedgerTitleResponse> titleCache;
+    private final TwoTierCache<BuildingLedgerExclusivityResponse> exclusivityCache;
+    private final TwoTierCache<BuildingUnitAreaIndex> unitIndexCache;
+    private final ExpiringLruCache<String, Boolean> oversizedBuildings;
 
     public BuildingLedgerService(
-            RestClient.Builder restClientBuilder,
+            @Qualifier("buildingLedgerRestClientBuilder") RestClient.Builder restClientBuilder,
             ObjectMapper objectMapper,
+            StringRedisTemplate stringRedisTemplate,
             @Value("${app.building-ledger.base-url:https://apis.data.go.kr/1613000/BldRgstService}") String baseUrl,
-            @Value("${app.building-ledger.service-key:}") String serviceKey
+            @Value("${app.building-ledger.service-key:}") String serviceKey,
+            @Value("${app.building-ledger.num-of-rows:100}") int numOfRows,
+            @Value("${app.building-ledger.max-concurrent-pages:4}") int maxConcurrentPages,
+            @Value("${app.building-ledger.max-pages:200}") int maxPages,
+            @Value("${app.building-ledger.cache.max-size:2000}") int cacheMaxSize,
+            @Value("${app.building-ledger.cache.unit-index-max-size:200}") int unitIndexMaxSize,
+            @Value("${app.building-ledger.cache.memory-ttl-minutes:60}") long memoryTtlMinutes,
+            @Value("${app.building-ledger.cache.redis-ttl-days:7}") long redisTtlDays
     ) {
         this.restClient = restClientBuilder.build();
         this.objectMapper = objectMapper;
         this.baseUrl = baseUrl;
         this.serviceKey = serviceKey;
+        this.numOfRows = Math.max(1, numOfRows);
+        this.maxConcurrentPages = Math.max(1, maxConcurrentPages);
+        this.maxPages = Math.max(1, maxPages);
+        this.titleCache = new TwoTierCache<>(
+                "ledger:title:",
+                BuildingLedgerTitleResponse.class,
+                cacheMaxSize,
+                Duration.ofMinutes(memoryTtlMinutes),
+                stringRedisTemplate,
+                objectMapper,
+                Duration.ofDays(redisTtlDays)
+        );
+        this.exclusivityCache = new TwoTierCache<>(
+                "ledger:expos:",
+                BuildingLedgerExclusivityResponse.class,
+                cacheMaxSize,
+                Duration.ofMinutes(memoryTtlMinutes),
+                stringRedisTemplate,
+                objectMapper,
+                Duration.ofDays(redisTtlDays)
+        );
+        this.unitIndexCache = new TwoTierCache<>(
+                "ledger:units:",
+                BuildingUnitAreaIndex.class,
+                unitIndexMaxSize,
+                Duration.ofMinutes(memoryTtlMinutes),
+                stringRedisTemplate,
+                objectMapper,
+                Duration.ofDays(redisTtlDays)
+        );
+        this.oversizedBuildings = new ExpiringLruCache<>(unitIndexMaxSize, Duration.ofMinutes(memoryTtlMinutes));
     }
 
     /**
-     * Title ledger lookup (getBrTitleInfo)
+     * Title ledger lookup (getBrTitleInfo), cached per normalized parcel.
      */
     public BuildingLedgerTitleResponse getTitleInfo(
             String sigunguCd, String bjdongCd, String platGbCd, String bun, String ji
     ) {
         validateServiceKey();
-
-        List<Map<String, Object>> rawItems = fetchPagedItems(pageNo -> UriComponentsBuilder.fromUriString(baseUrl)
-                .path("/getBrTitleInfo")
-                .queryParam("serviceKey", serviceKey)
-                .queryParam("sigunguCd", sigunguCd)
-                .queryParam("bjdongCd", bjdongCd)
-                .queryParam("platGbCd", platGbCd)
-                .queryParam("bun", bun)
-                .queryParam("ji", ji)
-                .queryParam("pageNo", pageNo)
-                .queryParam("numOfRows", DEFAULT_NUM_OF_ROWS)
-                .queryParam("_type", "json")
-                .build(true)
-                .toUri());
-
-        BuildingLedgerTitleResponse buildingLedgerTitleResponse = mapToTitleResponse(rawItems);
-        return buildingLedgerTitleResponse;
+        BuildingLedgerParcel parcel = BuildingLedgerParcel.of(sigunguCd, bjdongCd, platGbCd, bun, ji);
+        return titleCache.get(parcel.cacheKey(), () -> fetchTitleInfo(parcel));
     }
 
     /**
-     * Exclusivity/public-use area lookup (getBrExposPubuseAreaInfo)
+     * Exclusivity/public-use area lookup (getBrExposPubuseAreaInfo), cached per normalized parcel and unit.
      */
     public BuildingLedgerExclusivityResponse getExclusivityInfo(
             String sigunguCd, String bjdongCd, String platGbCd, String bun, String ji, String dongNm, String hoNm
     ) {
         validateServiceKey();
+        BuildingLedgerParcel parcel = BuildingLedgerParcel.of(sigunguCd, bjdongCd, platGbCd, bun, ji);
+        String normalizedDongNm = normalizeUnitName(dongNm);
+        String normalizedHoNm = normalizeUnitName(hoNm);
+        return exclusivityCache.get(
+                parcel.cacheKey() + ":" + nullToEmpty(normalizedDongNm) + ":" + nullToEmpty(normalizedHoNm),
+                () -> fetchExclusivityInfo(parcel, normalizedDongNm, normalizedHoNm)
+        );
+    }
+
+    /**
+     * Area summary of one unit. The building's exclusivity/public-use rows are fetched once without
+     * dong/ho filters and kept as a {@link BuildingUnitAreaIndex}, so later units of the same building
+     * are answered from the index. Buildings with more rows than {@code maxPages} pages can hold are never
+     * indexed; their units are looked up with the dong/ho-filtered call instead.
+     */
+    public BuildingLedgerUnitSummaryResponse getUnitSummary(
+            String sigunguCd, String bjdongCd, String platGbCd, String bun, String ji, String dongNm, String hoNm
+    ) {
+        if (hoNm == null || hoNm.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "hoNm is required");
+        }
+        validateServiceKey();
+        BuildingLedgerParcel parcel = BuildingLedgerParcel.of(sigunguCd, bjdongCd, platGbCd, bun, ji);
+        BuildingUnitAreaIndex index = oversizedBuildings.get(parcel.cacheKey()) == null
+                ? unitIndexCache.get(parcel.cacheKey(), () -> fetchUnitAreaIndex(parcel))
+                : null;
+        BuildingUnitAreaIndex.UnitArea unit = index == null
+                ? fetchUnitArea(parcel, dongNm, hoNm)
+                : index.find(dongNm, hoNm);
+        if (unit == null) {
+            throw new ResponseStatusException(
+                    HttpStatus.NOT_FOUND,
+                    "Unit not found in building ledger: dongNm=" + dongNm + ", hoNm=" + hoNm
+            );
+        }
 
-        List<Map<String, Object>> rawItems = fetchPagedItems(pageNo -> UriComponentsBuilder.fromUriString(baseUrl)
-                .path("/getBrExposPubuseAreaInfo")
-                .queryParam("serviceKey", serviceKey)
-                .queryParam("sigunguCd", sigunguCd)
-                .queryParam("bjdongCd", bjdongCd)
-                .queryParam("platGbCd", platGbCd)
-                .queryParam("bun", bun)
-                .queryParam("ji", ji)
-                .queryParam("dongNm", encodeQueryParam(dongNm))
-                .queryParam("hoNm", encodeQueryParam(hoNm))
-                .queryParam("pageNo", pageNo)
-                .queryParam("numOfRows", DEFAULT_NUM_OF_ROWS)
-                .queryParam("_type", "json")
-                .build(true)
-                .toUri());
-        BuildingLedgerExclusivityResponse buildingLedgerExclusivityResponse = mapToExclusivityResponse(rawItems);
-        return buildingLedgerExclusivityResponse;
+        double supplyArea = unit.exclusiveArea() + unit.publicArea();
+        return new BuildingLedgerUnitSummaryResponse(
+                unit.dongNm(),
+                unit.hoNm(),
+                unit.flrNo(),
+                roundArea(unit.exclusiveArea()),
+                roundArea(unit.publicArea()),
+                roundArea(supplyArea),
+                supplyArea > 0 ? roundArea(unit.exclusiveArea() * 100 / supplyArea) : 0.0
+        );
     }
 
-    private BuildingLedgerTitleResponse mapToTitleResponse(List<Map<String, Object>> rawItems) {
-        List<BuildingLedgerTitleResponse.TitleItem> items = rawItems.stream()
-                .map(m -> {
-                    int parkingCount = resolveParkingCount(m);
-                    return new BuildingLedgerTitleResponse.TitleItem(
-                            getString(m, "mgmBldrgstPk", ""),
-                            getString(m, "dongNm", ""),
-                            getString(m, "grndFlrCnt", "0"),
-                            getFirstString(m, "", "useAprDay", "useAprvDe"),
-                            Integer.toString(parkingCount),
-                            parkingCount > 0
-                    );
-                })
-                .toList();
+    private BuildingLedgerTitleResponse fetchTitleInfo(BuildingLedgerParcel parcel) {
+        List<BuildingLedgerTitleResponse.TitleItem> items = fetchPagedItems(
+                pageNo -> UriComponentsBuilder.fromUriString(baseUrl)
+                        .path("/getBrTitleInfo")
+                        .queryParam("serviceKey", serviceKey)
+                        .queryParam("sigunguCd", parcel.sigunguCd())
+                        .queryParam("bjdongCd", parcel.bjdongCd())
+                        .queryParam("platGbCd", parcel.platGbCd())
+                        .queryParam("bun", parcel.bun())
+                        .queryParam("ji", parcel.ji())
+                        .queryParam("pageNo", pageNo)
+                        .queryParam("numOfRows", numOfRows)
+                        .queryParam("_type", "json")
+                        .build(true)
+                        .toUri(),
+                this::readTitleItem
+        );
 
         return new BuildingLedgerTitleResponse(
                 new BuildingLedgerTitleResponse.Data(
@@ -114,14 +192,27 @@ public class BuildingLedgerService {
         );
     }
 
-    private BuildingLedgerExclusivityResponse mapToExclusivityResponse(List<Map<String, Object>> rawItems) {
-        List<BuildingLedgerExclusivityResponse.ExclusivityItem> items = rawItems.stream()
-                .filter(this::isExclusiveArea)
-                .map(m -> new BuildingLedgerExclusivityResponse.ExclusivityItem(
-                        getString(m, "flrNo", ""),
-                        getString(m, "area", "0")
-                ))
-                .toList();
+    private BuildingLedgerExclusivityResponse fetchExclusivityInfo(
+            BuildingLedgerParcel parcel, String dongNm, String hoNm
+    ) {
+        List<BuildingLedgerExclusivityResponse.ExclusivityItem> items = fetchPagedItems(
+                pageNo -> UriComponentsBuilder.fromUriString(baseUrl)
+                        .path("/getBrExposPubuseAreaInfo")
+                        .queryParam("serviceKey", serviceKey)
+                        .queryParam("sigunguCd", parcel.sigunguCd())
+                        .queryParam("bjdongCd", parcel.bjdongCd())
+                        .queryParam("platGbCd", parcel.platGbCd())
+                        .queryParam("bun", parcel.bun())
+                        .queryParam("ji", parcel.ji())
+                        .queryParam("dongNm", encodeQueryParam(dongNm))
+                        .queryParam("hoNm", encodeQueryParam(hoNm))
+                        .queryParam("pageNo", pageNo)
+                        .queryParam("numOfRows", numOfRows)
+                        .queryParam("_type", "json")
+                        .build(true)
+                        .toUri(),
+                this::readExclusivityItem
+        );
 
         return new BuildingLedgerExclusivityResponse(
                 new BuildingLedgerExclusivityResponse.Data(
@@ -130,160 +221,273 @@ public class BuildingLedgerService {
         );
     }
 
-    private void validateServiceKey() {
-        if (serviceKey == null || serviceKey.isBlank()) {
-            throw new IllegalStateException("Building Ledger Service Key is missing. Set app.building-ledger.service-key.");
+    /**
+     * Returns {@code null}, which {@link TwoTierCache} does not store, when the building does not fit in
+     * {@code maxPages}; a truncated index would answer 404 for units on the missing pages.
+     */
+    private BuildingUnitAreaIndex fetchUnitAreaIndex(BuildingLedgerParcel parcel) {
+        List<BuildingUnitAreaIndex.Row> rows = fetchPagedItems(
+                pageNo -> UriComponentsBuilder.fromUriString(baseUrl)
+                        .path("/getBrExposPubuseAreaInfo")
+                        .queryParam("serviceKey", serviceKey)
+                        .queryParam("sigunguCd", parcel.sigunguCd())
+                        .queryParam("bjdongCd", parcel.bjdongCd())
+                        .queryParam("platGbCd", parcel.platGbCd())
+                        .queryParam("bun", parcel.bun())
+                        .queryParam("ji", parcel.ji())
+                        .queryParam("pageNo", pageNo)
+                        .queryParam("numOfRows", numOfRows)
+                        .queryParam("_type", "json")
+                        .build(true)
+                        .toUri(),
+                this::readUnitAreaRow,
+                false
+        );
+        if (rows == null) {
+            log.warn("Building ledger unit index exceeds maxPages; using per-unit lookups [parcel={}]", parcel.cacheKey());
+            oversizedBuildings.put(parcel.cacheKey(), Boolean.TRUE);
+            return null;
         }
+        return BuildingUnitAreaIndex.from(rows);
     }
 
-    private List<Map<String, Object>> fetchPagedItems(PageUriBuilder pageUriBuilder) {
-        List<Map<String, Object>> allItems = new ArrayList<>();
-        int pageNo = DEFAULT_PAGE_NO;
-
-        while (true) {
-            URI uri = pageUriBuilder.build(pageNo);
-            Map<String, Object> responseMap = requestResponseMap(uri);
-            List<Map<String, Object>> pageItems = extractRawItems(responseMap);
-            allItems.addAll(pageItems);
+    private BuildingUnitAreaIndex.UnitArea fetchUnitArea(BuildingLedgerParcel parcel, String dongNm, String hoNm) {
+        String normalizedDongNm = normalizeUnitName(dongNm);
+        String normalizedHoNm = normalizeUnitName(hoNm);
+        List<BuildingUnitAreaIndex.Row> rows = fetchPagedItems(
+                pageNo -> UriComponentsBuilder.fromUriString(baseUrl)
+                        .path("/getBrExposPubuseAreaInfo")
+                        .queryParam("serviceKey", serviceKey)
+                        .queryParam("sigunguCd", parcel.sigunguCd())
+                        .queryParam("bjdongCd", parcel.bjdongCd())
+                        .queryParam("platGbCd", parcel.platGbCd())
+                        .queryParam("bun", parcel.bun())
+                        .queryParam("ji", parcel.ji())
+                        .queryParam("dongNm", encodeQueryParam(normalizedDongNm))
+                        .queryParam("hoNm", encodeQueryParam(normalizedHoNm))
+                        .queryParam("pageNo", pageNo)
+                        .queryParam("numOfRows", numOfRows)
+                        .queryParam("_type", "json")
+                        .build(true)
+                        .toUri(),
+                this::readUnitAreaRow
+        );
+        return BuildingUnitAreaIndex.from(rows).find(dongNm, hoNm);
+    }
 
-            int totalCount = extractTotalCount(responseMap);
-            if (totalCount <= 0 || allItems.size() >= totalCount) {
-                break;
-            }
-            if (pageItems.isEmpty()) {
-                break;
+    private BuildingLedgerTitleResponse.TitleItem readTitleItem(JsonParser parser) throws IOException {
+        String mgmBldrgstPk = "";
+        String dongNm = "";
+        String grndFlrCnt = "0";
+        String useAprDay = "";
+        String useAprvDe = "";
+        int totalParking = 0;
+        int unitParking = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "mgmBldrgstPk" -> mgmBldrgstPk = BuildingLedgerResponseParser.text(parser, "");
+                case "dongNm" -> dongNm = BuildingLedgerResponseParser.text(parser, "");
+                case "grndFlrCnt" -> grndFlrCnt = BuildingLedgerResponseParser.text(parser, "0");
+                case "useAprDay" -> useAprDay = BuildingLedgerResponseParser.text(parser, "");
+                case "useAprvDe" -> useAprvDe = BuildingLedgerResponseParser.text(parser, "");
+                case "totPkngCnt" -> totalParking = BuildingLedgerResponseParser.intValue(parser);
+                case "indrAutoUtcnt", "oudrAutoUtcnt", "indrMechUtcnt", "oudrMechUtcnt" ->
+                        unitParking += BuildingLedgerResponseParser.intValue(parser);
+                default -> parser.skipChildren();
             }
-            pageNo++;
         }
-
-        return allItems;
+        int parkingCount = totalParking > 0 ? totalParking : unitParking;
+        return new BuildingLedgerTitleResponse.TitleItem(
+                mgmBldrgstPk,
+                dongNm,
+                grndFlrCnt,
+                useAprDay.isEmpty() ? useAprvDe : useAprDay,
+                Integer.toString(parkingCount),
+                parkingCount > 0
+        );
     }
 
-    private Map<String, Object> requestResponseMap(URI uri) {
-        String responseBody = restClient.get()
-                .uri(uri)
-                .header("Accept", "application/json")
-                .header("User-Agent", "Mozilla/5.0")
-                .retrieve()
-                .body(String.class);
-
-        if (responseBody == null || responseBody.isBlank()) {
-            throw new IllegalStateException("Building Ledger API returned empty body. uri=" + uri);
+    /**
+     * Keeps only exclusive-use (전유) rows; common-area rows are dropped while streaming.
+     */
+    private BuildingLedgerExclusivityResponse.ExclusivityItem readExclusivityItem(JsonParser parser)
+            throws IOException {
+        String flrNo = "";
+        String area = "0";
+        String exposPubuseGbCdNm = "";
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "flrNo" -> flrNo = BuildingLedgerResponseParser.text(parser, "");
+                case "area" -> area = BuildingLedgerResponseParser.text(parser, "0");
+                case "exposPubuseGbCdNm" -> exposPubuseGbCdNm = BuildingLedgerResponseParser.text(parser, "");
+                default -> parser.skipChildren();
+            }
         }
-
-        try {
-            return objectMapper.readValue(responseBody, new TypeReference<Map<String, Object>>() { });
-        } catch (Exception ex) {
-            throw new IllegalStateException(
-                    "Failed to parse Building Ledger response as JSON. uri=" + uri + ", body=" + truncate(responseBody),
-                    ex
-            );
+        if (!EXCLUSIVE_AREA.equals(exposPubuseGbCdNm)) {
+            return null;
         }
+        return new BuildingLedgerExclusivityResponse.ExclusivityItem(flrNo, area);
     }
 
-    private String truncate(String value) {
-        int maxLength = 500;
-        if (value.length() <= maxLength) {
-            return value;
+    private BuildingUnitAreaIndex.Row readUnitAreaRow(JsonParser parser) throws IOException {
+        String dongNm = "";
+        String hoNm = "";
+        String flrNo = "";
+        String exposPubuseGbCdNm = "";
+        String area = "0";
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "dongNm" -> dongNm = BuildingLedgerResponseParser.text(parser, "");
+                case "hoNm" -> hoNm = BuildingLedgerResponseParser.text(parser, "");
+                case "flrNo" -> flrNo = BuildingLedgerResponseParser.text(parser, "");
+                case "exposPubuseGbCdNm" -> exposPubuseGbCdNm = BuildingLedgerResponseParser.text(parser, "");
+                case "area" -> area = BuildingLedgerResponseParser.text(parser, "0");
+                default -> parser.skipChildren();
+            }
         }
-        return value.substring(0, maxLength) + "...(truncated)";
+        return new BuildingUnitAreaIndex.Row(dongNm, hoNm, flrNo, exposPubuseGbCdNm, area);
     }
 
-    private boolean isExclusiveArea(Map<String, Object> item) {
-        String exposPubuseGbCdNm = getString(item, "exposPubuseGbCdNm", "");
-        return "\uC804\uC720".equals(exposPubuseGbCdNm);
+    private double roundArea(double value) {
+        return Math.round(value * 100) / 100.0;
     }
 
-    private int resolveParkingCount(Map<String, Object> item) {
-        int totalParking = getInt(item, "totPkngCnt");
-        if (totalParking > 0) {
-            return totalParking;
+    private void validateServiceKey() {
+        if (serviceKey == null || serviceKey.isBlank()) {
+            throw new IllegalStateException("Building Ledger Service Key is missing. Set app.building-ledger.service-key.");
         }
-        return getInt(item, "indrAutoUtcnt")
-                + getInt(item, "oudrAutoUtcnt")
-                + getInt(item, "indrMechUtcnt")
-                + getInt(item, "oudrMechUtcnt");
     }
 
-    private int getInt(Map<String, Object> item, String key) {
-        String value = getString(item, key, "0");
-        try {
-            return Integer.parseInt(value);
-        } catch (NumberFormatException ex) {
-            try {
-                return (int) Double.parseDouble(value);
-            } catch (NumberFormatException ignored) {
-                return 0;
-            }
-        }
+    /**
+     * Reads page 1 for {@code totalCount}, then fetches the remaining pages concurrently on virtual
+     * threads (at most {@code maxConcurrentPages} in flight) and concatenates them in page order.
+     * The page size is what page 1 actually served, since the API may cap {@code numOfRows}.
+     */
+    private <T> List<T> fetchPagedItems(
+            PageUriBuilder pageUriBuilder,
+            BuildingLedgerResponseParser.ItemReader<T> itemReader
+    ) {
+        return fetchPagedItems(pageUriBuilder, itemReader, true);
     }
 
-    private String getString(Map<String, Object> item, String key, String defaultValue) {
-        Object value = item.get(key);
-        if (value == null) {
-            return defaultValue;
+    /**
+     * @param allowTruncation when {@code false}, returns {@code null} right after page 1 if the result
+     *                        would need more than {@code maxPages} pages
+     */
+    private <T> List<T> fetchPagedItems(
+            PageUriBuilder pageUriBuilder,
+            BuildingLedgerResponseParser.ItemReader<T> itemReader,
+            boolean allowTruncation
+    ) {
+        BuildingLedgerResponseParser.Page<T> firstPage = requestPage(pageUriBuilder.build(DEFAULT_PAGE_NO), itemReader);
+        int totalCount = firstPage.totalCount();
+        int pageSize = firstPage.rowCount();
+        if (pageSize <= 0 || pageSize >= totalCount) {
+            return firstPage.items();
+        }
+        int requiredPages = (int) Math.ceil((double) totalCount / pageSize);
+        if (requiredPages > maxPages) {
+            if (!allowTruncation) {
+                return null;
+            }
+            log.warn(
+                    "Building Ledger result truncated [totalCount={}, pageSize={}, maxPages={}]",
+                    totalCount,
+                    pageSize,
+                    maxPages
+            );
         }
-        String text = value.toString().trim();
-        return text.isEmpty() ? defaultValue : text;
+        int pageCount = Math.min(maxPages, requiredPages);
+
+        List<T> allItems = new ArrayList<>(Math.min(totalCount, pageCount * pageSize));
+        allItems.addAll(firstPage.items());
+        Semaphore permits = new Semaphore(maxConcurrentPages);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<List<T>>> pages = new ArrayList<>(pageCount - 1);
+            for (int pageNo = DEFAULT_PAGE_NO + 1; pageNo <= pageCount; pageNo++) {
+                URI uri = pageUriBuilder.build(pageNo);
+                pages.add(executor.submit(() -> {
+                    permits.acquire();
+                    try {
+                        return requestPage(uri, itemReader).items();
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+            for (Future<List<T>> page : pages) {
+                allItems.addAll(awaitPage(page, executor));
+            }
+        }
+        return allItems;
     }
 
-    private String getFirstString(Map<String, Object> item, String defaultValue, String... keys) {
-        for (String key : keys) {
-            String value = getString(item, key, "");
-            if (!value.isBlank()) {
-                return value;
+    private <T> List<T> awaitPage(Future<List<T>> page, ExecutorService executor) {
+        try {
+            return page.get();
+        } catch (InterruptedException ex) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while fetching Building Ledger pages", ex);
+        } catch (ExecutionException ex) {
+            executor.shutdownNow();
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
             }
+            throw new IllegalStateException("Failed to fetch Building Ledger page", ex.getCause());
         }
-        return defaultValue;
     }
 
-    private String encodeQueryParam(String value) {
-        if (value == null || value.isBlank()) {
-            return value;
-        }
-        return UriUtils.encodeQueryParam(value, StandardCharsets.UTF_8);
+    /**
+     * Streams the response body through {@link BuildingLedgerResponseParser} without buffering it as a
+     * String or building an intermediate tree.
+     */
+    private <T> BuildingLedgerResponseParser.Page<T> requestPage(
+            URI uri,
+            BuildingLedgerResponseParser.ItemReader<T> itemReader
+    ) {
+        return restClient.get()
+                .uri(uri)
+                .header("Accept", "application/json")
+                .header("User-Agent", "Mozilla/5.0")
+                .exchange((request, response) -> {
+                    if (response.getStatusCode().isError()) {
+                        throw new IllegalStateException(
+                                "Building Ledger API returned " + response.getStatusCode().value() + ". uri=" + uri
+                        );
+                    }
+                    try (JsonParser parser = objectMapper.getFactory().createParser(response.getBody())) {
+                        return BuildingLedgerResponseParser.parse(parser, itemReader);
+                    } catch (JsonProcessingException ex) {
+                        throw new IllegalStateException("Failed to parse Building Ledger response as JSON. uri=" + uri, ex);
+                    } catch (IllegalStateException ex) {
+                        throw new IllegalStateException(ex.getMessage() + ". uri=" + uri, ex);
+                    }
+                });
     }
 
-    @SuppressWarnings("unchecked")
-    private int extractTotalCount(Map<String, Object> responseMap) {
-        if (responseMap == null || !responseMap.containsKey("response")) {
-            return 0;
-        }
-        Map<String, Object> response = (Map<String, Object>) responseMap.get("response");
-        if (response == null || !(response.get("body") instanceof Map<?, ?> bodyObj)) {
-            return 0;
-        }
-        Map<String, Object> body = (Map<String, Object>) bodyObj;
-        Object totalCountObj = body.get("totalCount");
-        if (totalCountObj == null) {
-            return 0;
-        }
-        try {
-            return Integer.parseInt(totalCountObj.toString());
-        } catch (NumberFormatException ex) {
-            return 0;
+    private String normalizeUnitName(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
         }
+        return value.replaceAll("\\s+", "");
     }
 
-    @SuppressWarnings("unchecked")
-    private List<Map<String, Object>> extractRawItems(Map<String, Object> responseMap) {
-        if (responseMap == null || !responseMap.containsKey("response")) {
-            return Collections.emptyList();
-        }
-        Map<String, Object> response = (Map<String, Object>) responseMap.get("response");
-        Map<String, Object> body = (Map<String, Object>) response.get("body");
-        if (body == null || body.get("items") == null || "".equals(body.get("items"))) {
-            return Collections.emptyList();
-        }
-        Map<String, Object> itemsMap = (Map<String, Object>) body.get("items");
-        Object itemObj = itemsMap.get("item");
+    private String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
 
-        if (itemObj instanceof List) {
-            return (List<Map<String, Object>>) itemObj;
-        } else if (itemObj instanceof Map) {
-            return List.of((Map<String, Object>) itemObj);
+    private String encodeQueryParam(String value) {
+        if (value == null || value.isBlank()) {
+            return value;
         }
-        return Collections.emptyList();
+        return UriUtils.encodeQueryParam(value, StandardCharsets.UTF_8);
     }
 
     @FunctionalInterface
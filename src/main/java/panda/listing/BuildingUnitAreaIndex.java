@@ -0,0 +1,109 @@
+package panda.listing;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Per-building dong → ho → unit area lookup built from the building-wide exclusivity/public-use
+ * ledger rows, so a unit summary is a pair of map lookups once the building has been fetched.
+ * Serialized as JSON in the building ledger cache.
+ */
+public record BuildingUnitAreaIndex(Map<String, Map<String, UnitArea>> unitsByDong) {
+
+    private static final String EXCLUSIVE_AREA = "전유";
+
+    public static BuildingUnitAreaIndex from(List<Row> rows) {
+        Map<String, Map<String, UnitAccumulator>> accumulators = new HashMap<>();
+        for (Row row : rows) {
+            if (row.hoNm().isEmpty()) {
+                continue;
+            }
+            accumulators
+                    .computeIfAbsent(unitKey(row.dongNm(), '동'), key -> new HashMap<>())
+                    .computeIfAbsent(unitKey(row.hoNm(), '호'), key -> new UnitAccumulator(row.dongNm(), row.hoNm()))
+                    .add(row);
+        }
+
+        Map<String, Map<String, UnitArea>> unitsByDong = new HashMap<>(accumulators.size() * 2);
+        accumulators.forEach((dongKey, units) -> {
+            Map<String, UnitArea> unitsByHo = new HashMap<>(units.size() * 2);
+            units.forEach((hoKey, accumulator) -> unitsByHo.put(hoKey, accumulator.toUnitArea()));
+            unitsByDong.put(dongKey, unitsByHo);
+        });
+        return new BuildingUnitAreaIndex(unitsByDong);
+    }
+
+    /**
+     * A blank {@code dongNm} matches units without a dong, or the only dong of a single-dong building.
+     */
+    public UnitArea find(String dongNm, String hoNm) {
+        if (hoNm == null || hoNm.isBlank()) {
+            return null;
+        }
+        Map<String, UnitArea> unitsByHo = unitsByDong.get(unitKey(dongNm, '동'));
+        if (unitsByHo == null && (dongNm == null || dongNm.isBlank()) && unitsByDong.size() == 1) {
+            unitsByHo = unitsByDong.values().iterator().next();
+        }
+        return unitsByHo == null ? null : unitsByHo.get(unitKey(hoNm, '호'));
+    }
+
+    /**
+     * "101 동" / "101동" / "101" and "1203호" / "1203" resolve to the same key.
+     */
+    static String unitKey(String name, char suffix) {
+        if (name == null) {
+            return "";
+        }
+        String key = name.replaceAll("\\s+", "").toUpperCase(Locale.ROOT);
+        if (key.length() > 1 && key.charAt(key.length() - 1) == suffix) {
+            key = key.substring(0, key.length() - 1);
+        }
+        return key;
+    }
+
+    public record Row(String dongNm, String hoNm, String flrNo, String exposPubuseGbCdNm, String area) {
+    }
+
+    public record UnitArea(String dongNm, String hoNm, String flrNo, double exclusiveArea, double publicArea) {
+    }
+
+    private static final class UnitAccumulator {
+
+        private final String dongNm;
+        private final String hoNm;
+        private String flrNo = "";
+        private double exclusiveArea;
+        private double publicArea;
+
+        private UnitAccumulator(String dongNm, String hoNm) {
+            this.dongNm = dongNm;
+            this.hoNm = hoNm;
+        }
+
+        private void add(Row row) {
+            double area = parseArea(row.area());
+            if (EXCLUSIVE_AREA.equals(row.exposPubuseGbCdNm())) {
+                exclusiveArea += area;
+                if (flrNo.isEmpty()) {
+                    flrNo = row.flrNo();
+                }
+            } else {
+                publicArea += area;
+            }
+        }
+
+        private UnitArea toUnitArea() {
+            return new UnitArea(dongNm, hoNm, flrNo, exclusiveArea, publicArea);
+        }
+
+        private static double parseArea(String value) {
+            try {
+                return Double.parseDouble(value);
+            } catch (NumberFormatException ex) {
+                return 0.0;
+            }
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package panda.listing;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import panda.common.ExpiringLruCache;
+
+/**
+ * Read-through cache in front of {@link NcpGeocodingService}: an in-memory LRU tier, then the
+ * {@code geocode_cache} table, then NCP. Failures are never cached, and cache-tier errors only fall
+ * through to the next tier.
+ */
+@Slf4j
+@Service
+public class CachingGeocodingService implements GeocodingService {
+
+    private final NcpGeocodingService delegate;
+    private final GeocodeCacheRepository geocodeCacheRepository;
+    private final ExpiringLruCache<String, Coordinate> memoryCache;
+    private final boolean persistentEnabled;
+
+    public CachingGeocodingService(
+            NcpGeocodingService delegate,
+            GeocodeCacheRepository geocodeCacheRepository,
+            @Value("${app.geocoding.cache.max-size:10000}") int maxSize,
+            @Value("${app.geocoding.cache.ttl-hours:24}") long ttlHours,
+            @Value("${app.geocoding.cache.persistent-enabled:true}") boolean persistentEnabled
+    ) {
+        this.delegate = delegate;
+        this.geocodeCacheRepository = geocodeCacheRepository;
+        this.memoryCache = new ExpiringLruCache<>(maxSize, Duration.ofHours(ttlHours));
+        this.persistentEnabled = persistentEnabled;
+    }
+
+    @Override
+    public Coordinate convertAddressToCoordinate(String address) {
+        String key = GeocodingAddressNormalizer.normalize(address);
+        if (key.isBlank()) {
+            return delegate.convertAddressToCoordinate(address);
+        }
+
+        Coordinate cached = findCachedByKey(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        Coordinate coordinate = delegate.convertAddressToCoordinate(address);
+        memoryCache.put(key, coordinate);
+        persist(key, coordinate, false);
+        return coordinate;
+    }
+
+    /**
+     * Cached coordinate from either tier, or {@code null} when resolving would need an NCP call.
+     */
+    public Coordinate findCached(String address) {
+        String key = GeocodingAddressNormalizer.normalize(address);
+        return key.isBlank() ? null : findCachedByKey(key);
+    }
+
+    /**
+     * Always calls NCP and overwrites both tiers, for backfills after NCP data changes.
+     */
+    public Coordinate refresh(String address) {
+        Coordinate coordinate = delegate.convertAddressToCoordinate(address);
+        String key = GeocodingAddressNormalizer.normalize(address);
+        if (!key.isBlank()) {
+            memoryCache.put(key, coordinate);
+            persist(key, coordinate, true);
+        }
+        return coordinate;
+    }
+
+    private Coordinate findCachedByKey(String key) {
+        Coordinate cached = memoryCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        Coordinate persisted = findPersisted(key);
+        if (persisted != null) {
+            memoryCache.put(key, persisted);
+        }
+        return persisted;
+    }
+
+    private Coordinate findPersisted(String key) {
+        if (!isPersistable(key)) {
+            return null;
+        }
+        try {
+            return geocodeCacheRepository.findByAddressKey(key)
+                    .map(entry -> new Coordinate(entry.getLatitude(), entry.getLongitude()))
+                    .orElse(null);
+        } catch (DataAccessException ex) {
+            log.warn("Failed to read geocode cache [addressKey={}]", key, ex);
+            return null;
+        }
+    }
+
+    private void persist(String key, Coordinate coordinate, boolean overwrite) {
+        if (!isPersistable(key)) {
+            return;
+        }
+        try {
+            if (overwrite) {
+                geocodeCacheRepository.upsert(key, coordinate.latitude(), coordinate.longitude(), LocalDateTime.now());
+            } else {
+                geocodeCacheRepository.insertIgnore(key, coordinate.latitude(), coordinate.longitude(), LocalDateTime.now());
+            }
+        } catch (DataAccessException ex) {
+            log.warn("Failed to write geocode cache [addressKey={}]", key, ex);
+        }
+    }
+
+    private boolean isPersistable(String key) {
+        return persistentEnabled && key.length() <= GeocodeCacheEntry.MAX_ADDRESS_KEY_LENGTH;
+    }
+}
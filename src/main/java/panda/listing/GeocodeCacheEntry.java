@@ -0,0 +1,48 @@
+package panda.listing;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Persistent geocoding result keyed by {@link GeocodingAddressNormalizer#normalize(String)}.
+ */
+@Getter
+@Entity
+@Table(
+        name = "geocode_cache",
+        uniqueConstraints = @UniqueConstraint(name = "uq_geocode_cache_address_key", columnNames = "address_key")
+)
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class GeocodeCacheEntry {
+
+    public static final int MAX_ADDRESS_KEY_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "address_key", nullable = false, length = MAX_ADDRESS_KEY_LENGTH)
+    private String addressKey;
+
+    @Column(name = "latitude", nullable = false)
+    private Double latitude;
+
+    @Column(name = "longitude", nullable = false)
+    private Double longitude;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,43 @@
+package panda.listing;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface GeocodeCacheRepository extends JpaRepository<GeocodeCacheEntry, Long> {
+
+    Optional<GeocodeCacheEntry> findByAddressKey(String addressKey);
+
+    @Modifying
+    @Transactional
+    @Query(value = """
+            INSERT IGNORE INTO geocode_cache (address_key, latitude, longitude, created_at)
+            VALUES (:addressKey, :latitude, :longitude, :now)
+            """, nativeQuery = true)
+    int insertIgnore(
+            @Param("addressKey") String addressKey,
+            @Param("latitude") double latitude,
+            @Param("longitude") double longitude,
+            @Param("now") LocalDateTime now
+    );
+
+    @Modifying
+    @Transactional
+    @Query(value = """
+            INSERT INTO geocode_cache (address_key, latitude, longitude, created_at)
+            VALUES (:addressKey, :latitude, :longitude, :now)
+            ON DUPLICATE KEY UPDATE latitude = VALUES(latitude), longitude = VALUES(longitude), created_at = VALUES(created_at)
+            """, nativeQuery = true)
+    int upsert(
+            @Param("addressKey") String addressKey,
+            @Param("latitude") double latitude,
+            @Param("longitude") double longitude,
+            @Param("now") LocalDateTime now
+    );
+}
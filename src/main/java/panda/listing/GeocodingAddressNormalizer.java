@@ -0,0 +1,81 @@
+package panda.listing;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Canonical cache key for Korean addresses, so spelling variants of the same building share one entry.
+ * Unit details (동/호/층) are dropped because every unit of a building geocodes to the same point.
+ */
+public final class GeocodingAddressNormalizer {
+
+    private static final Map<String, String> REGION_ALIASES = Map.ofEntries(
+            Map.entry("서울특별시", "서울"),
+            Map.entry("서울시", "서울"),
+            Map.entry("부산광역시", "부산"),
+            Map.entry("부산시", "부산"),
+            Map.entry("대구광역시", "대구"),
+            Map.entry("대구시", "대구"),
+            Map.entry("인천광역시", "인천"),
+            Map.entry("인천시", "인천"),
+            Map.entry("광주광역시", "광주"),
+            Map.entry("대전광역시", "대전"),
+            Map.entry("대전시", "대전"),
+            Map.entry("울산광역시", "울산"),
+            Map.entry("울산시", "울산"),
+            Map.entry("세종특별자치시", "세종"),
+            Map.entry("세종시", "세종"),
+            Map.entry("경기도", "경기"),
+            Map.entry("강원도", "강원"),
+            Map.entry("강원특별자치도", "강원"),
+            Map.entry("충청북도", "충북"),
+            Map.entry("충청남도", "충남"),
+            Map.entry("전라북도", "전북"),
+            Map.entry("전북특별자치도", "전북"),
+            Map.entry("전라남도", "전남"),
+            Map.entry("경상북도", "경북"),
+            Map.entry("경상남도", "경남"),
+            Map.entry("제주특별자치도", "제주"),
+            Map.entry("제주도", "제주")
+    );
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern PARENTHESES = Pattern.compile("\\([^)]*\\)|\\[[^]]*]");
+    private static final Pattern UNIT_DETAIL = Pattern.compile(
+            "(?:,\\s*)?(?:\\s(?:[A-Za-z]|\\d+)\\s?동)?(?:\\s(?:지하\\s?)?\\d+\\s?층)?(?:\\s(?:[A-Za-z]?\\d+)\\s?호)\\s*$"
+                    + "|(?:,\\s*)?\\s(?:지하\\s?)?\\d+\\s?층\\s*$"
+    );
+    private static final Pattern JIBUN_DASH = Pattern.compile("(\\d+)\\s*[-‐‑–—~]\\s*(\\d+)");
+    private static final Pattern JIBUN_SUFFIX = Pattern.compile("(\\d+(?:-\\d+)?)\\s*번지");
+    private static final Pattern MOUNTAIN_LOT = Pattern.compile("(^|\\s)산\\s+(\\d)");
+    private static final Pattern ROAD_NUMBER = Pattern.compile("([가-힣0-9])(로|길)\\s*(\\d+)");
+    private static final Pattern ROAD_BEONGIL = Pattern.compile("(\\d+)\\s*번\\s*길");
+    private static final Pattern TRAILING_PUNCTUATION = Pattern.compile("[\\s,.]+$");
+
+    private GeocodingAddressNormalizer() {
+    }
+
+    public static String normalize(String address) {
+        if (address == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(address, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        normalized = PARENTHESES.matcher(normalized).replaceAll(" ");
+        normalized = WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+        normalized = UNIT_DETAIL.matcher(normalized).replaceAll("");
+        normalized = JIBUN_DASH.matcher(normalized).replaceAll("$1-$2");
+        normalized = JIBUN_SUFFIX.matcher(normalized).replaceAll("$1");
+        normalized = MOUNTAIN_LOT.matcher(normalized).replaceAll("$1산$2");
+        normalized = ROAD_BEONGIL.matcher(normalized).replaceAll("$1번길");
+        normalized = ROAD_NUMBER.matcher(normalized).replaceAll("$1$2 $3");
+        normalized = TRAILING_PUNCTUATION.matcher(normalized).replaceAll("");
+
+        String[] tokens = normalized.split(" ");
+        if (tokens.length > 0) {
+            tokens[0] = REGION_ALIASES.getOrDefault(tokens[0], tokens[0]);
+        }
+        return String.join(" ", tokens);
+    }
+}
@@ -39,8 +39,7 @@ public class ListingController {
 
     @GetMapping("/unsold")
     public List<ListingResponse> getUnsoldListings(HttpServletRequest request, HttpServletResponse response) {
-        String actorKey = analyticsService.getOrCreateActorKey(request, response);
-        analyticsService.trackVisit(actorKey, request.getRequestURI());
+        analyticsService.trackRequest(request, response);
         return listingService.getUnsoldListings();
     }
 
@@ -73,6 +72,19 @@ public class ListingController {
         return buildingLedgerService.getExclusivityInfo(sigunguCd, bjdongCd, platGbCd, bun, ji, dongNm, hoNm);
     }
 
+    @GetMapping("/building-ledger/exclusivity/summary")
+    public BuildingLedgerUnitSummaryResponse getBuildingLedgerUnitSummary(
+            @RequestParam String sigunguCd,
+            @RequestParam String bjdongCd,
+            @RequestParam String platGbCd,
+            @RequestParam String bun,
+            @RequestParam String ji,
+            @RequestParam(required = false) String dongNm,
+            @RequestParam String hoNm
+    ) {
+        return buildingLedgerService.getUnitSummary(sigunguCd, bjdongCd, platGbCd, bun, ji, dongNm, hoNm);
+    }
+
     @GetMapping("/{id:\\d+}")
     public ListingDetailResponse getById(@PathVariable Long id) {
         return listingService.getByIdForView(id);
@@ -80,8 +92,13 @@ public class ListingController {
 
     @PostMapping("/{id:\\d+}/view")
     @ResponseStatus(HttpStatus.NO_CONTENT)
-    public void recordRecentViewed(@PathVariable Long id, HttpServletRequest request) {
-        listingRecentViewedService.recordView(id, request);
+    public void recordRecentViewed(
+            @PathVariable Long id,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) {
+        listingRecentViewedService.recordView(id, request, response);
+        analyticsService.trackTraffic(request);
     }
 
     @GetMapping("/recent-viewed")
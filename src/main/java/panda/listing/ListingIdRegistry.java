@@ -0,0 +1,100 @@
+package panda.listing;
+
+import java.time.Duration;
+import java.util.BitSet;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import panda.common.ExpiringLruCache;
+
+@Slf4j
+@Component
+public class ListingIdRegistry {
+
+    private final ListingRepository listingRepository;
+    private final ExpiringLruCache<Long, Boolean> missingIds;
+    private volatile BitSet ids;
+
+    public ListingIdRegistry(
+            ListingRepository listingRepository,
+            @Value("${app.listing.id-registry.negative-cache-size:10000}") int negativeCacheSize,
+            @Value("${app.listing.id-registry.negative-ttl-seconds:30}") long negativeTtlSeconds
+    ) {
+        this.listingRepository = listingRepository;
+        this.missingIds = new ExpiringLruCache<>(negativeCacheSize, Duration.ofSeconds(negativeTtlSeconds));
+    }
+
+    /**
+     * Bitmap lookup first; only ids missing from the bitmap fall back to the database, and ids the
+     * database did not have are remembered for a short TTL so repeated heartbeats for deleted or unknown
+     * listings do not query it every time.
+     */
+    public boolean contains(Long id) {
+        if (id == null || id <= 0) {
+            return false;
+        }
+        if (id <= Integer.MAX_VALUE && loadedIds().get(id.intValue())) {
+            return true;
+        }
+        if (missingIds.get(id) != null) {
+            return false;
+        }
+        boolean exists = listingRepository.existsById(id);
+        if (exists) {
+            register(id);
+        } else {
+            missingIds.put(id, Boolean.TRUE);
+        }
+        return exists;
+    }
+
+    public synchronized void register(Long id) {
+        if (id == null || id <= 0 || id > Integer.MAX_VALUE) {
+            return;
+        }
+        missingIds.invalidate(id);
+        BitSet next = (BitSet) loadedIds().clone();
+        next.set(id.intValue());
+        ids = next;
+    }
+
+    public synchronized void unregister(Long id) {
+        if (id == null || id <= 0 || id > Integer.MAX_VALUE || ids == null) {
+            return;
+        }
+        BitSet next = (BitSet) ids.clone();
+        next.clear(id.intValue());
+        ids = next;
+    }
+
+    @Scheduled(fixedDelayString = "${app.listing.id-registry.refresh-interval-ms:300000}")
+    public synchronized void refresh() {
+        ids = loadFromRepository();
+        missingIds.invalidateAll();
+    }
+
+    private BitSet loadedIds() {
+        BitSet snapshot = ids;
+        if (snapshot != null) {
+            return snapshot;
+        }
+        synchronized (this) {
+            if (ids == null) {
+                ids = loadFromRepository();
+            }
+            return ids;
+        }
+    }
+
+    private BitSet loadFromRepository() {
+        BitSet loaded = new BitSet();
+        for (Long id : listingRepository.findAllIds()) {
+            if (id != null && id > 0 && id <= Integer.MAX_VALUE) {
+                loaded.set(id.intValue());
+            }
+        }
+        log.debug("Loaded {} listing ids into registry", loaded.cardinality());
+        return loaded;
+    }
+}
@@ -0,0 +1,180 @@
+package panda.listing;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import panda.listing.dto.BuildingLedgerParcelRequest;
+import panda.listing.dto.BuildingLedgerTitleResponse;
+import panda.listing.dto.BuildingLedgerUnitSummaryResponse;
+
+/**
+ * Looks up the building ledger facts a listing form otherwise copies by hand (total floors, use
+ * approval day, parking count, exclusive area). Lookups start on a virtual thread so they overlap
+ * geocoding; ledger failures or timeouts only mean nothing is filled. A prefetch that is no longer needed
+ * is cancelled, which interrupts its threads and so aborts the blocking upstream calls.
+ */
+@Slf4j
+@Component
+public class ListingLedgerAutofill {
+
+    private static final DateTimeFormatter USE_APR_DAY_FORMATTER = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final BuildingLedgerService buildingLedgerService;
+    private final long timeoutMillis;
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("listing-ledger-", 0).factory()
+    );
+
+    public ListingLedgerAutofill(
+            BuildingLedgerService buildingLedgerService,
+            @Value("${app.listing.ledger-autofill.timeout-ms:5000}") long timeoutMillis
+    ) {
+        this.buildingLedgerService = buildingLedgerService;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    public Prefetch prefetch(BuildingLedgerParcelRequest parcel) {
+        if (parcel == null) {
+            return new Prefetch(CompletableFuture.completedFuture(null), CompletableFuture.completedFuture(null));
+        }
+        return new Prefetch(
+                executor.submit(() -> findTitleItem(parcel)),
+                executor.submit(() -> findUnitSummary(parcel))
+        );
+    }
+
+    public LedgerFacts await(Prefetch prefetched) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        try {
+            BuildingLedgerTitleResponse.TitleItem title =
+                    prefetched.title().get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            BuildingLedgerUnitSummaryResponse unit =
+                    prefetched.unit().get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            return toFacts(title, unit);
+        } catch (InterruptedException ex) {
+            cancel(prefetched);
+            Thread.currentThread().interrupt();
+            return LedgerFacts.EMPTY;
+        } catch (TimeoutException ex) {
+            cancel(prefetched);
+            log.warn("Building ledger autofill timed out after {}ms", timeoutMillis);
+            return LedgerFacts.EMPTY;
+        } catch (ExecutionException ex) {
+            cancel(prefetched);
+            log.warn("Building ledger autofill failed", ex.getCause());
+            return LedgerFacts.EMPTY;
+        }
+    }
+
+    /**
+     * Stops a prefetch whose result will not be used, e.g. because geocoding failed.
+     */
+    public void cancel(Prefetch prefetched) {
+        prefetched.title().cancel(true);
+        prefetched.unit().cancel(true);
+    }
+
+    /**
+     * The title row of the requested dong, or the only row of a single-building parcel; ambiguous
+     * multi-building parcels are not filled.
+     */
+    private BuildingLedgerTitleResponse.TitleItem findTitleItem(BuildingLedgerParcelRequest parcel) {
+        BuildingLedgerTitleResponse response = buildingLedgerService.getTitleInfo(
+                parcel.sigunguCd(), parcel.bjdongCd(), parcel.platGbCd(), parcel.bun(), parcel.ji()
+        );
+        List<BuildingLedgerTitleResponse.TitleItem> items = response.data().items().item();
+        if (parcel.dongNm() != null && !parcel.dongNm().isBlank()) {
+            String dongKey = BuildingUnitAreaIndex.unitKey(parcel.dongNm(), '동');
+            return items.stream()
+                    .filter(item -> dongKey.equals(BuildingUnitAreaIndex.unitKey(item.dongNm(), '동')))
+                    .findFirst()
+                    .orElse(null);
+        }
+        return items.size() == 1 ? items.getFirst() : null;
+    }
+
+    private BuildingLedgerUnitSummaryResponse findUnitSummary(BuildingLedgerParcelRequest parcel) {
+        if (parcel.hoNm() == null || parcel.hoNm().isBlank()) {
+            return null;
+        }
+        try {
+            return buildingLedgerService.getUnitSummary(
+                    parcel.sigunguCd(), parcel.bjdongCd(), parcel.platGbCd(), parcel.bun(), parcel.ji(),
+                    parcel.dongNm(), parcel.hoNm()
+            );
+        } catch (ResponseStatusException ex) {
+            log.debug("Unit not found in building ledger [dongNm={}, hoNm={}]", parcel.dongNm(), parcel.hoNm());
+            return null;
+        }
+    }
+
+    private LedgerFacts toFacts(
+            BuildingLedgerTitleResponse.TitleItem title,
+            BuildingLedgerUnitSummaryResponse unit
+    ) {
+        Integer totalFloors = null;
+        LocalDate useAprDay = null;
+        Integer parkingCount = null;
+        if (title != null) {
+            totalFloors = parsePositiveInt(title.grndFlrCnt());
+            useAprDay = parseUseAprDay(title.useAprDay());
+            parkingCount = title.parkingAvailable() ? parsePositiveInt(title.parkingCount()) : null;
+        }
+        BigDecimal exclusivityArea = unit != null && unit.exclusiveArea() > 0
+                ? BigDecimal.valueOf(unit.exclusiveArea())
+                : null;
+        return new LedgerFacts(totalFloors, useAprDay, parkingCount, exclusivityArea);
+    }
+
+    private Integer parsePositiveInt(String value) {
+        try {
+            int parsed = Integer.parseInt(value);
+            return parsed > 0 ? parsed : null;
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+
+    private LocalDate parseUseAprDay(String value) {
+        if (value == null || value.length() != 8) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value, USE_APR_DAY_FORMATTER);
+        } catch (DateTimeParseException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Handle of the two in-flight lookups. They run as {@link ExecutorService#submit} tasks rather than
+     * {@code supplyAsync}, so {@code cancel(true)} really interrupts them.
+     */
+    public record Prefetch(
+            Future<BuildingLedgerTitleResponse.TitleItem> title,
+            Future<BuildingLedgerUnitSummaryResponse> unit
+    ) {
+    }
+
+    public record LedgerFacts(
+            Integer totalFloors,
+            LocalDate useAprDay,
+            Integer parkingCount,
+            BigDecimal exclusivityArea
+    ) {
+        public static final LedgerFacts EMPTY = new LedgerFacts(null, null, null, null);
+    }
+}
@@ -1,6 +1,9 @@
 package panda.listing;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
@@ -12,60 +15,96 @@ import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
+import panda.analytics.AnalyticsService;
 import panda.listing.dto.ListingResponse;
 
 @Slf4j
 @Service
 public class ListingRecentViewedService {
 
-    private static final String RECENT_KEY_PREFIX = "recent:";
-    private static final String DEBOUNCE_KEY_PREFIX = "recent:debounce:";
+    public static final String RECENT_KEY_PREFIX = "recent:";
+    public static final String DEBOUNCE_KEY_PREFIX = "recent:debounce:";
+
+    // KEYS[1]=recent list, KEYS[2]=debounce key / ARGV[1]=listing id, ARGV[2]=max size, ARGV[3]=debounce ttl, ARGV[4]=list ttl
+    private static final RedisScript<Long> RECORD_VIEW_SCRIPT = new DefaultRedisScript<>("""
+            if not redis.call('SET', KEYS[2], '1', 'NX', 'EX', ARGV[3]) then
+              return 0
+            end
+            redis.call('LREM', KEYS[1], 0, ARGV[1])
+            redis.call('LPUSH', KEYS[1], ARGV[1])
+            redis.call('LTRIM', KEYS[1], 0, tonumber(ARGV[2]) - 1)
+            redis.call('EXPIRE', KEYS[1], ARGV[4])
+            return 1
+            """, Long.class);
 
     private final StringRedisTemplate stringRedisTemplate;
     private final ListingService listingService;
+    private final ListingIdRegistry listingIdRegistry;
+    private final ListingSummaryCache listingSummaryCache;
+    private final AnalyticsService analyticsService;
+    private final KeySource keySource;
     private final int maxLimit;
     private final Duration recentTtl;
     private final Duration debounceTtl;
+    private final Counter recordedViewCounter;
 
     public ListingRecentViewedService(
             StringRedisTemplate stringRedisTemplate,
             ListingService listingService,
+            ListingIdRegistry listingIdRegistry,
+            ListingSummaryCache listingSummaryCache,
+            AnalyticsService analyticsService,
             @Value("${app.listing.recent-viewed.max-limit:20}") int maxLimit,
             @Value("${app.listing.recent-viewed.ttl-days:1}") long ttlDays,
-            @Value("${app.listing.recent-viewed.debounce-seconds:3}") long debounceSeconds
+            @Value("${app.listing.recent-viewed.debounce-seconds:3}") long debounceSeconds,
+            @Value("${app.listing.recent-viewed.key-source:SESSION}") KeySource keySource,
+            MeterRegistry meterRegistry
     ) {
         this.stringRedisTemplate = stringRedisTemplate;
         this.listingService = listingService;
+        this.listingIdRegistry = listingIdRegistry;
+        this.listingSummaryCache = listingSummaryCache;
+        this.analyticsService = analyticsService;
+        this.keySource = keySource;
         this.maxLimit = maxLimit;
         this.recentTtl = Duration.ofDays(ttlDays);
         this.debounceTtl = Duration.ofSeconds(debounceSeconds);
+        this.recordedViewCounter = Counter.builder("listing.views")
+                .description("Listing views recorded into recent-viewed history after debounce")
+                .register(meterRegistry);
     }
 
-    public void recordView(Long listingId, HttpServletRequest request) {
-        listingService.ensureExists(listingId);
+    public void recordView(Long listingId, HttpServletRequest request, HttpServletResponse response) {
+        if (!listingIdRegistry.contains(listingId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Listing not found: " + listingId);
+        }
 
-        HttpSession session = getOrCreateSafeSession(request);
-        String sessionId = session.getId();
-        String key = toKey(sessionId);
-        String value = String.valueOf(listingId);
+        String ownerKey = keySource == KeySource.ACTOR
+                ? analyticsService.getOrCreateActorKey(request, response)
+                : getOrCreateSafeSession(request).getId();
 
         try {
-            Boolean acquired = stringRedisTemplate.opsForValue()
-                    .setIfAbsent(toDebounceKey(sessionId, listingId), "1", debounceTtl);
-            if (Boolean.FALSE.equals(acquired)) {
-                return;
+            Long recorded = stringRedisTemplate.execute(
+                    RECORD_VIEW_SCRIPT,
+                    List.of(toKey(ownerKey), toDebounceKey(ownerKey, listingId)),
+                    String.valueOf(listingId),
+                    String.valueOf(maxLimit),
+                    String.valueOf(Math.max(1L, debounceTtl.toSeconds())),
+                    String.valueOf(Math.max(1L, recentTtl.toSeconds()))
+            );
+            if (recorded != null && recorded == 1L) {
+                recordedViewCounter.increment();
             }
-            stringRedisTemplate.opsForList().remove(key, 0, value);
-            stringRedisTemplate.opsForList().leftPush(key, value);
-            stringRedisTemplate.opsForList().trim(key, 0, maxLimit - 1);
-            stringRedisTemplate.expire(key, recentTtl);
         } catch (RuntimeException ex) {
             log.warn(
-                    "Failed to update recent viewed listings [sessionHash={}, listingId={}]",
-                    maskSessionId(sessionId),
+                    "Failed to update recent viewed listings [ownerHash={}, listingId={}]",
+                    maskOwnerKey(ownerKey),
                     listingId,
                     ex
             );
@@ -74,19 +113,18 @@ public class ListingRecentViewedService {
 
     public List<ListingResponse> getRecentViewed(HttpServletRequest request, Integer limit) {
         int safeLimit = normalizeLimit(limit);
-        HttpSession session = request.getSession(false);
-        if (session == null) {
+        String ownerKey = findOwnerKey(request);
+        if (ownerKey == null) {
             return List.of();
         }
 
-        String sessionId = session.getId();
-        String key = toKey(sessionId);
+        String key = toKey(ownerKey);
 
         List<String> rawIds;
         try {
             rawIds = stringRedisTemplate.opsForList().range(key, 0, safeLimit - 1);
         } catch (RuntimeException ex) {
-            log.warn("Failed to read recent viewed listings [sessionHash={}]", maskSessionId(sessionId), ex);
+            log.warn("Failed to read recent viewed listings [ownerHash={}]", maskOwnerKey(ownerKey), ex);
             return List.of();
         }
 
@@ -103,7 +141,8 @@ public class ListingRecentViewedService {
             return List.of();
         }
 
-        List<ListingResponse> responses = listingService.getVisibleSummariesByIdsInOrder(orderedIds);
+        List<ListingResponse> responses =
+                listingSummaryCache.getAllInOrder(orderedIds, listingService::getVisibleSummariesByIdsInOrder);
         pruneInvalidIds(key, rawIds, responses);
         return responses;
     }
@@ -116,12 +155,20 @@ public class ListingRecentViewedService {
         return Math.min(requestedLimit, maxLimit);
     }
 
-    private String toKey(String sessionId) {
-        return RECENT_KEY_PREFIX + sessionId;
+    private String findOwnerKey(HttpServletRequest request) {
+        if (keySource == KeySource.ACTOR) {
+            return analyticsService.findActorKey(request);
+        }
+        HttpSession session = request.getSession(false);
+        return session == null ? null : session.getId();
+    }
+
+    private String toKey(String ownerKey) {
+        return RECENT_KEY_PREFIX + ownerKey;
     }
 
-    private String toDebounceKey(String sessionId, Long listingId) {
-        return DEBOUNCE_KEY_PREFIX + sessionId + ":" + listingId;
+    private String toDebounceKey(String ownerKey, Long listingId) {
+        return DEBOUNCE_KEY_PREFIX + ownerKey + ":" + listingId;
     }
 
     private Long parseLongOrNull(String value) {
@@ -138,22 +185,34 @@ public class ListingRecentViewedService {
                 .filter(Objects::nonNull)
                 .collect(java.util.stream.Collectors.toSet());
 
-        for (String rawId : rawIds) {
-            Long parsedId = parseLongOrNull(rawId);
-            if (parsedId == null || !validIds.contains(parsedId)) {
-                try {
-                    stringRedisTemplate.opsForList().remove(key, 0, rawId);
-                } catch (RuntimeException ex) {
-                    log.warn("Failed to prune invalid recent viewed id [value={}]", rawId, ex);
+        List<String> invalidRawIds = rawIds.stream()
+                .filter(rawId -> {
+                    Long parsedId = parseLongOrNull(rawId);
+                    return parsedId == null || !validIds.contains(parsedId);
+                })
+                .distinct()
+                .toList();
+        if (invalidRawIds.isEmpty()) {
+            return;
+        }
+
+        byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (String rawId : invalidRawIds) {
+                    connection.listCommands().lRem(rawKey, 0, rawId.getBytes(StandardCharsets.UTF_8));
                 }
-            }
+                return null;
+            });
+        } catch (RuntimeException ex) {
+            log.warn("Failed to prune invalid recent viewed ids [values={}]", invalidRawIds, ex);
         }
     }
 
-    private String maskSessionId(String sessionId) {
+    private String maskOwnerKey(String ownerKey) {
         try {
             MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
-            byte[] digest = messageDigest.digest(sessionId.getBytes(StandardCharsets.UTF_8));
+            byte[] digest = messageDigest.digest(ownerKey.getBytes(StandardCharsets.UTF_8));
             StringBuilder builder = new StringBuilder();
             for (int i = 0; i < 6 && i < digest.length; i++) {
                 builder.append(String.format("%02x", digest[i]));
@@ -173,4 +232,13 @@ public class ListingRecentViewedService {
         }
         return request.getSession(true);
     }
+
+    /**
+     * SESSION keys history by the servlet session id; ACTOR keys it by the analytics anon_id cookie,
+     * so no HttpSession is allocated and any instance can serve the request.
+     */
+    public enum KeySource {
+        SESSION,
+        ACTOR
+    }
 }
@@ -7,6 +7,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
+import java.util.Optional;
+import panda.listing.enums.RoomType;
 
 public interface ListingRepository extends JpaRepository<Listing, Long> {
     List<Listing> findAllByOrderByUpdatedAtDesc();
@@ -14,6 +16,39 @@ public interface ListingRepository extends JpaRepository<Listing, Long> {
     List<Listing> findByAddressContainingIgnoreCaseOrderByUpdatedAtDesc(String address);
     List<Listing> findByIdInAndSoldFalse(List<Long> ids);
 
+    @Query("SELECT l.id FROM Listing l")
+    List<Long> findAllIds();
+
+    @Query("SELECT l.address FROM Listing l WHERE l.id = :id")
+    Optional<String> findAddressById(@Param("id") Long id);
+
+    interface SimilarityFeatureRow {
+
+        Long getId();
+
+        RoomType getRoomType();
+
+        Long getDeposit();
+
+        Long getMonthlyRent();
+
+        Double getLatitude();
+
+        Double getLongitude();
+    }
+
+    @Query("""
+            SELECT l.id AS id,
+                   l.roomType AS roomType,
+                   l.deposit AS deposit,
+                   l.monthlyRent AS monthlyRent,
+                   l.latitude AS latitude,
+                   l.longitude AS longitude
+            FROM Listing l
+            WHERE l.sold = false
+            """)
+    List<SimilarityFeatureRow> findUnsoldSimilarityFeatures();
+
     @Modifying
     @Transactional
     @Query("""
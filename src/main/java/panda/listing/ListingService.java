@@ -1,24 +1,32 @@
 package panda.listing;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import panda.image.ImageRepository;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.server.ResponseStatusException;
 import panda.image.Image;
 import panda.image.ImageStorageService;
 import panda.listing.dto.*;
 import panda.listing.enums.MoveInType;
 
+/**
+ * Outbound calls (NCP geocoding, S3 deletes) run outside the write transactions, so a slow upstream
+ * never holds a pooled connection: writes are wrapped in {@link TransactionTemplate} blocks that start
+ * only after geocoding and finish before any S3 delete.
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class ListingService {
 
     private static final DateTimeFormatter MOVE_IN_DATE_FORMATTER = DateTimeFormatter.BASIC_ISO_DATE;
@@ -27,12 +35,43 @@ public class ListingService {
     private final GeocodingService geocodingService;
     private final ImageStorageService imageStorageService;
     private final ImageRepository imageRepository;
+    private final ListingIdRegistry listingIdRegistry;
+    private final ListingSummaryCache listingSummaryCache;
+    private final Timer geocodingSuccessTimer;
+    private final Timer geocodingFailureTimer;
+    private final TransactionTemplate transactionTemplate;
+    private final ListingLedgerAutofill listingLedgerAutofill;
+
+    public ListingService(
+            ListingRepository listingRepository,
+            GeocodingService geocodingService,
+            ImageStorageService imageStorageService,
+            ImageRepository imageRepository,
+            ListingIdRegistry listingIdRegistry,
+            ListingSummaryCache listingSummaryCache,
+            MeterRegistry meterRegistry,
+            TransactionTemplate transactionTemplate,
+            ListingLedgerAutofill listingLedgerAutofill
+    ) {
+        this.listingRepository = listingRepository;
+        this.geocodingService = geocodingService;
+        this.imageStorageService = imageStorageService;
+        this.imageRepository = imageRepository;
+        this.listingIdRegistry = listingIdRegistry;
+        this.listingSummaryCache = listingSummaryCache;
+        this.geocodingSuccessTimer = meterRegistry.timer("listing.geocoding", "outcome", "success");
+        this.geocodingFailureTimer = meterRegistry.timer("listing.geocoding", "outcome", "failure");
+        this.transactionTemplate = transactionTemplate;
+        this.listingLedgerAutofill = listingLedgerAutofill;
+    }
 
-    @Transactional
     public CreateListingResponse create(CreateListingRequest request) {
-        Coordinate coordinate = geocodingService.convertAddressToCoordinate(request.address());
         LocalDate moveInDate = request.moveInDate();
         validateMoveInCombination(request.moveInType(), moveInDate);
+        List<String> imagePaths = normalizeRequestedImagePaths(request.imagePaths());
+        ListingLedgerAutofill.Prefetch prefetchedLedger = listingLedgerAutofill.prefetch(request.buildingLedger());
+        Coordinate coordinate = geocodeOrCancel(request.address(), prefetchedLedger);
+        ListingLedgerAutofill.LedgerFacts ledger = listingLedgerAutofill.await(prefetchedLedger);
 
         Listing listing = Listing.builder()
                 .address(request.address().trim())
@@ -46,11 +85,11 @@ public class ListingService {
                 .moveInDate(moveInDate)
                 .deposit(request.deposit())
                 .monthlyRent(request.monthlyRent())
-                .exclusivityArea(request.exclusivityArea())
-                .useAprDay(request.useAprDay())
-                .totalFloors(request.totalFloors())
+                .exclusivityArea(firstNonNull(request.exclusivityArea(), ledger.exclusivityArea()))
+                .useAprDay(firstNonNull(request.useAprDay(), ledger.useAprDay()))
+                .totalFloors(firstNonNull(request.totalFloors(), ledger.totalFloors()))
                 .currentFloor(request.currentFloor())
-                .parkingCount(request.parkingCount())
+                .parkingCount(firstNonNull(request.parkingCount(), ledger.parkingCount()))
                 .maintenanceFee(request.maintenanceFee())
                 .loanStatus(request.loanStatus())
                 .illegalBuildingStatus(request.illegalBuildingStatus())
@@ -62,9 +101,13 @@ public class ListingService {
                 .moveInType(request.moveInType())
                 .build();
 
-        Listing saved = listingRepository.save(listing);
-        normalizeRequestedImagePaths(request.imagePaths()).forEach(saved::addImagePath);
-        return new CreateListingResponse(saved.getId(), saved.getCreatedAt());
+        CreateListingResponse response = transactionTemplate.execute(status -> {
+            Listing saved = listingRepository.save(listing);
+            imagePaths.forEach(saved::addImagePath);
+            return new CreateListingResponse(saved.getId(), saved.getCreatedAt());
+        });
+        listingIdRegistry.register(response.id());
+        return response;
     }
 
     @Transactional(readOnly = true)
@@ -111,22 +154,71 @@ public class ListingService {
         return toDetailResponse(listing);
     }
 
-    @Transactional
+    /**
+     * The listing is looked up before any ledger or geocoding call starts, so a 404 costs no upstream work.
+     */
     public void patch(Long id, UpdateListingRequest request) {
+        String requestedAddress = null;
+        if (request.address() != null) {
+            if (request.address().isBlank()) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Address must not be blank");
+            }
+            requestedAddress = request.address().trim();
+        }
+        String currentAddress = null;
+        if (requestedAddress != null || request.buildingLedger() != null) {
+            currentAddress = listingRepository.findAddressById(id)
+                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Listing not found: " + id));
+        }
+
+        ListingLedgerAutofill.Prefetch prefetchedLedger = listingLedgerAutofill.prefetch(request.buildingLedger());
+        Coordinate changedCoordinate = null;
+        if (requestedAddress != null && !requestedAddress.equals(currentAddress)) {
+            changedCoordinate = geocodeOrCancel(requestedAddress, prefetchedLedger);
+        }
+
+        ListingLedgerAutofill.LedgerFacts ledger = listingLedgerAutofill.await(prefetchedLedger);
+
+        String address = requestedAddress;
+        Coordinate coordinate = changedCoordinate;
+        List<String> removedImagePaths = transactionTemplate.execute(
+                status -> applyPatch(id, request, address, coordinate, ledger)
+        );
+        deleteStoredImages(id, removedImagePaths);
+        listingSummaryCache.evict(id);
+    }
+
+    private Coordinate geocodeOrCancel(String address, ListingLedgerAutofill.Prefetch prefetchedLedger) {
+        try {
+            return geocode(address);
+        } catch (RuntimeException ex) {
+            listingLedgerAutofill.cancel(prefetchedLedger);
+            throw ex;
+        }
+    }
+
+    /**
+     * Ledger facts only fill fields that neither the request nor the stored listing provide.
+     */
+    private List<String> applyPatch(
+            Long id,
+            UpdateListingRequest request,
+            String requestedAddress,
+            Coordinate coordinate,
+            ListingLedgerAutofill.LedgerFacts ledger
+    ) {
         Listing listing = findByIdOrThrow(id);
 
         String address = listing.getAddress();
         Double latitude = listing.getLatitude();
         Double longitude = listing.getLongitude();
 
-        if (request.address() != null) {
-            if (request.address().isBlank()) {
-                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Address must not be blank");
+        if (requestedAddress != null) {
+            if (coordinate == null && !requestedAddress.equals(listing.getAddress())) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "Listing address changed concurrently: " + id);
             }
-            String trimmedAddress = request.address().trim();
-            address = trimmedAddress;
-            if (!trimmedAddress.equals(listing.getAddress())) {
-                Coordinate coordinate = geocodingService.convertAddressToCoordinate(trimmedAddress);
+            address = requestedAddress;
+            if (coordinate != null) {
                 latitude = coordinate.latitude();
                 longitude = coordinate.longitude();
             }
@@ -151,11 +243,11 @@ public class ListingService {
                 moveInDate,
                 request.deposit() != null ? request.deposit() : listing.getDeposit(),
                 request.monthlyRent() != null ? request.monthlyRent() : listing.getMonthlyRent(),
-                request.exclusivityArea() != null ? request.exclusivityArea() : listing.getExclusivityArea(),
-                request.useAprDay() != null ? request.useAprDay() : listing.getUseAprDay(),
-                request.totalFloors() != null ? request.totalFloors() : listing.getTotalFloors(),
+                firstNonNull(request.exclusivityArea(), listing.getExclusivityArea(), ledger.exclusivityArea()),
+                firstNonNull(request.useAprDay(), listing.getUseAprDay(), ledger.useAprDay()),
+                firstNonNull(request.totalFloors(), listing.getTotalFloors(), ledger.totalFloors()),
                 request.currentFloor() != null ? request.currentFloor() : listing.getCurrentFloor(),
-                request.parkingCount() != null ? request.parkingCount() : listing.getParkingCount(),
+                firstNonNull(request.parkingCount(), listing.getParkingCount(), ledger.parkingCount()),
                 request.maintenanceFee() != null ? request.maintenanceFee() : listing.getMaintenanceFee(),
                 request.loanStatus() != null ? request.loanStatus() : listing.getLoanStatus(),
                 request.illegalBuildingStatus() != null ? request.illegalBuildingStatus() : listing.getIllegalBuildingStatus(),
@@ -167,27 +259,25 @@ public class ListingService {
                 request.description() != null ? request.description() : listing.getDescription()
         );
 
-        syncExistingImages(listing, request.imagePaths());
+        return syncExistingImages(listing, request.imagePaths());
     }
 
-    @Transactional
     public void delete(Long id) {
-        existByIdOrThrow(id);
-        List<String> imagePaths = imageRepository.findImagePathsByListingId(id);
-        imageStorageService.delete(imagePaths);
-        imageRepository.deleteByListingId(id);
-        listingRepository.deleteById(id);
+        List<String> imagePaths = transactionTemplate.execute(status -> {
+            existByIdOrThrow(id);
+            List<String> paths = imageRepository.findImagePathsByListingId(id);
+            imageRepository.deleteByListingId(id);
+            listingRepository.deleteById(id);
+            return paths;
+        });
+        listingIdRegistry.unregister(id);
+        listingSummaryCache.evict(id);
+        deleteStoredImages(id, imagePaths);
     }
 
-    @Transactional
     public void patchSold(Long id, UpdateListingSoldRequest request) {
-        Listing listing = findByIdOrThrow(id);
-        listing.updateSold(request.sold());
-    }
-
-    @Transactional(readOnly = true)
-    public void ensureExists(Long id) {
-        existByIdOrThrow(id);
+        transactionTemplate.executeWithoutResult(status -> findByIdOrThrow(id).updateSold(request.sold()));
+        listingSummaryCache.evict(id);
     }
 
     @Transactional(readOnly = true)
@@ -206,7 +296,17 @@ public class ListingService {
                 .toList();
     }
 
-    private void validateMoveInCombination(MoveInType moveInType, LocalDate moveInDate) {
+    @SafeVarargs
+    private static <T> T firstNonNull(T... values) {
+        for (T value : values) {
+            if (value != null) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    public static void validateMoveInCombination(MoveInType moveInType, LocalDate moveInDate) {
         if (moveInType == MoveInType.FIXED && moveInDate == null) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "moveInDate is required when moveInType is FIXED");
         }
@@ -300,9 +400,13 @@ public class ListingService {
         );
     }
 
-    private void syncExistingImages(Listing listing, List<String> requestedImagePaths) {
+    /**
+     * Applies the requested image order and returns the stored paths that were dropped,
+     * so the caller can delete them from S3 once the transaction has committed.
+     */
+    private List<String> syncExistingImages(Listing listing, List<String> requestedImagePaths) {
         if (requestedImagePaths == null) {
-            return;
+            return List.of();
         }
 
         List<String> normalizedRequestedPaths = normalizeRequestedImagePaths(requestedImagePaths);
@@ -313,9 +417,6 @@ public class ListingService {
         List<String> pathsToDelete = existingByPath.keySet().stream()
                 .filter(path -> !orderedRequestedPaths.contains(path))
                 .toList();
-        if (!pathsToDelete.isEmpty()) {
-            imageStorageService.delete(pathsToDelete);
-        }
 
         listing.getImages().removeIf(image -> !orderedRequestedPaths.contains(image.getImagePath()));
         orderedRequestedPaths.stream()
@@ -331,5 +432,29 @@ public class ListingService {
             int rightOrder = order.getOrDefault(right.getImagePath(), Integer.MAX_VALUE);
             return Integer.compare(leftOrder, rightOrder);
         });
+        return pathsToDelete;
+    }
+
+    private void deleteStoredImages(Long listingId, List<String> imagePaths) {
+        if (imagePaths == null || imagePaths.isEmpty()) {
+            return;
+        }
+        try {
+            imageStorageService.delete(imagePaths);
+        } catch (RuntimeException ex) {
+            log.warn("Failed to delete listing images from S3 [listingId={}, paths={}]", listingId, imagePaths, ex);
+        }
+    }
+
+    private Coordinate geocode(String address) {
+        long startedAt = System.nanoTime();
+        Timer timer = geocodingFailureTimer;
+        try {
+            Coordinate coordinate = geocodingService.convertAddressToCoordinate(address);
+            timer = geocodingSuccessTimer;
+            return coordinate;
+        } finally {
+            timer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
     }
 }
@@ -0,0 +1,68 @@
+package panda.listing;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import panda.common.ExpiringLruCache;
+import panda.listing.dto.ListingResponse;
+
+@Component
+public class ListingSummaryCache {
+
+    private final ExpiringLruCache<Long, ListingResponse> cache;
+
+    public ListingSummaryCache(
+            @Value("${app.listing.summary-cache.max-size:10000}") int maxSize,
+            @Value("${app.listing.summary-cache.ttl-seconds:60}") long ttlSeconds
+    ) {
+        this.cache = new ExpiringLruCache<>(maxSize, Duration.ofSeconds(ttlSeconds));
+    }
+
+    public ListingResponse get(Long id) {
+        return cache.get(id);
+    }
+
+    /**
+     * Resolves summaries in the given id order, loading only cache misses through one loader call.
+     */
+    public List<ListingResponse> getAllInOrder(List<Long> ids, Function<List<Long>, List<ListingResponse>> loader) {
+        Map<Long, ListingResponse> responseById = new HashMap<>();
+        List<Long> missedIds = new ArrayList<>();
+        for (Long id : ids) {
+            ListingResponse cached = cache.get(id);
+            if (cached != null) {
+                responseById.put(id, cached);
+            } else {
+                missedIds.add(id);
+            }
+        }
+
+        if (!missedIds.isEmpty()) {
+            for (ListingResponse loaded : loader.apply(missedIds)) {
+                put(loaded);
+                responseById.put(loaded.id(), loaded);
+            }
+        }
+
+        return ids.stream()
+                .map(responseById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    public void put(ListingResponse response) {
+        if (response != null && response.id() != null) {
+            cache.put(response.id(), response);
+        }
+    }
+
+    public void evict(Long id) {
+        cache.invalidate(id);
+    }
+}
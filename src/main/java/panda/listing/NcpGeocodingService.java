@@ -1,19 +1,26 @@
 package panda.listing;
 
 import java.util.List;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Fallback;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.RestClientException;
 
+/**
+ * Remote NCP geocoder. Marked {@link Fallback} so {@link GeocodingService} injection points receive
+ * {@link CachingGeocodingService}, which wraps this bean.
+ */
 @Service
+@Fallback
 public class NcpGeocodingService implements GeocodingService {
 
     private final RestClient restClient;
     private final boolean hasApiKeys;
 
     public NcpGeocodingService(
-            RestClient.Builder restClientBuilder,
+            @Qualifier("ncpRestClientBuilder") RestClient.Builder restClientBuilder,
             @Value("${app.geocoding.ncp.base-url:https://maps.apigw.ntruss.com}") String baseUrl,
             @Value("${app.geocoding.ncp.api-key-id:}") String apiKeyId,
             @Value("${app.geocoding.ncp.api-key:}") String apiKey
@@ -0,0 +1,94 @@
+package panda.listing.bulk;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal RFC 4180 reader: comma separated, double-quoted fields may contain commas, line breaks and
+ * doubled quotes. Reads one record at a time from the underlying reader, so memory is bounded by the
+ * longest record rather than the upload.
+ */
+final class CsvRecordReader {
+
+    static final int MAX_RECORD_LENGTH = 64 * 1024;
+
+    private static final int EOF = -1;
+
+    private final Reader reader;
+    private int pending = EOF;
+    private boolean started;
+
+    CsvRecordReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * @return the next record's fields, or {@code null} at end of input
+     */
+    List<String> next() throws IOException {
+        int ch = read();
+        if (!started) {
+            started = true;
+            if (ch == '\uFEFF') {
+                ch = read();
+            }
+        }
+        if (ch == EOF) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        int recordLength = 0;
+        boolean quoted = false;
+        while (true) {
+            if (++recordLength > MAX_RECORD_LENGTH) {
+                throw new IOException("CSV record exceeds " + MAX_RECORD_LENGTH + " characters");
+            }
+            if (quoted) {
+                if (ch == EOF) {
+                    throw new IOException("Unterminated quoted CSV field");
+                }
+                if (ch == '"') {
+                    int following = read();
+                    if (following == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        pending = following;
+                    }
+                } else {
+                    field.append((char) ch);
+                }
+            } else if (ch == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (ch == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (ch == '\r' || ch == '\n' || ch == EOF) {
+                if (ch == '\r') {
+                    int following = read();
+                    if (following != '\n') {
+                        pending = following;
+                    }
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) ch);
+            }
+            ch = read();
+        }
+    }
+
+    private int read() throws IOException {
+        if (pending != EOF) {
+            int ch = pending;
+            pending = EOF;
+            return ch;
+        }
+        return reader.read();
+    }
+}
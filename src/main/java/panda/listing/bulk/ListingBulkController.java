@@ -0,0 +1,49 @@
+package panda.listing.bulk;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import panda.listing.dto.ListingImportResponse;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/listings/admin/bulk")
+public class ListingBulkController {
+
+    private final ListingBulkImporter listingBulkImporter;
+    private final ListingBulkExporter listingBulkExporter;
+
+    /**
+     * Reads the raw request body (not multipart), so the upload is parsed as it arrives instead of
+     * being buffered to memory or a temporary file first. Every valid row becomes a new listing; ids in
+     * the upload are ignored.
+     */
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson", ListingBulkFormat.JSONL_ALIAS})
+    public ListingImportResponse importListings(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            HttpServletRequest request
+    ) throws IOException {
+        return listingBulkImporter.importListings(request.getInputStream(), ListingBulkFormat.fromContentType(contentType));
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(defaultValue = "CSV") ListingBulkFormat format) {
+        return ResponseEntity.ok()
+                .contentType(format.mediaType())
+                .header(
+                        HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename("listings." + format.extension()).build().toString()
+                )
+                .body(outputStream -> listingBulkExporter.export(outputStream, format));
+    }
+}
@@ -0,0 +1,246 @@
+package panda.listing.bulk;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import panda.listing.LoanProductListConverter;
+import panda.listing.enums.LoanProduct;
+
+/**
+ * Writes every listing in id order straight to the response stream. Rows are read with keyset
+ * pagination ({@code id > lastId ORDER BY id LIMIT n}), so each query is an index range scan and at most
+ * one page of rows is in flight; the output is flushed after every page. Column names match the import
+ * format, so an export can be edited and imported again. CSV text cells that a spreadsheet would read as a
+ * formula ({@code = + - @}) are prefixed with {@code '}; the importer strips that prefix again.
+ */
+@Slf4j
+@Component
+public class ListingBulkExporter {
+
+    private static final List<Column> COLUMNS = List.of(
+            new Column("id", "id", Type.NUMBER),
+            new Column("address", "address", Type.TEXT),
+            new Column("note", "note", Type.TEXT),
+            new Column("parking", "parking", Type.TEXT),
+            new Column("elevator", "elevator", Type.TEXT),
+            new Column("pet", "pet", Type.TEXT),
+            new Column("contractType", "contract_type", Type.TEXT),
+            new Column("roomType", "room_type", Type.TEXT),
+            new Column("loanProducts", "loan_product", Type.LOAN_PRODUCTS),
+            new Column("moveInDate", "move_in_date", Type.DATE),
+            new Column("deposit", "deposit", Type.NUMBER),
+            new Column("monthlyRent", "monthly_rent", Type.NUMBER),
+            new Column("sold", "sold", Type.BOOLEAN),
+            new Column("hotProperty", "hot_property", Type.BOOLEAN),
+            new Column("moveInType", "move_in_type", Type.TEXT),
+            new Column("exclusivityArea", "exclusivity_area", Type.NUMBER),
+            new Column("useAprDay", "use_apr_day", Type.DATE),
+            new Column("totalFloors", "total_floors", Type.NUMBER),
+            new Column("currentFloor", "current_floor", Type.NUMBER),
+            new Column("parkingCount", "parking_count", Type.NUMBER),
+            new Column("maintenanceFee", "maintenance_fee", Type.NUMBER),
+            new Column("loanStatus", "loan_status", Type.TEXT),
+            new Column("illegalBuildingStatus", "illegal_building_status", Type.TEXT),
+            new Column("description", "description", Type.TEXT),
+            new Column("latitude", "latitude", Type.NUMBER),
+            new Column("longitude", "longitude", Type.NUMBER),
+            new Column("createdAt", "created_at", Type.DATETIME),
+            new Column("updatedAt", "updated_at", Type.DATETIME)
+    );
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+    private static final char FORMULA_GUARD = '\'';
+    private static final String SELECT_PAGE_SQL = "SELECT "
+            + COLUMNS.stream().map(Column::sqlName).collect(Collectors.joining(", "))
+            + " FROM listings WHERE id > ? ORDER BY id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final LoanProductListConverter loanProductListConverter = new LoanProductListConverter();
+    private final int pageSize;
+
+    public ListingBulkExporter(
+            JdbcTemplate jdbcTemplate,
+            ObjectMapper objectMapper,
+            @Value("${app.listing.bulk.export-page-size:1000}") int pageSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.pageSize = Math.max(1, pageSize);
+    }
+
+    public void export(OutputStream outputStream, ListingBulkFormat format) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        JsonGenerator generator = null;
+        if (format == ListingBulkFormat.CSV) {
+            writeCsvHeader(writer);
+        } else {
+            generator = objectMapper.getFactory()
+                    .createGenerator(writer)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        }
+
+        long lastId = 0L;
+        long exported = 0L;
+        while (true) {
+            PageCursor cursor = new PageCursor();
+            JsonGenerator jsonGenerator = generator;
+            try {
+                jdbcTemplate.query(SELECT_PAGE_SQL, rs -> {
+                    try {
+                        if (jsonGenerator == null) {
+                            writeCsvRow(writer, rs);
+                        } else {
+                            writeJsonRow(jsonGenerator, rs);
+                        }
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                    cursor.lastId = rs.getLong("id");
+                    cursor.rows++;
+                }, lastId, pageSize);
+            } catch (UncheckedIOException ex) {
+                throw ex.getCause();
+            }
+            if (generator != null) {
+                generator.flush();
+            }
+            writer.flush();
+
+            exported += cursor.rows;
+            if (cursor.rows < pageSize) {
+                break;
+            }
+            lastId = cursor.lastId;
+        }
+        log.info("Listing bulk export finished [format={}, rows={}]", format, exported);
+    }
+
+    private void writeCsvHeader(Writer writer) throws IOException {
+        writer.write(COLUMNS.stream().map(Column::name).collect(Collectors.joining(",")));
+        writer.write("\r\n");
+    }
+
+    private void writeCsvRow(Writer writer, ResultSet rs) throws SQLException, IOException {
+        for (int i = 0; i < COLUMNS.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Column column = COLUMNS.get(i);
+            String value = column.type() == Type.LOAN_PRODUCTS
+                    ? loanProducts(rs, column).stream().map(Enum::name).collect(Collectors.joining("|"))
+                    : scalar(rs, column);
+            if (value != null && column.type() == Type.TEXT) {
+                value = neutralizeFormula(value);
+            }
+            if (value != null) {
+                writer.write(escapeCsv(value));
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    private void writeJsonRow(JsonGenerator generator, ResultSet rs) throws SQLException, IOException {
+        generator.writeStartObject();
+        for (Column column : COLUMNS) {
+            generator.writeFieldName(column.name());
+            if (column.type() == Type.LOAN_PRODUCTS) {
+                generator.writeStartArray();
+                for (LoanProduct product : loanProducts(rs, column)) {
+                    generator.writeString(product.name());
+                }
+                generator.writeEndArray();
+                continue;
+            }
+            String value = scalar(rs, column);
+            if (value == null) {
+                generator.writeNull();
+            } else if (column.type() == Type.NUMBER) {
+                generator.writeNumber(value);
+            } else if (column.type() == Type.BOOLEAN) {
+                generator.writeBoolean(Boolean.parseBoolean(value));
+            } else {
+                generator.writeString(value);
+            }
+        }
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    private String scalar(ResultSet rs, Column column) throws SQLException {
+        return switch (column.type()) {
+            case TEXT, NUMBER -> rs.getString(column.sqlName());
+            case BOOLEAN -> {
+                boolean value = rs.getBoolean(column.sqlName());
+                yield rs.wasNull() ? null : Boolean.toString(value);
+            }
+            case DATE -> {
+                LocalDate value = rs.getObject(column.sqlName(), LocalDate.class);
+                yield value == null ? null : value.toString();
+            }
+            case DATETIME -> {
+                LocalDateTime value = rs.getObject(column.sqlName(), LocalDateTime.class);
+                yield value == null ? null : value.toString();
+            }
+            case LOAN_PRODUCTS -> throw new IllegalArgumentException("loanProducts is not a scalar column");
+        };
+    }
+
+    private List<LoanProduct> loanProducts(ResultSet rs, Column column) throws SQLException {
+        return loanProductListConverter.convertToEntityAttribute(rs.getString(column.sqlName()));
+    }
+
+    static String escapeCsv(String value) {
+        boolean needsQuotes = value.indexOf(',') >= 0
+                || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0
+                || value.indexOf('\r') >= 0;
+        return needsQuotes ? '"' + value.replace("\"", "\"\"") + '"' : value;
+    }
+
+    /**
+     * Numbers are not passed through here, so negative values stay numeric.
+     */
+    static String neutralizeFormula(String value) {
+        return !value.isEmpty() && FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0 ? FORMULA_GUARD + value : value;
+    }
+
+    static String restoreFormula(String value) {
+        return value.length() > 1 && value.charAt(0) == FORMULA_GUARD && FORMULA_PREFIXES.indexOf(value.charAt(1)) >= 0
+                ? value.substring(1)
+                : value;
+    }
+
+    private record Column(String name, String sqlName, Type type) {
+    }
+
+    private enum Type {
+        TEXT,
+        NUMBER,
+        BOOLEAN,
+        DATE,
+        DATETIME,
+        LOAN_PRODUCTS
+    }
+
+    private static final class PageCursor {
+
+        private long lastId;
+        private int rows;
+    }
+}
@@ -0,0 +1,47 @@
+package panda.listing.bulk;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.web.server.ResponseStatusException;
+
+public enum ListingBulkFormat {
+    CSV("text/csv", "csv"),
+    JSONL("application/x-ndjson", "jsonl");
+
+    static final String JSONL_ALIAS = "application/jsonl";
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    ListingBulkFormat(String mediaType, String extension) {
+        this.mediaType = MediaType.parseMediaType(mediaType);
+        this.extension = extension;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    public static ListingBulkFormat fromContentType(String contentType) {
+        try {
+            MediaType requested = MediaType.parseMediaType(contentType);
+            if (CSV.mediaType.isCompatibleWith(requested)) {
+                return CSV;
+            }
+            if (JSONL.mediaType.isCompatibleWith(requested) || MediaType.parseMediaType(JSONL_ALIAS).isCompatibleWith(requested)) {
+                return JSONL;
+            }
+        } catch (InvalidMediaTypeException ignored) {
+            // Reported as unsupported below.
+        }
+        throw new ResponseStatusException(
+                HttpStatus.UNSUPPORTED_MEDIA_TYPE,
+                "Bulk import accepts text/csv or application/x-ndjson: " + contentType
+        );
+    }
+}
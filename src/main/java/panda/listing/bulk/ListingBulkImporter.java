@@ -0,0 +1,425 @@
+package panda.listing.bulk;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+import panda.listing.Coordinate;
+import panda.listing.ListingIdRegistry;
+import panda.listing.ListingService;
+import panda.listing.LoanProductListConverter;
+import panda.listing.dto.CreateListingRequest;
+import panda.listing.dto.ListingImportResponse;
+import panda.listing.enums.MoveInType;
+import panda.listing.geocoding.BulkGeocoder;
+
+/**
+ * Streams a CSV or JSON Lines upload row by row. Rows are parsed and validated like
+ * {@code POST /api/v1/listings}, collected into chunks, geocoded per chunk through {@link BulkGeocoder}
+ * (so repeated addresses and cached coordinates never reach NCP twice) and written with one JDBC
+ * batch per chunk. Invalid rows are reported with their row number and skipped; valid rows are kept.
+ *
+ * <p>Import only creates listings: an {@code id} column is ignored and every valid row is inserted as a
+ * new listing, so importing an unchanged export a second time duplicates it. Edit existing listings
+ * through {@code PATCH /api/v1/listings/{id}} instead.
+ */
+@Slf4j
+@Component
+public class ListingBulkImporter {
+
+    private static final MoveInType DEFAULT_MOVE_IN_TYPE = MoveInType.FIXED;
+    private static final Set<String> IMPORT_COLUMNS = Set.copyOf(ListingImportRowMapper.COLUMNS);
+    private static final String INSERT_SQL = """
+            INSERT INTO listings (address, note, description, parking, elevator, pet, contract_type, room_type,
+                loan_product, move_in_date, deposit, monthly_rent, exclusivity_area, use_apr_day, total_floors,
+                current_floor, parking_count, maintenance_fee, loan_status, illegal_building_status, sold,
+                hot_property, recently_registered, view_count, latitude, longitude, created_at, updated_at,
+                move_in_type)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, TRUE, 0, ?, ?, ?, ?, ?)
+            """;
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final BulkGeocoder bulkGeocoder;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ListingIdRegistry listingIdRegistry;
+    private final LoanProductListConverter loanProductListConverter = new LoanProductListConverter();
+    private final int chunkSize;
+    private final int maxReportedErrors;
+
+    public ListingBulkImporter(
+            ObjectMapper objectMapper,
+            Validator validator,
+            BulkGeocoder bulkGeocoder,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            ListingIdRegistry listingIdRegistry,
+            @Value("${app.listing.bulk.chunk-size:500}") int chunkSize,
+            @Value("${app.listing.bulk.max-reported-errors:1000}") int maxReportedErrors
+    ) {
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.bulkGeocoder = bulkGeocoder;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.listingIdRegistry = listingIdRegistry;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.maxReportedErrors = Math.max(0, maxReportedErrors);
+    }
+
+    public ListingImportResponse importListings(InputStream body, ListingBulkFormat format) {
+        ImportProgress progress = new ImportProgress(maxReportedErrors);
+        List<PendingRow> chunk = new ArrayList<>(chunkSize);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            RowSource source = format == ListingBulkFormat.CSV ? new CsvRowSource(reader) : new JsonLinesRowSource(reader);
+            ParsedRow row;
+            while ((row = readRow(source, progress)) != null) {
+                progress.totalRows++;
+                String error = row.error() != null ? row.error() : validate(row.request());
+                if (error != null) {
+                    progress.fail(row.rowNumber(), error);
+                    continue;
+                }
+                chunk.add(new PendingRow(row.rowNumber(), row.request()));
+                if (chunk.size() >= chunkSize) {
+                    insertChunk(chunk, progress);
+                    chunk.clear();
+                }
+            }
+            insertChunk(chunk, progress);
+        } catch (IOException ex) {
+            log.warn("Failed to close bulk import body", ex);
+        } finally {
+            if (progress.importedRows > 0) {
+                listingIdRegistry.refresh();
+            }
+        }
+        log.info(
+                "Listing bulk import finished [format={}, total={}, imported={}, failed={}]",
+                format,
+                progress.totalRows,
+                progress.importedRows,
+                progress.failedRows
+        );
+        return progress.toResponse();
+    }
+
+    /**
+     * A malformed stream (e.g. an unterminated CSV quote) ends the import at that point; rows already
+     * inserted are kept and the failure is reported against the row being read.
+     */
+    private ParsedRow readRow(RowSource source, ImportProgress progress) {
+        try {
+            return source.next();
+        } catch (IOException ex) {
+            progress.totalRows++;
+            progress.fail(source.rowNumber(), "Unreadable input, import stopped: " + ex.getMessage());
+            return null;
+        }
+    }
+
+    private String validate(CreateListingRequest request) {
+        Set<ConstraintViolation<CreateListingRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+        }
+        try {
+            ListingService.validateMoveInCombination(moveInType(request), request.moveInDate());
+        } catch (ResponseStatusException ex) {
+            return ex.getReason();
+        }
+        return null;
+    }
+
+    private void insertChunk(List<PendingRow> chunk, ImportProgress progress) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        BulkGeocoder.Result geocoded = bulkGeocoder.geocode(
+                chunk.stream().map(row -> row.request().address()).toList(),
+                false
+        );
+
+        LocalDateTime now = LocalDateTime.now();
+        List<PendingRow> insertable = new ArrayList<>(chunk.size());
+        List<Object[]> batch = new ArrayList<>(chunk.size());
+        for (PendingRow row : chunk) {
+            Coordinate coordinate = geocoded.find(row.request().address());
+            if (coordinate == null) {
+                String reason = geocoded.findFailure(row.request().address());
+                progress.fail(row.rowNumber(), "Geocoding failed: " + Objects.requireNonNullElse(reason, "no result"));
+                continue;
+            }
+            insertable.add(row);
+            batch.add(toInsertArgs(row.request(), coordinate.latitude(), coordinate.longitude(), now));
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL, batch));
+            progress.importedRows += batch.size();
+        } catch (DataAccessException ex) {
+            log.warn("Listing bulk insert failed for a chunk, retrying row by row [rows={}]", batch.size(), ex);
+            insertRowByRow(insertable, batch, progress);
+        }
+    }
+
+    /**
+     * Fallback for a chunk the database rejected as a whole: each row is inserted on its own so only the
+     * rows that actually violate a column constraint are reported, and the rest of the chunk is kept.
+     */
+    private void insertRowByRow(List<PendingRow> rows, List<Object[]> batch, ImportProgress progress) {
+        for (int i = 0; i < rows.size(); i++) {
+            Object[] args = batch.get(i);
+            try {
+                jdbcTemplate.update(INSERT_SQL, args);
+                progress.importedRows++;
+            } catch (DataAccessException ex) {
+                progress.fail(rows.get(i).rowNumber(), "Insert failed: " + ex.getMostSpecificCause().getMessage());
+            }
+        }
+    }
+
+    private Object[] toInsertArgs(CreateListingRequest request, double latitude, double longitude, LocalDateTime now) {
+        return new Object[]{
+                request.address().trim(),
+                request.note(),
+                request.description(),
+                request.parking().name(),
+                request.elevator().name(),
+                request.pet().name(),
+                request.contractType().name(),
+                request.roomType().name(),
+                loanProductListConverter.convertToDatabaseColumn(request.loanProducts()),
+                request.moveInDate() == null ? null : Date.valueOf(request.moveInDate()),
+                request.deposit(),
+                request.monthlyRent(),
+                request.exclusivityArea(),
+                request.useAprDay() == null ? null : Date.valueOf(request.useAprDay()),
+                request.totalFloors(),
+                request.currentFloor(),
+                request.parkingCount(),
+                request.maintenanceFee(),
+                request.loanStatus() == null ? null : request.loanStatus().name(),
+                request.illegalBuildingStatus() == null ? null : request.illegalBuildingStatus().name(),
+                Boolean.TRUE.equals(request.sold()),
+                Boolean.TRUE.equals(request.hotProperty()),
+                latitude,
+                longitude,
+                now,
+                now,
+                moveInType(request).name()
+        };
+    }
+
+    private static MoveInType moveInType(CreateListingRequest request) {
+        return Objects.requireNonNullElse(request.moveInType(), DEFAULT_MOVE_IN_TYPE);
+    }
+
+    private static String firstLine(String message) {
+        if (message == null) {
+            return "Invalid row";
+        }
+        int newline = message.indexOf('\n');
+        return newline < 0 ? message : message.substring(0, newline);
+    }
+
+    private interface RowSource {
+
+        /**
+         * @return the next non-blank row, or {@code null} at end of input
+         */
+        ParsedRow next() throws IOException;
+
+        long rowNumber();
+    }
+
+    private final class JsonLinesRowSource implements RowSource {
+
+        private final BufferedReader reader;
+        private long lineNumber;
+
+        private JsonLinesRowSource(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public ParsedRow next() throws IOException {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    return toParsedRow(lineNumber, toValues(objectMapper.readTree(line)));
+                } catch (JsonProcessingException ex) {
+                    return new ParsedRow(lineNumber, null, "Invalid JSON: " + firstLine(ex.getOriginalMessage()));
+                } catch (IllegalArgumentException ex) {
+                    return new ParsedRow(lineNumber, null, ex.getMessage());
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public long rowNumber() {
+            return lineNumber + 1;
+        }
+
+        private Map<String, Object> toValues(JsonNode row) {
+            if (!row.isObject()) {
+                throw new IllegalArgumentException("Each line must be a JSON object");
+            }
+            Map<String, Object> values = new HashMap<>();
+            for (Map.Entry<String, JsonNode> field : row.properties()) {
+                String column = field.getKey();
+                JsonNode value = field.getValue();
+                if (value.isNull() || !(IMPORT_COLUMNS.contains(column) || ListingImportRowMapper.UNSUPPORTED_COLUMNS.contains(column))) {
+                    continue;
+                }
+                if (value.isArray()) {
+                    List<String> items = new ArrayList<>(value.size());
+                    value.forEach(item -> items.add(item.asText()));
+                    values.put(column, items);
+                } else if (value.isValueNode()) {
+                    values.put(column, value.asText());
+                } else {
+                    throw new IllegalArgumentException(column + ": expected a single value");
+                }
+            }
+            return values;
+        }
+    }
+
+    /**
+     * Header names are matched against {@link CreateListingRequest} properties; unknown columns (such as
+     * the {@code id} and coordinates of an export) are ignored. {@code loanProducts} cells hold
+     * {@code |}- or {@code ;}-separated values and empty cells mean "not set". The {@code '} an export puts
+     * in front of formula-like text is removed.
+     */
+    private final class CsvRowSource implements RowSource {
+
+        private final CsvRecordReader reader;
+        private List<String> header;
+        private long recordNumber;
+
+        private CsvRowSource(BufferedReader reader) {
+            this.reader = new CsvRecordReader(reader);
+        }
+
+        @Override
+        public ParsedRow next() throws IOException {
+            if (header == null) {
+                List<String> names = reader.next();
+                if (names == null) {
+                    return null;
+                }
+                header = names.stream().map(String::trim).toList();
+                if (!header.contains("address")) {
+                    throw new IOException("CSV header must name the listing columns " + ListingImportRowMapper.COLUMNS);
+                }
+            }
+            List<String> fields;
+            while ((fields = reader.next()) != null) {
+                recordNumber++;
+                if (fields.stream().allMatch(String::isBlank)) {
+                    continue;
+                }
+                if (fields.size() > header.size()) {
+                    return new ParsedRow(
+                            recordNumber,
+                            null,
+                            "Expected at most " + header.size() + " columns but found " + fields.size()
+                    );
+                }
+                Map<String, Object> values = new HashMap<>();
+                for (int i = 0; i < fields.size(); i++) {
+                    String value = ListingBulkExporter.restoreFormula(fields.get(i).trim());
+                    if (!value.isEmpty() && IMPORT_COLUMNS.contains(header.get(i))) {
+                        values.put(header.get(i), value);
+                    }
+                }
+                return toParsedRow(recordNumber, values);
+            }
+            return null;
+        }
+
+        @Override
+        public long rowNumber() {
+            return recordNumber + 1;
+        }
+    }
+
+    private static ParsedRow toParsedRow(long rowNumber, Map<String, Object> values) {
+        for (String column : ListingImportRowMapper.UNSUPPORTED_COLUMNS) {
+            if (values.containsKey(column)) {
+                return new ParsedRow(rowNumber, null, column + " is not supported by bulk import");
+            }
+        }
+        try {
+            return new ParsedRow(rowNumber, ListingImportRowMapper.toRequest(values), null);
+        } catch (IllegalArgumentException ex) {
+            return new ParsedRow(rowNumber, null, ex.getMessage());
+        }
+    }
+
+    private record ParsedRow(long rowNumber, CreateListingRequest request, String error) {
+    }
+
+    private record PendingRow(long rowNumber, CreateListingRequest request) {
+    }
+
+    private static final class ImportProgress {
+
+        private final int maxReportedErrors;
+        private final List<ListingImportResponse.RowError> errors = new ArrayList<>();
+        private long totalRows;
+        private long importedRows;
+        private long failedRows;
+
+        private ImportProgress(int maxReportedErrors) {
+            this.maxReportedErrors = maxReportedErrors;
+        }
+
+        private void fail(long rowNumber, String message) {
+            failedRows++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new ListingImportResponse.RowError(rowNumber, message));
+            }
+        }
+
+        private ListingImportResponse toResponse() {
+            errors.sort((left, right) -> Long.compare(left.row(), right.row()));
+            return new ListingImportResponse(totalRows, importedRows, failedRows, failedRows > errors.size(), errors);
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package panda.listing.bulk;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import panda.listing.dto.CreateListingRequest;
+import panda.listing.enums.*;
+
+/**
+ * Converts one import row, given as raw cell values keyed by {@link CreateListingRequest} property
+ * name, into a request. Values are strings (lists for {@code loanProducts}); conversion errors name the
+ * offending column.
+ */
+final class ListingImportRowMapper {
+
+    static final List<String> COLUMNS = List.of(
+            "address", "note", "parking", "elevator", "pet", "contractType", "roomType", "loanProducts",
+            "moveInDate", "deposit", "monthlyRent", "sold", "hotProperty", "moveInType", "exclusivityArea",
+            "useAprDay", "totalFloors", "currentFloor", "parkingCount", "maintenanceFee", "loanStatus",
+            "illegalBuildingStatus", "description"
+    );
+    static final Set<String> UNSUPPORTED_COLUMNS = Set.of("imagePaths", "buildingLedger");
+
+    private static final String LOAN_PRODUCT_SEPARATOR = "[|;]";
+
+    private ListingImportRowMapper() {
+    }
+
+    static CreateListingRequest toRequest(Map<String, Object> values) {
+        return new CreateListingRequest(
+                text(values, "address"),
+                text(values, "note"),
+                enumValue(values, "parking", ParkingStatus.class),
+                enumValue(values, "elevator", ElevatorStatus.class),
+                enumValue(values, "pet", PetPolicy.class),
+                enumValue(values, "contractType", ContractType.class),
+                enumValue(values, "roomType", RoomType.class),
+                loanProducts(values),
+                date(values, "moveInDate"),
+                longValue(values, "deposit"),
+                longValue(values, "monthlyRent"),
+                booleanValue(values, "sold"),
+                booleanValue(values, "hotProperty"),
+                null,
+                enumValue(values, "moveInType", MoveInType.class),
+                decimal(values, "exclusivityArea"),
+                date(values, "useAprDay"),
+                intValue(values, "totalFloors"),
+                intValue(values, "currentFloor"),
+                intValue(values, "parkingCount"),
+                longValue(values, "maintenanceFee"),
+                enumValue(values, "loanStatus", LoanStatus.class),
+                enumValue(values, "illegalBuildingStatus", IllegalBuildingStatus.class),
+                text(values, "description"),
+                null
+        );
+    }
+
+    private static String text(Map<String, Object> values, String column) {
+        Object value = values.get(column);
+        if (value == null) {
+            return null;
+        }
+        if (!(value instanceof String text)) {
+            throw new IllegalArgumentException(column + ": expected a single value");
+        }
+        return text;
+    }
+
+    private static <E extends Enum<E>> E enumValue(Map<String, Object> values, String column, Class<E> type) {
+        String value = text(values, column);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException(
+                    column + ": '" + value + "' is not one of " + Arrays.toString(type.getEnumConstants())
+            );
+        }
+    }
+
+    private static List<LoanProduct> loanProducts(Map<String, Object> values) {
+        Object value = values.get("loanProducts");
+        if (value == null) {
+            return null;
+        }
+        List<String> names = value instanceof List<?> list
+                ? list.stream().map(String::valueOf).toList()
+                : Arrays.asList(String.valueOf(value).split(LOAN_PRODUCT_SEPARATOR));
+        List<LoanProduct> products = new ArrayList<>(names.size());
+        for (String name : names) {
+            if (name.isBlank()) {
+                continue;
+            }
+            try {
+                products.add(LoanProduct.valueOf(name.trim().toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException ex) {
+                throw new IllegalArgumentException(
+                        "loanProducts: '" + name.trim() + "' is not one of " + Arrays.toString(LoanProduct.values())
+                );
+            }
+        }
+        return products;
+    }
+
+    private static LocalDate date(Map<String, Object> values, String column) {
+        String value = text(values, column);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value.trim());
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException(column + ": '" + value + "' is not a yyyy-MM-dd date");
+        }
+    }
+
+    private static Long longValue(Map<String, Object> values, String column) {
+        String value = text(values, column);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException(column + ": '" + value + "' is not an integer");
+        }
+    }
+
+    private static Integer intValue(Map<String, Object> values, String column) {
+        String value = text(values, column);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException(column + ": '" + value + "' is not an integer");
+        }
+    }
+
+    private static BigDecimal decimal(Map<String, Object> values, String column) {
+        String value = text(values, column);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return new BigDecimal(value.trim());
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException(column + ": '" + value + "' is not a number");
+        }
+    }
+
+    private static Boolean booleanValue(Map<String, Object> values, String column) {
+        String value = text(values, column);
+        if (value == null) {
+            return null;
+        }
+        return switch (value.trim().toLowerCase(Locale.ROOT)) {
+            case "true", "y", "yes", "1" -> Boolean.TRUE;
+            case "false", "n", "no", "0" -> Boolean.FALSE;
+            default -> throw new IllegalArgumentException(column + ": '" + value + "' is not a boolean");
+        };
+    }
+}
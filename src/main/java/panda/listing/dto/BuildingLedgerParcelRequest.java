@@ -0,0 +1,15 @@
+package panda.listing.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+public record BuildingLedgerParcelRequest(
+        @NotBlank @Size(max = 5) String sigunguCd,
+        @NotBlank @Size(max = 5) String bjdongCd,
+        @Size(max = 1) String platGbCd,
+        @NotBlank @Size(max = 4) String bun,
+        @Size(max = 4) String ji,
+        @Size(max = 100) String dongNm,
+        @Size(max = 100) String hoNm
+) {
+}
@@ -0,0 +1,11 @@
+package panda.listing.dto;
+
+public record BuildingLedgerUnitSummaryResponse(
+    String dongNm,
+    String hoNm,
+    String flrNo,
+    double exclusiveArea,   // 전용면적(㎡)
+    double publicArea,      // 공용면적(㎡)
+    double supplyArea,      // 공급면적(㎡) = 전용 + 공용
+    double exclusiveRatio   // 전용률(%)
+) {}
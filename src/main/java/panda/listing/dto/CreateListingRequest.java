@@ -1,5 +1,6 @@
 package panda.listing.dto;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotEmpty;
@@ -36,6 +37,7 @@ public record CreateListingRequest(
         Long maintenanceFee,
         LoanStatus loanStatus,
         IllegalBuildingStatus illegalBuildingStatus,
-        String description
+        String description,
+        @Valid BuildingLedgerParcelRequest buildingLedger
 ) {
 }
@@ -0,0 +1,18 @@
+package panda.listing.dto;
+
+import java.util.List;
+
+/**
+ * {@code row} is the 1-based data record number: the line number for JSON Lines, the record after the
+ * header for CSV.
+ */
+public record ListingImportResponse(
+        long totalRows,
+        long importedRows,
+        long failedRows,
+        boolean errorsTruncated,
+        List<RowError> errors
+) {
+    public record RowError(long row, String message) {
+    }
+}
@@ -0,0 +1,14 @@
+package panda.listing.dto;
+
+public record ListingRegeocodeStatusResponse(
+        boolean running,
+        boolean refresh,
+        long processed,
+        long updated,
+        long failed,
+        long skipped,
+        Long checkpointId,
+        String startedAt,
+        String finishedAt
+) {
+}
@@ -1,5 +1,6 @@
 package panda.listing.dto;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Size;
 import java.math.BigDecimal;
@@ -32,6 +33,7 @@ public record UpdateListingRequest(
         Long maintenanceFee,
         LoanStatus loanStatus,
         IllegalBuildingStatus illegalBuildingStatus,
-        String description
+        String description,
+        @Valid BuildingLedgerParcelRequest buildingLedger
 ) {
 }
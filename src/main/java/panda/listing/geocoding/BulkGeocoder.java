@@ -0,0 +1,109 @@
+package panda.listing.geocoding;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import panda.common.BlockingRateLimiter;
+import panda.listing.CachingGeocodingService;
+import panda.listing.Coordinate;
+import panda.listing.GeocodingAddressNormalizer;
+
+/**
+ * Geocodes many addresses at once: duplicates (by normalized key) are resolved once, lookups fan out
+ * on virtual threads bounded by a semaphore, and every NCP-bound call first takes a permit from a
+ * limiter shared by all callers of this bean so concurrent jobs stay within the NCP quota together.
+ */
+@Slf4j
+@Component
+public class BulkGeocoder {
+
+    private final CachingGeocodingService geocodingService;
+    private final BlockingRateLimiter rateLimiter;
+    private final int concurrency;
+
+    public BulkGeocoder(
+            CachingGeocodingService geocodingService,
+            @Value("${app.geocoding.bulk.concurrency:8}") int concurrency,
+            @Value("${app.geocoding.bulk.requests-per-second:10}") double requestsPerSecond
+    ) {
+        this.geocodingService = geocodingService;
+        this.rateLimiter = new BlockingRateLimiter(requestsPerSecond);
+        this.concurrency = Math.max(1, concurrency);
+    }
+
+    /**
+     * @param refresh bypass both cache tiers and overwrite them with fresh NCP results
+     */
+    public Result geocode(Collection<String> addresses, boolean refresh) {
+        Map<String, String> addressByKey = new LinkedHashMap<>();
+        for (String address : addresses) {
+            String key = GeocodingAddressNormalizer.normalize(address);
+            if (!key.isBlank()) {
+                addressByKey.putIfAbsent(key, address);
+            }
+        }
+
+        Map<String, Coordinate> coordinates = new ConcurrentHashMap<>();
+        Map<String, String> failures = new ConcurrentHashMap<>();
+        Semaphore permits = new Semaphore(concurrency);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Map.Entry<String, String> entry : addressByKey.entrySet()) {
+                permits.acquire();
+                executor.submit(() -> {
+                    try {
+                        coordinates.put(entry.getKey(), resolve(entry.getValue(), refresh));
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                        failures.put(entry.getKey(), "interrupted");
+                    } catch (RuntimeException ex) {
+                        failures.put(entry.getKey(), String.valueOf(ex.getMessage()));
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Bulk geocoding interrupted", ex);
+        }
+
+        if (!failures.isEmpty()) {
+            log.warn("Bulk geocoding finished with failures [addresses={}, failed={}]", addressByKey.size(), failures.size());
+        }
+        return new Result(Map.copyOf(coordinates), Map.copyOf(failures));
+    }
+
+    private Coordinate resolve(String address, boolean refresh) throws InterruptedException {
+        if (refresh) {
+            rateLimiter.acquire();
+            return geocodingService.refresh(address);
+        }
+        Coordinate cached = geocodingService.findCached(address);
+        if (cached != null) {
+            return cached;
+        }
+        rateLimiter.acquire();
+        return geocodingService.convertAddressToCoordinate(address);
+    }
+
+    /**
+     * Coordinates and failure messages keyed by {@link GeocodingAddressNormalizer#normalize(String)}.
+     */
+    public record Result(Map<String, Coordinate> coordinatesByKey, Map<String, String> failuresByKey) {
+
+        public Coordinate find(String address) {
+            return coordinatesByKey.get(GeocodingAddressNormalizer.normalize(address));
+        }
+
+        public String findFailure(String address) {
+            return failuresByKey.get(GeocodingAddressNormalizer.normalize(address));
+        }
+    }
+}
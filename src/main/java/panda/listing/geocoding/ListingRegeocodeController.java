@@ -0,0 +1,34 @@
+package panda.listing.geocoding;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import panda.listing.dto.ListingRegeocodeStatusResponse;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/listings/admin/regeocode")
+public class ListingRegeocodeController {
+
+    private final ListingRegeocodeJob listingRegeocodeJob;
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public ListingRegeocodeStatusResponse start(@RequestParam(defaultValue = "true") boolean refresh) {
+        if (!listingRegeocodeJob.start(refresh)) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Re-geocode job is already running");
+        }
+        return listingRegeocodeJob.getStatus();
+    }
+
+    @GetMapping
+    public ListingRegeocodeStatusResponse getStatus() {
+        return listingRegeocodeJob.getStatus();
+    }
+}
@@ -0,0 +1,192 @@
+package panda.listing.geocoding;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import panda.listing.Coordinate;
+import panda.listing.ListingSummaryCache;
+import panda.listing.dto.ListingRegeocodeStatusResponse;
+
+/**
+ * Re-geocodes every listing in id order, one chunk at a time. After each chunk the coordinates are
+ * written back with one JDBC batch and the last processed id is checkpointed in Redis, so a restarted
+ * job resumes where the previous run stopped. A coordinate is only written while the listing still has
+ * the address it was geocoded from; rows edited or deleted in the meantime are counted as skipped.
+ */
+@Slf4j
+@Component
+public class ListingRegeocodeJob {
+
+    public static final String CHECKPOINT_KEY = "listing:regeocode:checkpoint";
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final String SELECT_CHUNK_SQL = "SELECT id, address FROM listings WHERE id > ? ORDER BY id LIMIT ?";
+    private static final String UPDATE_COORDINATE_SQL =
+            "UPDATE listings SET latitude = ?, longitude = ? WHERE id = ? AND address = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final BulkGeocoder bulkGeocoder;
+    private final ListingSummaryCache listingSummaryCache;
+    private final int chunkSize;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong updated = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+    private volatile boolean refresh;
+    private volatile Long checkpointId;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+
+    public ListingRegeocodeJob(
+            JdbcTemplate jdbcTemplate,
+            StringRedisTemplate stringRedisTemplate,
+            BulkGeocoder bulkGeocoder,
+            ListingSummaryCache listingSummaryCache,
+            @Value("${app.geocoding.regeocode.chunk-size:500}") int chunkSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.bulkGeocoder = bulkGeocoder;
+        this.listingSummaryCache = listingSummaryCache;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    /**
+     * Starts the job on a background virtual thread.
+     *
+     * @return {@code false} when a run is already in progress
+     */
+    public boolean start(boolean refresh) {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        this.refresh = refresh;
+        processed.set(0);
+        updated.set(0);
+        failed.set(0);
+        skipped.set(0);
+        startedAt = LocalDateTime.now(KST);
+        finishedAt = null;
+        Thread.ofVirtual().name("listing-regeocode").start(() -> {
+            try {
+                run(refresh);
+            } catch (RuntimeException ex) {
+                log.error("Listing re-geocode job failed [checkpointId={}]", checkpointId, ex);
+            } finally {
+                finishedAt = LocalDateTime.now(KST);
+                running.set(false);
+            }
+        });
+        return true;
+    }
+
+    public ListingRegeocodeStatusResponse getStatus() {
+        return new ListingRegeocodeStatusResponse(
+                running.get(),
+                refresh,
+                processed.get(),
+                updated.get(),
+                failed.get(),
+                skipped.get(),
+                checkpointId,
+                startedAt == null ? null : startedAt.toString(),
+                finishedAt == null ? null : finishedAt.toString()
+        );
+    }
+
+    void run(boolean refresh) {
+        long lastId = readCheckpoint();
+        checkpointId = lastId;
+        while (!Thread.currentThread().isInterrupted()) {
+            List<ListingAddress> chunk = jdbcTemplate.query(
+                    SELECT_CHUNK_SQL,
+                    (rs, rowNum) -> new ListingAddress(rs.getLong(1), rs.getString(2)),
+                    lastId,
+                    chunkSize
+            );
+            if (chunk.isEmpty()) {
+                clearCheckpoint();
+                log.info(
+                        "Listing re-geocode finished [processed={}, updated={}, failed={}, skipped={}]",
+                        processed.get(),
+                        updated.get(),
+                        failed.get(),
+                        skipped.get()
+                );
+                return;
+            }
+
+            BulkGeocoder.Result result = bulkGeocoder.geocode(
+                    chunk.stream().map(ListingAddress::address).toList(),
+                    refresh
+            );
+            List<Object[]> updates = new ArrayList<>(chunk.size());
+            for (ListingAddress listing : chunk) {
+                Coordinate coordinate = result.find(listing.address());
+                if (coordinate == null) {
+                    failed.incrementAndGet();
+                } else {
+                    updates.add(new Object[]{
+                            coordinate.latitude(), coordinate.longitude(), listing.id(), listing.address()
+                    });
+                }
+            }
+            if (!updates.isEmpty()) {
+                for (int rows : jdbcTemplate.batchUpdate(UPDATE_COORDINATE_SQL, updates)) {
+                    if (rows == 0) {
+                        skipped.incrementAndGet();
+                    } else {
+                        updated.incrementAndGet();
+                    }
+                }
+            }
+            chunk.forEach(listing -> listingSummaryCache.evict(listing.id()));
+            processed.addAndGet(chunk.size());
+
+            lastId = chunk.getLast().id();
+            checkpointId = lastId;
+            writeCheckpoint(lastId);
+        }
+        log.warn("Listing re-geocode interrupted [checkpointId={}]", lastId);
+    }
+
+    private long readCheckpoint() {
+        try {
+            String value = stringRedisTemplate.opsForValue().get(CHECKPOINT_KEY);
+            return value == null ? 0L : Long.parseLong(value);
+        } catch (RuntimeException ex) {
+            log.warn("Failed to read re-geocode checkpoint; starting from the first listing", ex);
+            return 0L;
+        }
+    }
+
+    private void writeCheckpoint(long lastId) {
+        try {
+            stringRedisTemplate.opsForValue().set(CHECKPOINT_KEY, String.valueOf(lastId));
+        } catch (RuntimeException ex) {
+            log.warn("Failed to write re-geocode checkpoint [lastId={}]", lastId, ex);
+        }
+    }
+
+    private void clearCheckpoint() {
+        try {
+            stringRedisTemplate.delete(CHECKPOINT_KEY);
+        } catch (RuntimeException ex) {
+            log.warn("Failed to clear re-geocode checkpoint", ex);
+        }
+    }
+
+    private record ListingAddress(long id, String address) {
+    }
+}
@@ -0,0 +1,136 @@
+package panda.listing.similar;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+/**
+ * Item-to-item co-view counts kept in sync with per-visitor histories.
+ * Each history update only applies the delta between its previous and current contents.
+ * Not thread-safe; owned by the rebuild job.
+ */
+public class ListingCoViewIndex {
+
+    private final Map<String, long[]> histories = new HashMap<>();
+    private final Map<Long, Integer> historyCountByListing = new HashMap<>();
+    private final Map<Long, Map<Long, Integer>> coViewCounts = new HashMap<>();
+
+    public boolean update(String historyKey, long[] listingIds) {
+        long[] normalized = LongStream.of(listingIds)
+                .filter(id -> id > 0)
+                .distinct()
+                .sorted()
+                .toArray();
+        long[] previous = histories.get(historyKey);
+        if (previous == null && normalized.length == 0) {
+            return false;
+        }
+        if (Arrays.equals(previous, normalized)) {
+            return false;
+        }
+
+        if (previous != null) {
+            apply(previous, -1);
+        }
+        if (normalized.length == 0) {
+            histories.remove(historyKey);
+        } else {
+            apply(normalized, 1);
+            histories.put(historyKey, normalized);
+        }
+        return true;
+    }
+
+    public int retainOnly(Set<String> liveHistoryKeys) {
+        int removed = 0;
+        Iterator<Map.Entry<String, long[]>> iterator = histories.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, long[]> entry = iterator.next();
+            if (!liveHistoryKeys.contains(entry.getKey())) {
+                apply(entry.getValue(), -1);
+                iterator.remove();
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    public int historyCount() {
+        return histories.size();
+    }
+
+    /**
+     * Scores neighbours by cosine similarity over histories: co(i, j) / sqrt(n(i) * n(j)).
+     */
+    public Map<Long, Neighbors> topK(int k, int minCoViews) {
+        Map<Long, Neighbors> result = new HashMap<>();
+        for (Map.Entry<Long, Map<Long, Integer>> entry : coViewCounts.entrySet()) {
+            Map<Long, Integer> counts = entry.getValue();
+            double listingHistories = historyCountByListing.getOrDefault(entry.getKey(), 1);
+
+            long[] ids = new long[counts.size()];
+            float[] scores = new float[counts.size()];
+            int size = 0;
+            for (Map.Entry<Long, Integer> count : counts.entrySet()) {
+                if (count.getValue() < minCoViews) {
+                    continue;
+                }
+                double otherHistories = historyCountByListing.getOrDefault(count.getKey(), 1);
+                ids[size] = count.getKey();
+                scores[size] = (float) (count.getValue() / Math.sqrt(listingHistories * otherHistories));
+                size++;
+            }
+            if (size > 0) {
+                result.put(entry.getKey(), selectTop(ids, scores, size, k));
+            }
+        }
+        return result;
+    }
+
+    private Neighbors selectTop(long[] ids, float[] scores, int size, int k) {
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (left, right) -> {
+            int byScore = Float.compare(scores[right], scores[left]);
+            return byScore != 0 ? byScore : Long.compare(ids[left], ids[right]);
+        });
+
+        int limit = Math.min(k, size);
+        long[] topIds = new long[limit];
+        float[] topScores = new float[limit];
+        for (int i = 0; i < limit; i++) {
+            topIds[i] = ids[order[i]];
+            topScores[i] = scores[order[i]];
+        }
+        return new Neighbors(topIds, topScores);
+    }
+
+    private void apply(long[] listingIds, int delta) {
+        for (long listingId : listingIds) {
+            historyCountByListing.merge(listingId, delta, ListingCoViewIndex::sumOrRemove);
+            for (long otherId : listingIds) {
+                if (otherId == listingId) {
+                    continue;
+                }
+                Map<Long, Integer> counts = coViewCounts.computeIfAbsent(listingId, id -> new HashMap<>());
+                counts.merge(otherId, delta, ListingCoViewIndex::sumOrRemove);
+                if (counts.isEmpty()) {
+                    coViewCounts.remove(listingId);
+                }
+            }
+        }
+    }
+
+    private static Integer sumOrRemove(Integer current, Integer delta) {
+        int next = current + delta;
+        return next <= 0 ? null : next;
+    }
+
+    public record Neighbors(long[] listingIds, float[] scores) {
+    }
+}
@@ -0,0 +1,108 @@
+package panda.listing.similar;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import panda.listing.ListingRepository;
+
+/**
+ * Column-oriented snapshot of unsold listings used for the content-based fallback.
+ */
+public class ListingFeatureTable {
+
+    private static final ListingFeatureTable EMPTY = new ListingFeatureTable(List.of());
+
+    private final long[] ids;
+    private final int[] roomTypes;
+    private final long[] deposits;
+    private final long[] monthlyRents;
+    private final double[] latitudes;
+    private final double[] longitudes;
+    private final Map<Long, Integer> indexById;
+
+    private ListingFeatureTable(List<ListingRepository.SimilarityFeatureRow> rows) {
+        int size = rows.size();
+        this.ids = new long[size];
+        this.roomTypes = new int[size];
+        this.deposits = new long[size];
+        this.monthlyRents = new long[size];
+        this.latitudes = new double[size];
+        this.longitudes = new double[size];
+        this.indexById = new HashMap<>(size * 2);
+
+        for (int i = 0; i < size; i++) {
+            ListingRepository.SimilarityFeatureRow row = rows.get(i);
+            ids[i] = row.getId();
+            roomTypes[i] = row.getRoomType() == null ? -1 : row.getRoomType().ordinal();
+            deposits[i] = row.getDeposit() == null ? 0L : row.getDeposit();
+            monthlyRents[i] = row.getMonthlyRent() == null ? 0L : row.getMonthlyRent();
+            latitudes[i] = row.getLatitude() == null ? 0.0 : row.getLatitude();
+            longitudes[i] = row.getLongitude() == null ? 0.0 : row.getLongitude();
+            indexById.put(ids[i], i);
+        }
+    }
+
+    public static ListingFeatureTable empty() {
+        return EMPTY;
+    }
+
+    public static ListingFeatureTable from(List<ListingRepository.SimilarityFeatureRow> rows) {
+        return new ListingFeatureTable(rows);
+    }
+
+    public boolean contains(long listingId) {
+        return indexById.containsKey(listingId);
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * Same room type, deposit and rent within {@code bandRatio} of the origin, nearest first.
+     */
+    public long[] nearestSimilar(long listingId, int limit, Set<Long> excludedIds, double bandRatio) {
+        Integer origin = indexById.get(listingId);
+        if (origin == null || limit <= 0) {
+            return new long[0];
+        }
+
+        double longitudeScale = Math.cos(Math.toRadians(latitudes[origin]));
+        long[] best = new long[limit];
+        double[] bestDistances = new double[limit];
+        int found = 0;
+
+        for (int i = 0; i < ids.length; i++) {
+            if (i == origin
+                    || roomTypes[i] != roomTypes[origin]
+                    || !withinBand(deposits[i], deposits[origin], bandRatio)
+                    || !withinBand(monthlyRents[i], monthlyRents[origin], bandRatio)
+                    || excludedIds.contains(ids[i])) {
+                continue;
+            }
+
+            double latitudeDelta = latitudes[i] - latitudes[origin];
+            double longitudeDelta = (longitudes[i] - longitudes[origin]) * longitudeScale;
+            double distance = latitudeDelta * latitudeDelta + longitudeDelta * longitudeDelta;
+            if (found == limit && distance >= bestDistances[limit - 1]) {
+                continue;
+            }
+
+            int position = found < limit ? found++ : limit - 1;
+            while (position > 0 && bestDistances[position - 1] > distance) {
+                best[position] = best[position - 1];
+                bestDistances[position] = bestDistances[position - 1];
+                position--;
+            }
+            best[position] = ids[i];
+            bestDistances[position] = distance;
+        }
+        return Arrays.copyOf(best, found);
+    }
+
+    private boolean withinBand(long value, long origin, double bandRatio) {
+        return Math.abs(value - origin) <= Math.max(value, origin) * bandRatio;
+    }
+}
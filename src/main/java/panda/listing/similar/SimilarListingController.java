@@ -0,0 +1,26 @@
+package panda.listing.similar;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import panda.listing.dto.ListingResponse;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/listings")
+public class SimilarListingController {
+
+    private final SimilarListingService similarListingService;
+
+    @GetMapping("/{id:\\d+}/similar")
+    public List<ListingResponse> getSimilar(
+            @PathVariable Long id,
+            @RequestParam(required = false) Integer limit
+    ) {
+        return similarListingService.getSimilar(id, limit);
+    }
+}
@@ -0,0 +1,210 @@
+package panda.listing.similar;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import panda.listing.ListingIdRegistry;
+import panda.listing.ListingRecentViewedService;
+import panda.listing.ListingRepository;
+import panda.listing.ListingService;
+import panda.listing.ListingSummaryCache;
+import panda.listing.dto.ListingResponse;
+
+@Slf4j
+@Service
+public class SimilarListingService {
+
+    private static final int LRANGE_BATCH_SIZE = 100;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ListingRepository listingRepository;
+    private final ListingService listingService;
+    private final ListingIdRegistry listingIdRegistry;
+    private final ListingSummaryCache listingSummaryCache;
+    private final ListingCoViewIndex coViewIndex = new ListingCoViewIndex();
+    private final int topK;
+    private final int maxLimit;
+    private final int minCoViews;
+    private final double bandRatio;
+    private final long scanCount;
+
+    private volatile Map<Long, ListingCoViewIndex.Neighbors> neighborsByListing = Map.of();
+    private volatile ListingFeatureTable featureTable = ListingFeatureTable.empty();
+
+    public SimilarListingService(
+            StringRedisTemplate stringRedisTemplate,
+            ListingRepository listingRepository,
+            ListingService listingService,
+            ListingIdRegistry listingIdRegistry,
+            ListingSummaryCache listingSummaryCache,
+            @Value("${app.listing.similar.top-k:20}") int topK,
+            @Value("${app.listing.similar.max-limit:10}") int maxLimit,
+            @Value("${app.listing.similar.min-co-views:1}") int minCoViews,
+            @Value("${app.listing.similar.band-ratio:0.3}") double bandRatio,
+            @Value("${app.listing.similar.scan-count:500}") long scanCount
+    ) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.listingRepository = listingRepository;
+        this.listingService = listingService;
+        this.listingIdRegistry = listingIdRegistry;
+        this.listingSummaryCache = listingSummaryCache;
+        this.topK = topK;
+        this.maxLimit = maxLimit;
+        this.minCoViews = minCoViews;
+        this.bandRatio = bandRatio;
+        this.scanCount = scanCount;
+    }
+
+    /**
+     * Co-view neighbours first, then content-based matches fill any remaining slots.
+     * Both sources are read from in-memory snapshots; only summary cache misses touch the database.
+     */
+    public List<ListingResponse> getSimilar(Long listingId, Integer limit) {
+        int safeLimit = normalizeLimit(limit);
+        if (!listingIdRegistry.contains(listingId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Listing not found: " + listingId);
+        }
+
+        ListingFeatureTable features = featureTable;
+        Set<Long> selected = new LinkedHashSet<>();
+        ListingCoViewIndex.Neighbors neighbors = neighborsByListing.get(listingId);
+        if (neighbors != null) {
+            for (long neighborId : neighbors.listingIds()) {
+                if (selected.size() >= safeLimit) {
+                    break;
+                }
+                if (features.contains(neighborId)) {
+                    selected.add(neighborId);
+                }
+            }
+        }
+
+        if (selected.size() < safeLimit) {
+            for (long candidateId : features.nearestSimilar(listingId, safeLimit - selected.size(), selected, bandRatio)) {
+                selected.add(candidateId);
+            }
+        }
+
+        if (selected.isEmpty()) {
+            return List.of();
+        }
+        return listingSummaryCache.getAllInOrder(
+                List.copyOf(selected),
+                listingService::getVisibleSummariesByIdsInOrder
+        );
+    }
+
+    @Scheduled(
+            fixedDelayString = "${app.listing.similar.rebuild-interval-ms:300000}",
+            initialDelayString = "${app.listing.similar.initial-delay-ms:30000}"
+    )
+    public synchronized void rebuild() {
+        long startedAt = System.nanoTime();
+        featureTable = ListingFeatureTable.from(listingRepository.findUnsoldSimilarityFeatures());
+
+        Set<String> liveKeys;
+        try {
+            liveKeys = scanHistoryKeys();
+        } catch (RuntimeException ex) {
+            log.warn("Failed to scan recent viewed histories; keeping previous co-view index", ex);
+            return;
+        }
+
+        int changed = 0;
+        List<String> keys = new ArrayList<>(liveKeys);
+        for (int from = 0; from < keys.size(); from += LRANGE_BATCH_SIZE) {
+            List<String> batch = keys.subList(from, Math.min(from + LRANGE_BATCH_SIZE, keys.size()));
+            List<Object> histories;
+            try {
+                histories = readHistories(batch);
+            } catch (RuntimeException ex) {
+                log.warn("Failed to read recent viewed histories; keeping previous co-view index", ex);
+                return;
+            }
+            for (int i = 0; i < batch.size(); i++) {
+                if (coViewIndex.update(batch.get(i), toListingIds(histories.get(i)))) {
+                    changed++;
+                }
+            }
+        }
+        int removed = coViewIndex.retainOnly(liveKeys);
+
+        if (changed > 0 || removed > 0 || neighborsByListing.isEmpty()) {
+            neighborsByListing = Map.copyOf(coViewIndex.topK(topK, minCoViews));
+        }
+        log.debug(
+                "Rebuilt similar listings [histories={}, changed={}, removed={}, listings={}, elapsedMs={}]",
+                coViewIndex.historyCount(),
+                changed,
+                removed,
+                neighborsByListing.size(),
+                (System.nanoTime() - startedAt) / 1_000_000
+        );
+    }
+
+    private Set<String> scanHistoryKeys() {
+        Set<String> keys = new HashSet<>();
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(ListingRecentViewedService.RECENT_KEY_PREFIX + "*")
+                .count(scanCount)
+                .build();
+        try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                String key = cursor.next();
+                if (!key.startsWith(ListingRecentViewedService.DEBOUNCE_KEY_PREFIX)) {
+                    keys.add(key);
+                }
+            }
+        }
+        return keys;
+    }
+
+    private List<Object> readHistories(List<String> keys) {
+        return stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String key : keys) {
+                connection.listCommands().lRange(key.getBytes(StandardCharsets.UTF_8), 0, -1);
+            }
+            return null;
+        });
+    }
+
+    private long[] toListingIds(Object history) {
+        if (!(history instanceof List<?> values)) {
+            return new long[0];
+        }
+        long[] ids = new long[values.size()];
+        int size = 0;
+        for (Object value : values) {
+            try {
+                ids[size] = Long.parseLong(String.valueOf(value));
+                size++;
+            } catch (NumberFormatException ignored) {
+                // Invalid entries are pruned by the recent viewed read path.
+            }
+        }
+        return size == ids.length ? ids : Arrays.copyOf(ids, size);
+    }
+
+    private int normalizeLimit(Integer limit) {
+        int requestedLimit = limit == null ? maxLimit : limit;
+        if (requestedLimit <= 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit must be greater than 0");
+        }
+        return Math.min(requestedLimit, maxLimit);
+    }
+}
@@ -1,6 +1,7 @@
 package panda.listing.viewer;
 
 import jakarta.validation.Valid;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -13,8 +14,9 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ResponseStatusException;
-import panda.listing.ListingRepository;
+import panda.listing.ListingIdRegistry;
 import panda.listing.viewer.dto.ViewerCountResponse;
+import panda.listing.viewer.dto.ViewerPresenceBatchRequest;
 import panda.listing.viewer.dto.ViewerPresenceRequest;
 
 @RestController
@@ -22,7 +24,7 @@ import panda.listing.viewer.dto.ViewerPresenceRequest;
 @RequestMapping("/api/v1/listings")
 public class ListingViewerPresenceController {
 
-    private final ListingRepository listingRepository;
+    private final ListingIdRegistry listingIdRegistry;
     private final ListingViewerPresenceService listingViewerPresenceService;
 
     @PostMapping("/{listingId:\\d+}/viewer-presence")
@@ -46,6 +48,19 @@ public class ListingViewerPresenceController {
         return new ViewerCountResponse(listingId, count);
     }
 
+    @PostMapping("/viewer-presence/batch")
+    public List<ViewerCountResponse> heartbeat(@Valid @RequestBody ViewerPresenceBatchRequest request) {
+        List<ViewerPresenceBatchRequest.Heartbeat> heartbeats = request.heartbeats().stream()
+                .filter(heartbeat -> listingIdRegistry.contains(heartbeat.listingId()))
+                .toList();
+        if (heartbeats.isEmpty()) {
+            return List.of();
+        }
+        return listingViewerPresenceService.heartbeat(heartbeats).entrySet().stream()
+                .map(entry -> new ViewerCountResponse(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
     @DeleteMapping("/{listingId:\\d+}/viewer-presence")
     public ViewerCountResponse leave(
             @PathVariable Long listingId,
@@ -57,7 +72,7 @@ public class ListingViewerPresenceController {
     }
 
     private void validateListingExists(Long listingId) {
-        if (!listingRepository.existsById(listingId)) {
+        if (!listingIdRegistry.contains(listingId)) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Listing not found: " + listingId);
         }
     }
@@ -0,0 +1,26 @@
+package panda.listing.viewer;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class ListingViewerPresenceMetrics implements MeterBinder {
+
+    private final ListingViewerPresenceService listingViewerPresenceService;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("listing.viewers.active", listingViewerPresenceService,
+                        ListingViewerPresenceService::activeViewerCount)
+                .description("Viewer sessions currently present on a listing")
+                .register(registry);
+        Gauge.builder("listing.viewers.listings", listingViewerPresenceService,
+                        ListingViewerPresenceService::watchedListingCount)
+                .description("Listings with at least one present viewer")
+                .register(registry);
+    }
+}
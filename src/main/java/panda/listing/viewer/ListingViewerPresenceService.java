@@ -1,5 +1,7 @@
 package panda.listing.viewer;
 
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -7,6 +9,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import panda.listing.viewer.dto.ViewerPresenceBatchRequest;
 
 @Slf4j
 @Service
@@ -25,17 +28,25 @@ public class ListingViewerPresenceService {
     public synchronized int enter(Long listingId, String viewerSessionId) {
         long now = System.currentTimeMillis();
         cleanupExpiredInternal(now);
+        touch(listingId, viewerSessionId, now);
+        return listingViewers.getOrDefault(listingId, new ConcurrentHashMap<>()).size();
+    }
 
-        Long previousListingId = sessionToListing.put(viewerSessionId, listingId);
-        if (previousListingId != null && !previousListingId.equals(listingId)) {
-            removeFromListing(previousListingId, viewerSessionId);
+    public synchronized Map<Long, Integer> heartbeat(List<ViewerPresenceBatchRequest.Heartbeat> heartbeats) {
+        long now = System.currentTimeMillis();
+        cleanupExpiredInternal(now);
+        for (ViewerPresenceBatchRequest.Heartbeat heartbeat : heartbeats) {
+            touch(heartbeat.listingId(), heartbeat.viewerSessionId(), now);
         }
 
-        listingViewers
-                .computeIfAbsent(listingId, id -> new ConcurrentHashMap<>())
-                .put(viewerSessionId, now);
-
-        return listingViewers.getOrDefault(listingId, new ConcurrentHashMap<>()).size();
+        Map<Long, Integer> counts = new LinkedHashMap<>();
+        for (ViewerPresenceBatchRequest.Heartbeat heartbeat : heartbeats) {
+            counts.computeIfAbsent(
+                    heartbeat.listingId(),
+                    listingId -> listingViewers.getOrDefault(listingId, new ConcurrentHashMap<>()).size()
+            );
+        }
+        return counts;
     }
 
     public synchronized int getViewerCount(Long listingId, String viewerSessionId) {
@@ -60,6 +71,14 @@ public class ListingViewerPresenceService {
         return listingViewers.getOrDefault(listingId, new ConcurrentHashMap<>()).size();
     }
 
+    public int activeViewerCount() {
+        return sessionToListing.size();
+    }
+
+    public int watchedListingCount() {
+        return listingViewers.size();
+    }
+
     @Scheduled(fixedDelayString = "${app.viewer-presence.cleanup-interval-ms:30000}")
     public synchronized void cleanupExpired() {
         cleanupExpiredInternal(System.currentTimeMillis());
@@ -89,6 +108,17 @@ public class ListingViewerPresenceService {
         }
     }
 
+    private void touch(Long listingId, String viewerSessionId, long now) {
+        Long previousListingId = sessionToListing.put(viewerSessionId, listingId);
+        if (previousListingId != null && !previousListingId.equals(listingId)) {
+            removeFromListing(previousListingId, viewerSessionId);
+        }
+
+        listingViewers
+                .computeIfAbsent(listingId, id -> new ConcurrentHashMap<>())
+                .put(viewerSessionId, now);
+    }
+
     private void removeFromListing(Long listingId, String viewerSessionId) {
         ConcurrentMap<String, Long> sessions = listingViewers.get(listingId);
         if (sessions == null) {
@@ -0,0 +1,17 @@
+package panda.listing.viewer.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public record ViewerPresenceBatchRequest(
+        @NotEmpty @Size(max = 50) List<@Valid @NotNull Heartbeat> heartbeats
+) {
+    public record Heartbeat(
+            @NotNull Long listingId,
+            @NotBlank String viewerSessionId
+    ) {}
+}
@@ -0,0 +1,131 @@
+package panda.analytics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.invocation.Invocation;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisHyperLogLogCommands;
+import org.springframework.data.redis.connection.RedisKeyCommands;
+import org.springframework.data.redis.core.HyperLogLogOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+import panda.analytics.ingest.VisitEvent;
+
+class ActorCardinalityServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 3, 2);
+
+    private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final HyperLogLogOperations<String, String> hyperLogLogOperations = mock(HyperLogLogOperations.class);
+    private final RedisConnection connection = mock(RedisConnection.class);
+    private final RedisHyperLogLogCommands hyperLogLogCommands = mock(RedisHyperLogLogCommands.class);
+    private final RedisKeyCommands keyCommands = mock(RedisKeyCommands.class);
+    private final ActorCardinalityService service = new ActorCardinalityService(stringRedisTemplate, 400, 400);
+
+    @BeforeEach
+    void setUp() {
+        when(stringRedisTemplate.opsForHyperLogLog()).thenReturn(hyperLogLogOperations);
+        when(connection.hyperLogLogCommands()).thenReturn(hyperLogLogCommands);
+        when(connection.keyCommands()).thenReturn(keyCommands);
+        when(stringRedisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+            RedisCallback<?> callback = invocation.getArgument(0);
+            callback.doInRedis(connection);
+            return List.of();
+        });
+    }
+
+    @Test
+    @DisplayName("배치의 actor를 날짜별 PFADD 한 번으로 묶고 같은 날 중복 actor는 한 번만 보낸다")
+    void batchesPfAddPerDay() {
+        service.record(List.of(
+                event(DAY, "anon_a"),
+                event(DAY, "anon_b"),
+                event(DAY, "anon_a"),
+                event(DAY.plusDays(1), "anon_a")
+        ));
+
+        verify(stringRedisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+        Map<String, List<String>> actorsByKey = new LinkedHashMap<>();
+        for (Invocation invocation : mockingDetails(hyperLogLogCommands).getInvocations()) {
+            Object[] arguments = invocation.getRawArguments();
+            String key = new String((byte[]) arguments[0], StandardCharsets.UTF_8);
+            List<String> actors = Arrays.stream((byte[][]) arguments[1])
+                    .map(actor -> new String(actor, StandardCharsets.UTF_8))
+                    .toList();
+            actorsByKey.put(key, actors);
+        }
+        assertThat(actorsByKey).containsExactly(
+                Map.entry("analytics:hll:dau:2026-03-02", List.of("anon_a", "anon_b")),
+                Map.entry("analytics:hll:dau:2026-03-03", List.of("anon_a"))
+        );
+        verify(keyCommands, times(2)).expire(any(byte[].class), anyLong());
+    }
+
+    @Test
+    @DisplayName("기간 조회는 하루 하나씩의 키를 한 번의 PFCOUNT로 합산한다")
+    void countsRangeWithSingleMultiKeyPfCount() {
+        when(hyperLogLogOperations.size(any(String[].class))).thenReturn(42L);
+
+        long count = service.countUnique(DAY, DAY.plusDays(2));
+
+        ArgumentCaptor<String[]> keys = ArgumentCaptor.forClass(String[].class);
+        verify(hyperLogLogOperations, times(1)).size(keys.capture());
+        assertThat(keys.getAllValues()).flatExtracting(Arrays::asList).containsExactly(
+                "analytics:hll:dau:2026-03-02",
+                "analytics:hll:dau:2026-03-03",
+                "analytics:hll:dau:2026-03-04"
+        );
+        assertThat(count).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 기록은 로그만 남기고, 조회는 503으로 응답한다")
+    void degradesWhenRedisIsDown() {
+        RedisConnectionFailureException failure = new RedisConnectionFailureException("redis down");
+        when(stringRedisTemplate.executePipelined(any(RedisCallback.class))).thenThrow(failure);
+        when(hyperLogLogOperations.size(any(String[].class))).thenThrow(failure);
+
+        assertThatCode(() -> service.record(List.of(event(DAY, "anon_a")))).doesNotThrowAnyException();
+        assertThatThrownBy(() -> service.getActiveUsers(DAY))
+                .isInstanceOfSatisfying(ResponseStatusException.class, ex ->
+                        assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+    }
+
+    @Test
+    @DisplayName("최대 조회 기간을 넘으면 Redis를 호출하지 않고 400으로 거부한다")
+    void rejectsTooLongRange() {
+        assertThatThrownBy(() -> service.getUniqueActors(DAY, DAY.plusDays(400)))
+                .isInstanceOfSatisfying(ResponseStatusException.class, ex ->
+                        assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+        assertThat(mockingDetails(hyperLogLogOperations).getInvocations()).isEmpty();
+    }
+
+    private VisitEvent event(LocalDate date, String actorKey) {
+        return new VisitEvent(date, actorKey, "/api/v1/listings", LocalDateTime.of(date, LocalTime.NOON));
+    }
+}
@@ -0,0 +1,69 @@
+package panda.analytics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class AnalyticsServiceActorKeyTest {
+
+    private final AnalyticsService analyticsService = new AnalyticsService(
+            null, null, null, null, null, null, "anon_id", true, "None", 180, 5000, 0
+    );
+
+    @Test
+    @DisplayName("형식이 맞는 anon_id 쿠키 값을 actor key로 사용한다")
+    void findsValidActorKey() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie("other", "x"), new Cookie("anon_id", "anon_3f2a-9c_01"));
+
+        assertThat(analyticsService.findActorKey(request)).isEqualTo("anon_3f2a-9c_01");
+    }
+
+    @Test
+    @DisplayName("쿠키가 없거나 허용되지 않는 문자·길이를 가진 값은 거부한다")
+    void rejectsMissingOrMalformedActorKey() {
+        assertThat(analyticsService.findActorKey(new MockHttpServletRequest())).isNull();
+
+        for (String value : new String[]{"", "anon id", "anon:1", "../etc", "a".repeat(129)}) {
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.setCookies(new Cookie("anon_id", value));
+            assertThat(analyticsService.findActorKey(request)).as(value).isNull();
+        }
+
+        MockHttpServletRequest maxLength = new MockHttpServletRequest();
+        maxLength.setCookies(new Cookie("anon_id", "a".repeat(128)));
+        assertThat(analyticsService.findActorKey(maxLength)).hasSize(128);
+    }
+
+    @Test
+    @DisplayName("유효한 쿠키가 없으면 새 actor key를 발급하고 쿠키로 내려준다")
+    void issuesNewActorKeyWhenCookieInvalid() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie("anon_id", "not valid!"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        String actorKey = analyticsService.getOrCreateActorKey(request, response);
+
+        assertThat(actorKey).startsWith("anon_").isNotEqualTo("not valid!");
+        assertThat(response.getHeader(HttpHeaders.SET_COOKIE))
+                .contains("anon_id=" + actorKey)
+                .contains("HttpOnly")
+                .contains("Secure");
+    }
+
+    @Test
+    @DisplayName("유효한 쿠키가 있으면 새 쿠키를 내려주지 않는다")
+    void reusesExistingActorKey() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie("anon_id", "anon_existing"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThat(analyticsService.getOrCreateActorKey(request, response)).isEqualTo("anon_existing");
+        assertThat(response.getHeader(HttpHeaders.SET_COOKIE)).isNull();
+    }
+}
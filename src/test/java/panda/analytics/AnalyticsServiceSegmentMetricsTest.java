@@ -0,0 +1,46 @@
+package panda.analytics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import panda.analytics.ingest.VisitEventSegmentLog;
+
+class AnalyticsServiceSegmentMetricsTest {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final AnalyticsRepository analyticsRepository = mock(AnalyticsRepository.class);
+    private final DailyMetricRollupRepository dailyMetricRollupRepository = mock(DailyMetricRollupRepository.class);
+    private final VisitEventSegmentLog visitEventSegmentLog = mock(VisitEventSegmentLog.class);
+    private final AnalyticsService analyticsService = new AnalyticsService(
+            analyticsRepository, dailyMetricRollupRepository, null, visitEventSegmentLog, null, null,
+            "anon_id", true, "None", 180, 5000, 0
+    );
+
+    @Test
+    @DisplayName("DB 집계 행이 없는 날도 세그먼트에 기록된 방문 수를 보여 준다")
+    void countsSegmentVisitsOfDayWithoutDatabaseRow() {
+        LocalDate today = LocalDate.now(KST);
+        when(dailyMetricRollupRepository.findByPathAndMetricDateBetweenOrderByMetricDate(anyString(), any(), any()))
+                .thenReturn(List.of());
+        when(analyticsRepository.findDailyMetrics(any(), any())).thenReturn(List.of());
+        when(visitEventSegmentLog.isEnabled()).thenReturn(true);
+        when(visitEventSegmentLog.countEvents(today)).thenReturn(3L);
+
+        assertThat(analyticsService.getDailyMetrics(today, today))
+                .singleElement()
+                .satisfies(metric -> {
+                    assertThat(metric.date()).isEqualTo(today.toString());
+                    assertThat(metric.dau()).isZero();
+                    assertThat(metric.visits()).isEqualTo(3);
+                });
+    }
+}
@@ -5,12 +5,17 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.server.ResponseStatusException;
+import panda.analytics.ingest.AnalyticsIngestionPipeline;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @SpringBootTest
 @ActiveProfiles("test")
@@ -24,9 +29,19 @@ class AnalyticsServiceTest {
     @Autowired
     private AnalyticsRepository analyticsRepository;
 
+    @Autowired
+    private AnalyticsIngestionPipeline analyticsIngestionPipeline;
+
+    @Autowired
+    private DailyMetricRollupRepository dailyMetricRollupRepository;
+
+    @Autowired
+    private DailyMetricRollupService dailyMetricRollupService;
+
     @BeforeEach
     void setUp() {
         analyticsRepository.deleteAll();
+        dailyMetricRollupRepository.deleteAll();
     }
 
     @Test
@@ -34,6 +49,7 @@ class AnalyticsServiceTest {
     void trackVisitStoresDateAndTimeInKst() {
         LocalDateTime before = LocalDateTime.now(KST);
         analyticsService.trackVisit("anon_123", "/api/v1/listings");
+        analyticsIngestionPipeline.flush();
         LocalDateTime after = LocalDateTime.now(KST);
 
         assertThat(analyticsRepository.count()).isEqualTo(1);
@@ -49,6 +65,7 @@ class AnalyticsServiceTest {
     @DisplayName("trackVisit skips persistence when actorKey is blank")
     void trackVisitSkipsWhenActorKeyBlank() {
         analyticsService.trackVisit("   ", "/api/v1/listings");
+        analyticsIngestionPipeline.flush();
 
         assertThat(analyticsRepository.count()).isZero();
     }
@@ -75,4 +92,59 @@ class AnalyticsServiceTest {
         DailyVisitEvent remaining = analyticsRepository.findAll().getFirst();
         assertThat(remaining.getActorKey()).isEqualTo("fresh_actor");
     }
+
+    @Test
+    @DisplayName("getDailyMetrics reads closed days from the rollup table")
+    void getDailyMetricsReadsClosedDaysFromRollup() {
+        LocalDate twoDaysAgo = LocalDate.now(KST).minusDays(2);
+        LocalDateTime occurredAt = twoDaysAgo.atTime(12, 0);
+        analyticsRepository.insertDailyActorIgnore(twoDaysAgo, "rollup_actor", occurredAt);
+        analyticsRepository.insertVisit(twoDaysAgo, "rollup_actor", "/api/v1/listings", occurredAt);
+        analyticsRepository.insertVisit(twoDaysAgo, "rollup_actor", "/api/v1/listings", occurredAt);
+
+        analyticsService.rollupDailyMetrics(twoDaysAgo);
+        analyticsRepository.deleteAll();
+
+        assertThat(analyticsService.getDailyMetrics(twoDaysAgo, twoDaysAgo))
+                .singleElement()
+                .satisfies(metric -> {
+                    assertThat(metric.date()).isEqualTo(twoDaysAgo.toString());
+                    assertThat(metric.dau()).isEqualTo(1);
+                    assertThat(metric.visits()).isEqualTo(2);
+                });
+        assertThat(dailyMetricRollupRepository.findAll())
+                .extracting(DailyMetricRollup::getPath)
+                .containsExactlyInAnyOrder(DailyMetricRollup.TOTAL_PATH, "/api/v1/listings");
+    }
+
+    @Test
+    @DisplayName("re-rolling a day whose raw visits were purged keeps the existing rollup")
+    void rollupDailyMetricsKeepsRollupOfPurgedDay() {
+        LocalDate twoDaysAgo = LocalDate.now(KST).minusDays(2);
+        LocalDateTime occurredAt = twoDaysAgo.atTime(12, 0);
+        analyticsRepository.insertDailyActorIgnore(twoDaysAgo, "rollup_actor", occurredAt);
+        analyticsRepository.insertVisit(twoDaysAgo, "rollup_actor", "/api/v1/listings", occurredAt);
+        analyticsService.rollupDailyMetrics(twoDaysAgo);
+        analyticsRepository.deleteAll();
+
+        int rows = analyticsService.rollupDailyMetrics(twoDaysAgo);
+
+        assertThat(rows).isZero();
+        assertThat(analyticsService.getDailyMetrics(twoDaysAgo, twoDaysAgo))
+                .singleElement()
+                .satisfies(metric -> {
+                    assertThat(metric.dau()).isEqualTo(1);
+                    assertThat(metric.visits()).isEqualTo(1);
+                });
+    }
+
+    @Test
+    @DisplayName("backfill rejects days outside raw visit retention")
+    void backfillRejectsDaysOutsideRetention() {
+        LocalDate oldestRetainedDate = dailyMetricRollupService.getOldestRetainedDate();
+
+        assertThatThrownBy(() -> dailyMetricRollupService.backfill(oldestRetainedDate.minusDays(1), oldestRetainedDate))
+                .isInstanceOfSatisfying(ResponseStatusException.class, ex ->
+                        assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+    }
 }
@@ -0,0 +1,137 @@
+package panda.analytics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import panda.analytics.VisitEventPartitionManager.Granularity;
+import panda.analytics.VisitEventPartitionManager.Partition;
+
+class VisitEventPartitionManagerTest {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+    @Test
+    @DisplayName("기존 파티션의 마지막 경계부터 pmax를 일 단위로 분할한다")
+    void splitsMaxPartitionFromLastBoundary() {
+        givenPartitions(
+                new Partition("p20260301", LocalDate.of(2026, 3, 2), 10),
+                new Partition("pmax", null, 0)
+        );
+
+        int created = manager(Granularity.DAILY).createPartitionsUntil(LocalDate.of(2026, 3, 4));
+
+        assertThat(created).isEqualTo(3);
+        assertThat(executedSql()).containsExactly("ALTER TABLE daily_visit_events REORGANIZE PARTITION pmax INTO ("
+                + "PARTITION p20260302 VALUES LESS THAN ('2026-03-03'), "
+                + "PARTITION p20260303 VALUES LESS THAN ('2026-03-04'), "
+                + "PARTITION p20260304 VALUES LESS THAN ('2026-03-05'), "
+                + "PARTITION pmax VALUES LESS THAN (MAXVALUE))");
+        verify(jdbcTemplate, never()).queryForObject(anyString(), eq(LocalDate.class));
+    }
+
+    @Test
+    @DisplayName("첫 실행에서는 가장 오래된 이벤트 날짜부터 파티션을 만들어 과거 데이터를 나눠 담는다")
+    void firstRunStartsAtOldestEventDate() {
+        LocalDate today = LocalDate.now(KST);
+        LocalDate oldest = today.minusMonths(2).withDayOfMonth(15);
+        givenPartitions(new Partition("pmax", null, 1_000));
+        when(jdbcTemplate.queryForObject("SELECT MIN(event_date_kst) FROM daily_visit_events", LocalDate.class))
+                .thenReturn(oldest);
+
+        int created = manager(Granularity.MONTHLY).createPartitionsUntil(today);
+
+        assertThat(created).isEqualTo(3);
+        assertThat(executedSql()).singleElement().asString()
+                .startsWith("ALTER TABLE daily_visit_events REORGANIZE PARTITION pmax INTO (PARTITION p"
+                        + oldest.withDayOfMonth(1).toString().replace("-", "")
+                        + " VALUES LESS THAN ('" + oldest.withDayOfMonth(1).plusMonths(1) + "')")
+                .endsWith("PARTITION pmax VALUES LESS THAN (MAXVALUE))");
+    }
+
+    @Test
+    @DisplayName("빈 테이블의 첫 실행은 오늘부터 파티션을 만든다")
+    void firstRunOnEmptyTableStartsToday() {
+        LocalDate today = LocalDate.now(KST);
+        givenPartitions(new Partition("pmax", null, 0));
+
+        int created = manager(Granularity.DAILY).createPartitionsUntil(today.plusDays(1));
+
+        assertThat(created).isEqualTo(2);
+        assertThat(executedSql()).singleElement().asString()
+                .contains("PARTITION p" + today.toString().replace("-", "") + " VALUES LESS THAN");
+    }
+
+    @Test
+    @DisplayName("이미 필요한 경계가 있으면 DDL을 실행하지 않는다")
+    void skipsWhenPartitionsAlreadyExist() {
+        givenPartitions(
+                new Partition("p20260301", LocalDate.of(2026, 3, 2), 10),
+                new Partition("pmax", null, 0)
+        );
+
+        assertThat(manager(Granularity.DAILY).createPartitionsUntil(LocalDate.of(2026, 3, 1))).isZero();
+        assertThat(executedSql()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("상한이 cutoff 이하인 파티션만 지우고 pmax와 cutoff 당일 파티션은 남긴다")
+    void dropsOnlyFullyExpiredPartitions() {
+        givenPartitions(
+                new Partition("p20260228", LocalDate.of(2026, 3, 1), 5),
+                new Partition("p20260301", LocalDate.of(2026, 3, 2), 7),
+                new Partition("p20260302", LocalDate.of(2026, 3, 3), 11),
+                new Partition("pmax", null, 0)
+        );
+
+        long rows = manager(Granularity.DAILY).dropPartitionsBefore(LocalDate.of(2026, 3, 2));
+
+        assertThat(rows).isEqualTo(12L);
+        assertThat(executedSql()).containsExactly("ALTER TABLE daily_visit_events DROP PARTITION p20260228, p20260301");
+    }
+
+    @Test
+    @DisplayName("만료된 파티션이 없으면 DROP을 실행하지 않는다")
+    void dropsNothingWhenNoneExpired() {
+        givenPartitions(
+                new Partition("p20260302", LocalDate.of(2026, 3, 3), 11),
+                new Partition("pmax", null, 0)
+        );
+
+        assertThat(manager(Granularity.DAILY).dropPartitionsBefore(LocalDate.of(2026, 3, 2))).isZero();
+        assertThat(executedSql()).isEmpty();
+    }
+
+    private VisitEventPartitionManager manager(Granularity granularity) {
+        return new VisitEventPartitionManager(jdbcTemplate, true, granularity);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenPartitions(Partition... partitions) {
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq("daily_visit_events")))
+                .thenReturn(new ArrayList<>(List.of(partitions)));
+    }
+
+    private List<String> executedSql() {
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate, atLeast(0)).execute(sql.capture());
+        return sql.getAllValues();
+    }
+}
@@ -0,0 +1,127 @@
+package panda.analytics.bot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+class BotTrafficClassifierTest {
+
+    private static final String BROWSER_USER_AGENT =
+            "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/537.36 Chrome/126.0 Safari/537.36";
+
+    @Test
+    @DisplayName("여러 패턴을 대소문자 구분 없이 한 번의 스캔으로 찾는다")
+    void matcherFindsAnyPatternIgnoringCase() {
+        AhoCorasickMatcher matcher = new AhoCorasickMatcher(List.of("bot", "spider", "python-requests", "bingpreview"));
+
+        assertThat(matcher.matches("Mozilla/5.0 (compatible; Googlebot/2.1)")).isTrue();
+        assertThat(matcher.matches("Baiduspider")).isTrue();
+        assertThat(matcher.matches("python-requests/2.31")).isTrue();
+        assertThat(matcher.matches("BingPreview/1.0b")).isTrue();
+        assertThat(matcher.matches("bingprevie")).isFalse();
+        assertThat(matcher.matches(BROWSER_USER_AGENT)).isFalse();
+    }
+
+    @Test
+    @DisplayName("봇 User-Agent와 User-Agent가 없는 요청은 봇으로 분류하고 드롭 카운터를 올린다")
+    void classifiesBotUserAgents() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        BotTrafficClassifier classifier = newClassifier(meterRegistry, 30);
+
+        assertThat(classifier.classify(request("Googlebot/2.1", "10.0.0.1")))
+                .isEqualTo(BotTrafficClassifier.Classification.BOT_USER_AGENT);
+        assertThat(classifier.classify(request(null, "10.0.0.1")))
+                .isEqualTo(BotTrafficClassifier.Classification.MISSING_USER_AGENT);
+        assertThat(classifier.classify(request(BROWSER_USER_AGENT, "10.0.0.1")))
+                .isEqualTo(BotTrafficClassifier.Classification.HUMAN);
+        assertThat(meterRegistry.get("analytics.bot.dropped").tag("reason", "user_agent").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("같은 IP에서 버킷 용량을 넘게 요청하면 속도 제한으로 분류한다")
+    void classifiesBurstFromOneIpAsRateLimited() {
+        BotTrafficClassifier classifier = newClassifier(new SimpleMeterRegistry(), 3);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(classifier.classify(request(BROWSER_USER_AGENT, "10.0.0.2")).isBot()).isFalse();
+        }
+
+        assertThat(classifier.classify(request(BROWSER_USER_AGENT, "10.0.0.2")))
+                .isEqualTo(BotTrafficClassifier.Classification.RATE_LIMITED);
+        assertThat(classifier.classify(request(BROWSER_USER_AGENT, "10.0.0.3")).isBot()).isFalse();
+    }
+
+    @Test
+    @DisplayName("신뢰하는 프록시 뒤의 여러 사용자는 X-Forwarded-For의 클라이언트 IP로 구분한다")
+    void separatesClientsBehindTrustedProxy() {
+        BotTrafficClassifier classifier = newClassifier(new SimpleMeterRegistry(), 3);
+
+        for (int client = 1; client <= 20; client++) {
+            MockHttpServletRequest request = request(BROWSER_USER_AGENT, "10.0.0.9");
+            request.addHeader("X-Forwarded-For", "198.51.100." + client + ", 10.0.0.8");
+            assertThat(classifier.classify(request).isBot()).as("client %d", client).isFalse();
+        }
+
+        BotTrafficClassifier.Classification last = null;
+        for (int i = 0; i < 4; i++) {
+            MockHttpServletRequest request = request(BROWSER_USER_AGENT, "10.0.0.9");
+            request.addHeader("X-Forwarded-For", "203.0.113.50");
+            last = classifier.classify(request);
+        }
+        assertThat(last).isEqualTo(BotTrafficClassifier.Classification.RATE_LIMITED);
+    }
+
+    @Test
+    @DisplayName("신뢰하지 않는 피어가 보낸 X-Forwarded-For는 무시한다")
+    void ignoresForwardedForFromUntrustedPeer() {
+        BotTrafficClassifier classifier = newClassifier(new SimpleMeterRegistry(), 3);
+
+        BotTrafficClassifier.Classification last = null;
+        for (int i = 0; i < 4; i++) {
+            MockHttpServletRequest request = request(BROWSER_USER_AGENT, "203.0.113.7");
+            request.addHeader("X-Forwarded-For", "198.51.100." + i);
+            last = classifier.classify(request);
+        }
+        assertThat(last).isEqualTo(BotTrafficClassifier.Classification.RATE_LIMITED);
+    }
+
+    @Test
+    @DisplayName("통신사 NAT처럼 한 IP를 공유해도 브라우저가 다르면 서로의 버킷을 소진하지 않는다")
+    void sharedPublicIpWithDifferentBrowsersIsNotRateLimited() {
+        BotTrafficClassifier classifier = newClassifier(new SimpleMeterRegistry(), 3);
+
+        for (int user = 0; user < 20; user++) {
+            String userAgent = BROWSER_USER_AGENT + " user/" + user;
+            for (int i = 0; i < 3; i++) {
+                assertThat(classifier.classify(request(userAgent, "203.0.113.7")).isBot()).isFalse();
+            }
+        }
+    }
+
+    private BotTrafficClassifier newClassifier(SimpleMeterRegistry meterRegistry, int rateCapacity) {
+        return new BotTrafficClassifier(
+                meterRegistry,
+                true,
+                true,
+                List.of("bot", "crawl", "spider"),
+                rateCapacity,
+                0.001,
+                1_000,
+                List.of("10.0.0.0/8", "::1")
+        );
+    }
+
+    private MockHttpServletRequest request(String userAgent, String remoteAddr) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/listings/unsold");
+        if (userAgent != null) {
+            request.addHeader("User-Agent", userAgent);
+        }
+        request.setRemoteAddr(remoteAddr);
+        return request;
+    }
+}
@@ -0,0 +1,53 @@
+package panda.analytics.ingest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import panda.analytics.ActorCardinalityService;
+import panda.analytics.AnalyticsService;
+import panda.analytics.bot.BotTrafficClassifier;
+import panda.analytics.traffic.HeavyHitters;
+import panda.analytics.traffic.TrafficAggregator;
+import panda.analytics.traffic.VisitMeters;
+
+class AnalyticsIngestionPipelineTest {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final VisitEventBatchWriter writer = mock(VisitEventBatchWriter.class);
+    private final ActorCardinalityService actorCardinalityService = mock(ActorCardinalityService.class);
+    private final VisitMeters visitMeters = mock(VisitMeters.class);
+    private final BotTrafficClassifier botTrafficClassifier = mock(BotTrafficClassifier.class);
+    private final TrafficAggregator trafficAggregator = new TrafficAggregator(48, 7, 10, 4, 256);
+    private final AnalyticsIngestionPipeline pipeline = new AnalyticsIngestionPipeline(
+            writer, actorCardinalityService, trafficAggregator, visitMeters, 16, 8, 200, OverflowPolicy.DROP
+    );
+    private final AnalyticsService analyticsService = new AnalyticsService(
+            null, null, null, null, botTrafficClassifier, pipeline, "anon_id", true, "None", 180, 5000, 0
+    );
+
+    @Test
+    @DisplayName("조회 비콘은 봇이 아니면 집계 전용으로 전달되고 방문으로 저장되지 않는다")
+    void tracksBeaconTrafficOnlyForHumans() {
+        when(botTrafficClassifier.classify(any()))
+                .thenReturn(BotTrafficClassifier.Classification.HUMAN)
+                .thenReturn(BotTrafficClassifier.Classification.BOT_USER_AGENT);
+
+        analyticsService.trackTraffic(new MockHttpServletRequest("POST", "/api/v1/listings/7/view"));
+        analyticsService.trackTraffic(new MockHttpServletRequest("POST", "/api/v1/listings/8/view"));
+        pipeline.flush();
+
+        assertThat(trafficAggregator.topListings(LocalDate.now(KST), null, 5))
+                .extracting(HeavyHitters.Item::key)
+                .containsExactly("7");
+        verifyNoInteractions(writer, actorCardinalityService, visitMeters);
+    }
+}
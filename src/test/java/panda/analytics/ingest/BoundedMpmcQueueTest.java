@@ -0,0 +1,81 @@
+package panda.analytics.ingest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BoundedMpmcQueueTest {
+
+    @Test
+    @DisplayName("용량이 가득 차면 offer가 false를 반환하고 FIFO 순서로 꺼낸다")
+    void rejectsWhenFullAndPreservesOrder() {
+        BoundedMpmcQueue<Integer> queue = new BoundedMpmcQueue<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(queue.offer(i)).isTrue();
+        }
+
+        assertThat(queue.offer(4)).isFalse();
+
+        List<Integer> drained = new ArrayList<>();
+        assertThat(queue.drainTo(drained, 10)).isEqualTo(4);
+        assertThat(drained).containsExactly(0, 1, 2, 3);
+        assertThat(queue.poll()).isNull();
+    }
+
+    @Test
+    @DisplayName("여러 생산자와 소비자가 동시에 접근해도 항목이 유실되거나 중복되지 않는다")
+    void concurrentProducersAndConsumersLoseNothing() throws Exception {
+        BoundedMpmcQueue<Integer> queue = new BoundedMpmcQueue<>(64);
+        int producers = 4;
+        int perProducer = 10_000;
+        Set<Integer> consumed = ConcurrentHashMap.newKeySet();
+        AtomicInteger polled = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        CountDownLatch producersDone = new CountDownLatch(producers);
+        ExecutorService executor = Executors.newFixedThreadPool(producers + 2);
+
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    while (!queue.offer(base + i)) {
+                        Thread.yield();
+                    }
+                }
+                producersDone.countDown();
+            }));
+        }
+        for (int c = 0; c < 2; c++) {
+            futures.add(executor.submit(() -> {
+                while (producersDone.getCount() > 0 || queue.size() > 0) {
+                    Integer item = queue.poll();
+                    if (item == null) {
+                        Thread.yield();
+                    } else {
+                        polled.incrementAndGet();
+                        consumed.add(item);
+                    }
+                }
+            }));
+        }
+
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        assertThat(polled.get()).isEqualTo(producers * perProducer);
+        assertThat(consumed).hasSize(producers * perProducer);
+    }
+}
@@ -0,0 +1,73 @@
+package panda.analytics.ingest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class DailyActorDeduplicatorTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 2);
+
+    @Test
+    @DisplayName("같은 날 이미 기록된 actor는 걸러내고 배치 안의 중복도 하나만 남긴다")
+    void filtersRecordedAndDuplicateActors() {
+        DailyActorDeduplicator deduplicator = new DailyActorDeduplicator(100);
+        deduplicator.markRecorded(List.of(event(TODAY, "anon_a")));
+
+        List<VisitEvent> unseen = deduplicator.filterUnseen(List.of(
+                event(TODAY, "anon_a"),
+                event(TODAY, "anon_b"),
+                event(TODAY, "anon_b")
+        ));
+
+        assertThat(unseen).extracting(VisitEvent::actorKey).containsExactly("anon_b");
+    }
+
+    @Test
+    @DisplayName("기록이 확정되기 전에는 다시 통과시킨다")
+    void passesThroughUntilMarkedRecorded() {
+        DailyActorDeduplicator deduplicator = new DailyActorDeduplicator(100);
+        List<VisitEvent> events = List.of(event(TODAY, "anon_a"));
+
+        assertThat(deduplicator.filterUnseen(events)).hasSize(1);
+        assertThat(deduplicator.filterUnseen(events)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("KST 날짜가 바뀌면 전날 기록은 초기화된다")
+    void resetsWhenDayChanges() {
+        DailyActorDeduplicator deduplicator = new DailyActorDeduplicator(100);
+        deduplicator.markRecorded(List.of(event(TODAY, "anon_a")));
+
+        assertThat(deduplicator.filterUnseen(List.of(event(TODAY.plusDays(1), "anon_a")))).hasSize(1);
+
+        deduplicator.markRecorded(List.of(event(TODAY.plusDays(1), "anon_b")));
+
+        assertThat(deduplicator.size()).isEqualTo(1);
+        assertThat(deduplicator.filterUnseen(List.of(event(TODAY.plusDays(1), "anon_b")))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("자정을 걸친 배치에서는 같은 actor도 날짜별로 하나씩 남긴다")
+    void keepsOneEventPerDayWhenBatchSpansMidnight() {
+        DailyActorDeduplicator deduplicator = new DailyActorDeduplicator(100);
+
+        List<VisitEvent> unseen = deduplicator.filterUnseen(List.of(
+                event(TODAY, "anon_a"),
+                event(TODAY, "anon_a"),
+                event(TODAY.plusDays(1), "anon_a"),
+                event(TODAY.plusDays(1), "anon_a")
+        ));
+
+        assertThat(unseen).extracting(VisitEvent::eventDateKst).containsExactly(TODAY, TODAY.plusDays(1));
+    }
+
+    private VisitEvent event(LocalDate date, String actorKey) {
+        return new VisitEvent(date, actorKey, "/api/v1/listings", LocalDateTime.of(date, LocalTime.NOON));
+    }
+}
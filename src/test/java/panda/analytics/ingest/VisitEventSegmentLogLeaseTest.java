@@ -0,0 +1,65 @@
+package panda.analytics.ingest;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+class VisitEventSegmentLogLeaseTest {
+
+    private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+
+    @Test
+    @DisplayName("세그먼트 저장소를 쓰는 다른 인스턴스가 임대를 가지고 있으면 시작에 실패한다")
+    void refusesToStartWhileAnotherInstanceHoldsTheLease() {
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq(VisitEventSegmentLogLease.LEASE_KEY), anyString(), any(Duration.class)))
+                .thenReturn(false);
+        VisitEventSegmentLogLease lease = new VisitEventSegmentLogLease(stringRedisTemplate, segmentLog(true), 60_000);
+
+        assertThatThrownBy(lease::acquire)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("single instance");
+    }
+
+    @Test
+    @DisplayName("임대가 비어 있으면 획득하고 시작한다")
+    void acquiresFreeLease() {
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq(VisitEventSegmentLogLease.LEASE_KEY), anyString(), any(Duration.class)))
+                .thenReturn(true);
+        VisitEventSegmentLogLease lease = new VisitEventSegmentLogLease(stringRedisTemplate, segmentLog(true), 60_000);
+
+        assertThatCode(lease::acquire).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("DB 저장소를 쓰면 Redis에 접근하지 않는다")
+    void skipsRedisWhenSegmentSinkIsDisabled() {
+        VisitEventSegmentLogLease lease = new VisitEventSegmentLogLease(stringRedisTemplate, segmentLog(false), 60_000);
+
+        lease.acquire();
+        lease.renew();
+        lease.release();
+
+        verifyNoInteractions(stringRedisTemplate);
+    }
+
+    private VisitEventSegmentLog segmentLog(boolean enabled) {
+        VisitEventSegmentLog segmentLog = mock(VisitEventSegmentLog.class);
+        when(segmentLog.isEnabled()).thenReturn(enabled);
+        return segmentLog;
+    }
+}
@@ -0,0 +1,147 @@
+package panda.analytics.ingest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class VisitEventSegmentLogTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 3, 2);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("날짜별 세그먼트에 기록한 이벤트를 순서대로 재생한다")
+    void replaysEventsOfOneDayInOrder() {
+        VisitEventSegmentLog segmentLog = newSegmentLog(1024 * 1024);
+        segmentLog.append(List.of(
+                event(DAY, "anon_a", "/api/v1/listings/unsold", 9),
+                event(DAY.plusDays(1), "anon_b", "/api/v1/listings/7/view", 0),
+                event(DAY, "anon_b", null, 10)
+        ));
+        segmentLog.append(List.of(event(DAY, "anon_a", "/api/v1/listings/unsold", 11)));
+        segmentLog.close();
+
+        List<VisitEvent> replayed = new ArrayList<>();
+        segmentLog.replay(DAY, replayed::add);
+
+        assertThat(replayed).containsExactly(
+                event(DAY, "anon_a", "/api/v1/listings/unsold", 9),
+                event(DAY, "anon_b", null, 10),
+                event(DAY, "anon_a", "/api/v1/listings/unsold", 11)
+        );
+    }
+
+    @Test
+    @DisplayName("크기 제한을 넘으면 새 세그먼트로 회전하고 잘린 마지막 프레임은 무시한다")
+    void rotatesBySizeAndIgnoresTornTail() throws IOException {
+        VisitEventSegmentLog segmentLog = newSegmentLog(1);
+        segmentLog.append(List.of(event(DAY, "anon_a", "/a", 9)));
+        segmentLog.append(List.of(event(DAY, "anon_b", "/b", 10)));
+        segmentLog.close();
+
+        List<Path> segments;
+        try (Stream<Path> files = Files.list(directory)) {
+            segments = files.sorted().toList();
+        }
+        assertThat(segments).hasSize(2);
+        Files.write(segments.get(1), new byte[]{0, 0, 0, 42, 1, 2}, StandardOpenOption.APPEND);
+
+        List<VisitEvent> replayed = new ArrayList<>();
+        segmentLog.replay(DAY, replayed::add);
+
+        assertThat(replayed).extracting(VisitEvent::actorKey).containsExactly("anon_a", "anon_b");
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 날짜의 세그먼트를 삭제한다")
+    void deletesSegmentsBeforeCutoff() {
+        VisitEventSegmentLog segmentLog = newSegmentLog(1024 * 1024);
+        segmentLog.append(List.of(event(DAY, "anon_a", "/a", 9), event(DAY.plusDays(1), "anon_a", "/a", 9)));
+
+        assertThat(segmentLog.deleteBefore(DAY.plusDays(1))).isEqualTo(1);
+
+        List<VisitEvent> replayed = new ArrayList<>();
+        segmentLog.replay(DAY, replayed::add);
+        assertThat(replayed).isEmpty();
+        segmentLog.close();
+    }
+
+    @Test
+    @DisplayName("당일 이벤트 수는 한 번만 재생하고 이후 기록분은 카운터로 더한다")
+    void countsEventsOncePerDayAndTracksAppends() throws IOException {
+        VisitEventSegmentLog segmentLog = newSegmentLog(1024 * 1024);
+        segmentLog.append(List.of(event(DAY, "anon_a", "/a", 9), event(DAY, "anon_b", "/a", 9)));
+
+        assertThat(segmentLog.countEvents(DAY)).isEqualTo(2);
+
+        segmentLog.close();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        segmentLog.append(List.of(event(DAY, "anon_c", "/a", 10)));
+
+        assertThat(segmentLog.countEvents(DAY)).isEqualTo(3);
+        assertThat(newSegmentLog(1024 * 1024).countEvents(DAY)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("기록 중에도 이벤트 수를 조회할 수 있다")
+    void countsEventsWithoutBlockingAppends() throws Exception {
+        VisitEventSegmentLog segmentLog = newSegmentLog(1024 * 1024);
+        Thread writer = new Thread(() -> {
+            for (int i = 0; i < 200; i++) {
+                segmentLog.append(List.of(event(DAY, "anon_" + i, "/a", 9)));
+            }
+        });
+        writer.start();
+        while (writer.isAlive()) {
+            assertThat(segmentLog.countEvents(DAY)).isBetween(0L, 200L);
+        }
+        writer.join();
+
+        assertThat(segmentLog.countEvents(DAY)).isEqualTo(200);
+        segmentLog.close();
+    }
+
+    @Test
+    @DisplayName("세그먼트 저장소를 켜면서 상대 경로를 주면 시작에 실패한다")
+    void rejectsRelativeDirectoryWhenEnabled() {
+        assertThatThrownBy(() -> new VisitEventSegmentLog(
+                VisitEventSegmentLog.VisitSink.SEGMENT_LOG, "data/visit-segments", 1024, 2
+        )).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new VisitEventSegmentLog(
+                VisitEventSegmentLog.VisitSink.SEGMENT_LOG, "", 1024, 2
+        )).isInstanceOf(IllegalStateException.class);
+
+        assertThat(new VisitEventSegmentLog(VisitEventSegmentLog.VisitSink.DATABASE, "", 1024, 2).isEnabled())
+                .isFalse();
+    }
+
+    private VisitEventSegmentLog newSegmentLog(long maxSegmentBytes) {
+        return new VisitEventSegmentLog(
+                VisitEventSegmentLog.VisitSink.SEGMENT_LOG,
+                directory.toString(),
+                maxSegmentBytes,
+                2
+        );
+    }
+
+    private VisitEvent event(LocalDate date, String actorKey, String path, int hour) {
+        return new VisitEvent(date, actorKey, path, date.atTime(hour, 0));
+    }
+}
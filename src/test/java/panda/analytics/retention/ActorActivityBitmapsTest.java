@@ -0,0 +1,48 @@
+package panda.analytics.retention;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ActorActivityBitmapsTest {
+
+    private static final LocalDate DAY0 = LocalDate.of(2026, 3, 1);
+
+    @Test
+    @DisplayName("첫 방문일 기준 코호트와 N일 후 재방문 수를 계산한다")
+    void computesFirstSeenCohortRetention() {
+        ActorActivityBitmaps bitmaps = ActorActivityBitmaps.builder(DAY0, DAY0.plusDays(7))
+                .add(DAY0, "a")
+                .add(DAY0, "b")
+                .add(DAY0, "c")
+                .add(DAY0.plusDays(1), "a")
+                .add(DAY0.plusDays(1), "d")
+                .add(DAY0.plusDays(7), "a")
+                .add(DAY0.plusDays(7), "b")
+                .add(DAY0.plusDays(7), "d")
+                .build();
+
+        assertThat(bitmaps.actorCount()).isEqualTo(4);
+        assertThat(bitmaps.cohortSize(DAY0)).isEqualTo(3);
+        assertThat(bitmaps.cohortSize(DAY0.plusDays(1))).isEqualTo(1);
+        assertThat(bitmaps.cohortSize(DAY0.plusDays(7))).isZero();
+        assertThat(bitmaps.retained(DAY0, 1)).isEqualTo(1);
+        assertThat(bitmaps.retained(DAY0, 7)).isEqualTo(2);
+        assertThat(bitmaps.retained(DAY0.plusDays(1), 6)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("스냅샷 범위를 벗어난 날짜는 재방문 수를 null로 반환한다")
+    void returnsNullOutsideSnapshot() {
+        ActorActivityBitmaps bitmaps = ActorActivityBitmaps.builder(DAY0, DAY0.plusDays(2))
+                .add(DAY0, "a")
+                .add(DAY0.plusDays(10), "a")
+                .build();
+
+        assertThat(bitmaps.retained(DAY0, 30)).isNull();
+        assertThat(bitmaps.cohortSize(DAY0.minusDays(1))).isZero();
+        assertThat(bitmaps.endDate()).isEqualTo(DAY0.plusDays(2));
+    }
+}
@@ -0,0 +1,82 @@
+package panda.analytics.traffic;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import panda.analytics.ingest.VisitEvent;
+
+class TrafficAggregatorTest {
+
+    @Test
+    @DisplayName("롱테일 키가 많아도 가장 많이 등장한 키를 상위로 유지한다")
+    void keepsHeaviestKeysUnderLongTail() {
+        HeavyHitters heavyHitters = new HeavyHitters(5, 4, 1024);
+        for (int i = 0; i < 2_000; i++) {
+            heavyHitters.add("tail-" + i);
+            if (i % 4 == 0) {
+                heavyHitters.add("hot-a");
+            }
+            if (i % 8 == 0) {
+                heavyHitters.add("hot-b");
+            }
+        }
+
+        List<HeavyHitters.Item> top = heavyHitters.top(2);
+
+        assertThat(top).extracting(HeavyHitters.Item::key).containsExactly("hot-a", "hot-b");
+        assertThat(top.getFirst().count()).isGreaterThanOrEqualTo(500);
+    }
+
+    @Test
+    @DisplayName("방문 경로에서 매물 ID를 추출하고 숫자 구간은 정규화해 시간/일 단위로 집계한다")
+    void aggregatesPathsAndListingsPerHourAndDay() {
+        TrafficAggregator aggregator = new TrafficAggregator(48, 7, 10, 4, 256);
+        LocalDate date = LocalDate.of(2026, 3, 2);
+        List<VisitEvent> events = new ArrayList<>();
+        events.add(event(date, 9, "/api/v1/listings/7/view"));
+        events.add(event(date, 9, "/api/v1/listings/7/view"));
+        events.add(event(date, 10, "/api/v1/listings/8/view"));
+        events.add(event(date, 10, "/api/v1/listings/unsold"));
+
+        aggregator.record(events);
+
+        assertThat(aggregator.topListings(date, 9, 5))
+                .extracting(HeavyHitters.Item::key)
+                .containsExactly("7");
+        assertThat(aggregator.topListings(date, null, 5))
+                .extracting(HeavyHitters.Item::key)
+                .containsExactly("7", "8");
+        assertThat(aggregator.topPaths(date, null, 1))
+                .singleElement()
+                .satisfies(item -> {
+                    assertThat(item.key()).isEqualTo("/api/v1/listings/{id}/view");
+                    assertThat(item.count()).isEqualTo(3);
+                });
+        assertThat(aggregator.topPaths(date.minusDays(1), null, 5)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("방문 이벤트 없이 단건으로 기록한 조회 비콘도 같은 집계에 합산된다")
+    void recordsBeaconWithoutVisitEvent() {
+        TrafficAggregator aggregator = new TrafficAggregator(48, 7, 10, 4, 256);
+        LocalDate date = LocalDate.of(2026, 3, 2);
+
+        aggregator.record(List.of(event(date, 9, "/api/v1/listings/7/view")));
+        aggregator.record("/api/v1/listings/7/view", date.atTime(9, 30));
+        aggregator.record("/api/v1/listings/8/view", date.atTime(9, 45));
+
+        assertThat(aggregator.topListings(date, 9, 5))
+                .extracting(HeavyHitters.Item::key, HeavyHitters.Item::count)
+                .containsExactly(tuple("7", 2L), tuple("8", 1L));
+    }
+
+    private VisitEvent event(LocalDate date, int hour, String path) {
+        return new VisitEvent(date, "anon_a", path, date.atTime(hour, 0));
+    }
+}
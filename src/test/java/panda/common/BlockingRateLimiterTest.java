@@ -0,0 +1,21 @@
+package panda.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BlockingRateLimiterTest {
+
+    @Test
+    @DisplayName("허가는 초당 허용량에 맞춰 일정 간격으로 예약된다")
+    void reservesEvenlySpacedSlots() {
+        BlockingRateLimiter limiter = new BlockingRateLimiter(10);
+        long now = System.nanoTime() + 1_000_000_000L;
+
+        assertThat(limiter.reserve(now)).isZero();
+        assertThat(limiter.reserve(now)).isEqualTo(100_000_000L);
+        assertThat(limiter.reserve(now)).isEqualTo(200_000_000L);
+        assertThat(limiter.reserve(now + 1_000_000_000L)).isZero();
+    }
+}
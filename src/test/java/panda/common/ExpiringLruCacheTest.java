@@ -0,0 +1,47 @@
+package panda.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ExpiringLruCacheTest {
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용하지 않은 항목이 제거된다")
+    void evictsLeastRecentlyUsedEntryWhenFull() {
+        ExpiringLruCache<Long, String> cache = new ExpiringLruCache<>(2, Duration.ofMinutes(1));
+        cache.put(1L, "one");
+        cache.put(2L, "two");
+        cache.get(1L);
+
+        cache.put(3L, "three");
+
+        assertThat(cache.get(1L)).isEqualTo("one");
+        assertThat(cache.get(2L)).isNull();
+        assertThat(cache.get(3L)).isEqualTo("three");
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("TTL이 지난 항목은 조회되지 않는다")
+    void expiredEntryIsNotReturned() {
+        ExpiringLruCache<Long, String> cache = new ExpiringLruCache<>(10, Duration.ZERO);
+        cache.put(1L, "one");
+
+        assertThat(cache.get(1L)).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("invalidate 한 항목은 다시 조회되지 않는다")
+    void invalidatedEntryIsRemoved() {
+        ExpiringLruCache<Long, String> cache = new ExpiringLruCache<>(10, Duration.ofMinutes(1));
+        cache.put(1L, "one");
+
+        cache.invalidate(1L);
+
+        assertThat(cache.get(1L)).isNull();
+    }
+}
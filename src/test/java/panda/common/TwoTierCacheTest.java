@@ -0,0 +1,147 @@
+package panda.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+class TwoTierCacheTest {
+
+    private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+    private final TwoTierCache<String> cache;
+
+    TwoTierCacheTest() {
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        cache = new TwoTierCache<>(
+                "test:",
+                String.class,
+                10,
+                Duration.ofMinutes(1),
+                stringRedisTemplate,
+                new ObjectMapper(),
+                Duration.ofDays(1)
+        );
+    }
+
+    @Test
+    @DisplayName("같은 키의 동시 조회는 로더를 한 번만 호출한다")
+    void coalescesConcurrentMisses() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        List<String> results = Collections.synchronizedList(new ArrayList<>());
+        for (int i = 0; i < 8; i++) {
+            threads.add(Thread.ofVirtual().start(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                results.add(cache.get("parcel", () -> {
+                    loads.incrementAndGet();
+                    try {
+                        Thread.sleep(200);
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return "ledger";
+                }));
+            }));
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(loads).hasValue(1);
+        assertThat(results).hasSize(8).containsOnly("ledger");
+        verify(valueOperations).set(eq("test:parcel"), eq("\"ledger\""), eq(Duration.ofDays(1)));
+    }
+
+    @Test
+    @DisplayName("Redis에 저장된 값이 있으면 로더를 호출하지 않는다")
+    void readsRedisTierBeforeLoader() {
+        when(valueOperations.get("test:parcel")).thenReturn("\"persisted\"");
+
+        String value = cache.get("parcel", () -> {
+            throw new AssertionError("loader must not be called");
+        });
+
+        assertThat(value).isEqualTo("persisted");
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 로더 결과를 반환하고, 로더 실패는 캐시하지 않는다")
+    void fallsBackToLoaderAndDoesNotCacheFailures() {
+        when(valueOperations.get(anyString())).thenThrow(new IllegalStateException("redis down"));
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThatThrownBy(() -> cache.get("parcel", () -> {
+            loads.incrementAndGet();
+            throw new IllegalStateException("upstream down");
+        })).hasMessage("upstream down");
+        String value = cache.get("parcel", () -> {
+            loads.incrementAndGet();
+            return "ledger";
+        });
+
+        assertThat(value).isEqualTo("ledger");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("로더가 Error를 던져도 기다리던 호출이 같은 오류로 깨어난다")
+    void wakesWaitersWhenLoaderThrowsError() throws Exception {
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+        List<Throwable> failures = Collections.synchronizedList(new ArrayList<>());
+        Thread loader = Thread.ofVirtual().start(() -> {
+            try {
+                cache.get("parcel", () -> {
+                    loaderStarted.countDown();
+                    try {
+                        releaseLoader.await();
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                    throw new StackOverflowError("simulated");
+                });
+            } catch (Throwable ex) {
+                failures.add(ex);
+            }
+        });
+        loaderStarted.await();
+        Thread waiter = Thread.ofVirtual().start(() -> {
+            try {
+                cache.get("parcel", () -> "ledger");
+            } catch (Throwable ex) {
+                failures.add(ex);
+            }
+        });
+        Thread.sleep(100);
+        releaseLoader.countDown();
+
+        loader.join(Duration.ofSeconds(5));
+        waiter.join(Duration.ofSeconds(5));
+
+        assertThat(waiter.isAlive()).isFalse();
+        assertThat(failures).hasSize(2).allMatch(StackOverflowError.class::isInstance);
+    }
+}
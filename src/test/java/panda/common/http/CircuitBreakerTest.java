@@ -0,0 +1,46 @@
+package panda.common.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerTest {
+
+    private static final long OPEN_NANOS = 1_000L;
+
+    @Test
+    @DisplayName("실패율이 임계치를 넘으면 열리고, 대기 후 단일 probe 성공 시 닫힌다")
+    void opensOnFailureRateAndClosesAfterSuccessfulProbe() {
+        CircuitBreaker circuitBreaker = new CircuitBreaker(4, 4, 0.5, OPEN_NANOS);
+        circuitBreaker.onSuccess();
+        circuitBreaker.onSuccess();
+        circuitBreaker.onFailure(0);
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        circuitBreaker.onFailure(10);
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquire(10 + OPEN_NANOS - 1)).isFalse();
+
+        assertThat(circuitBreaker.tryAcquire(10 + OPEN_NANOS)).isTrue();
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(circuitBreaker.tryAcquire(10 + OPEN_NANOS)).isFalse();
+
+        circuitBreaker.onSuccess();
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.tryAcquire(10 + OPEN_NANOS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("half-open probe가 실패하면 다시 열린다")
+    void reopensWhenProbeFails() {
+        CircuitBreaker circuitBreaker = new CircuitBreaker(2, 1, 0.5, OPEN_NANOS);
+        circuitBreaker.onFailure(0);
+        assertThat(circuitBreaker.tryAcquire(OPEN_NANOS)).isTrue();
+
+        circuitBreaker.onFailure(OPEN_NANOS);
+
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquire(OPEN_NANOS + 1)).isFalse();
+    }
+}
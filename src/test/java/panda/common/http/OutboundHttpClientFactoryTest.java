@@ -0,0 +1,120 @@
+package panda.common.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+
+class OutboundHttpClientFactoryTest {
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MockEnvironment environment = new MockEnvironment()
+            .withProperty("app.http.default.retry-backoff-ms", "1")
+            .withProperty("app.http.test.read-timeout-ms", "200")
+            .withProperty("app.http.test.circuit.window-size", "4")
+            .withProperty("app.http.test.circuit.minimum-calls", "2");
+    private HttpServer server;
+    private String baseUrl;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress(0), 0);
+        server.createContext("/flaky", exchange -> {
+            int status = requests.incrementAndGet() == 1 ? 503 : 200;
+            respond(exchange, status);
+        });
+        server.createContext("/down", exchange -> {
+            requests.incrementAndGet();
+            respond(exchange, 500);
+        });
+        server.createContext("/slow", exchange -> {
+            requests.incrementAndGet();
+            try {
+                Thread.sleep(1_000);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, 200);
+        });
+        server.start();
+        baseUrl = "http://localhost:" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("GET 요청은 5xx 응답 후 재시도되고 지연 시간이 기록된다")
+    void retriesIdempotentRequestOnServerError() {
+        RestClient restClient = new OutboundHttpClientFactory(environment, meterRegistry).builder("test")
+                .baseUrl(baseUrl)
+                .build();
+
+        String body = restClient.get().uri("/flaky").retrieve().body(String.class);
+
+        assertThat(body).isEqualTo("ok");
+        assertThat(requests).hasValue(2);
+        assertThat(meterRegistry.get("http.client.upstream.retries").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("http.client.upstream.requests").tag("outcome", "2xx").timer().count())
+                .isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("연속 실패로 서킷이 열리면 upstream을 호출하지 않고 거절한다")
+    void rejectsWithoutCallingUpstreamWhenCircuitIsOpen() {
+        environment.setProperty("app.http.test.max-attempts", "1");
+        RestClient restClient = new OutboundHttpClientFactory(environment, meterRegistry).builder("test")
+                .baseUrl(baseUrl)
+                .build();
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> restClient.get().uri("/down").retrieve().toBodilessEntity())
+                    .isInstanceOf(HttpServerErrorException.class);
+        }
+        assertThatThrownBy(() -> restClient.get().uri("/down").retrieve().toBodilessEntity())
+                .isInstanceOf(ResourceAccessException.class)
+                .hasCauseInstanceOf(UpstreamRejectedException.class);
+
+        assertThat(requests).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("읽기 타임아웃을 넘기면 ResourceAccessException으로 실패한다")
+    void failsFastOnReadTimeout() {
+        environment.setProperty("app.http.test.max-attempts", "1");
+        RestClient restClient = new OutboundHttpClientFactory(environment, meterRegistry).builder("test")
+                .baseUrl(baseUrl)
+                .build();
+
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> restClient.get().uri("/slow").retrieve().body(String.class))
+                .isInstanceOf(ResourceAccessException.class);
+        assertThat((System.nanoTime() - startedAt) / 1_000_000).isLessThan(900L);
+    }
+
+    private void respond(HttpExchange exchange, int status) throws IOException {
+        byte[] bytes = (status == 200 ? "ok" : "error").getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package panda.common.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.web.client.ResourceAccessException;
+
+class ResilientHttpInterceptorTest {
+
+    private final ResilientHttpInterceptor interceptor = new ResilientHttpInterceptor(
+            "test",
+            new UpstreamSettings(
+                    Duration.ofSeconds(1),
+                    Duration.ofSeconds(1),
+                    HttpClient.Version.HTTP_1_1,
+                    4,
+                    Duration.ofMillis(100),
+                    1,
+                    Duration.ofMillis(1),
+                    4,
+                    1,
+                    0.5,
+                    Duration.ZERO
+            ),
+            new SimpleMeterRegistry()
+    );
+    private final MockClientHttpRequest request =
+            new MockClientHttpRequest(HttpMethod.GET, URI.create("http://upstream/a"));
+
+    @Test
+    @DisplayName("HALF_OPEN 탐색 호출이 런타임 예외로 끝나도 서킷이 다시 호출을 받는다")
+    void runtimeExceptionDuringProbeDoesNotWedgeTheCircuit() throws Exception {
+        ClientHttpRequestExecution failing = (req, body) -> {
+            throw new ResourceAccessException("connection reset");
+        };
+        ClientHttpRequestExecution succeeding = (req, body) -> new MockClientHttpResponse(new byte[0], HttpStatus.OK);
+
+        assertThatThrownBy(() -> interceptor.intercept(request, new byte[0], failing))
+                .isInstanceOf(ResourceAccessException.class);
+        assertThat(interceptor.circuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        assertThatThrownBy(() -> interceptor.intercept(request, new byte[0], failing))
+                .isInstanceOf(ResourceAccessException.class);
+        assertThat(interceptor.circuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        assertThat(interceptor.intercept(request, new byte[0], succeeding).getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(interceptor.circuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(interceptor.availableCalls()).isEqualTo(4);
+    }
+}
@@ -0,0 +1,111 @@
+package panda.listing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BuildingLedgerResponseParserTest {
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    @Test
+    @DisplayName("item 배열에서 필요한 필드만 읽고 관계없는 중첩 값은 건너뛴다")
+    void readsItemArrayAndSkipsUnrelatedValues() throws IOException {
+        String json = """
+                {"response":{"header":{"resultCode":"00","extra":[1,{"a":2}]},
+                 "body":{"items":{"item":[
+                   {"flrNo":3,"area":59.9,"etc":{"nested":[1,2]}},
+                   {"flrNo":"4","area":"84.5"}
+                 ]},"totalCount":"2"}}}
+                """;
+
+        BuildingLedgerResponseParser.Page<String> page = parse(json);
+
+        assertThat(page.totalCount()).isEqualTo(2);
+        assertThat(page.items()).containsExactly("3:59.9", "4:84.5");
+    }
+
+    @Test
+    @DisplayName("item이 단일 객체이거나 items가 빈 문자열인 응답도 읽는다")
+    void readsSingleObjectItemAndEmptyItems() throws IOException {
+        BuildingLedgerResponseParser.Page<String> single = parse(
+                "{\"response\":{\"body\":{\"totalCount\":1,\"items\":{\"item\":{\"flrNo\":\"7\",\"area\":\"33\"}}}}}"
+        );
+        BuildingLedgerResponseParser.Page<String> empty = parse(
+                "{\"response\":{\"body\":{\"totalCount\":0,\"items\":\"\"}}}"
+        );
+
+        assertThat(single.items()).containsExactly("7:33");
+        assertThat(empty.totalCount()).isZero();
+        assertThat(empty.items()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("리더가 null을 반환한 항목은 결과에서 제외한다")
+    void dropsItemsRejectedByReader() throws IOException {
+        String json = """
+                {"response":{"body":{"totalCount":3,"items":{"item":[
+                  {"flrNo":"1","kind":"전유"},{"flrNo":"1","kind":"공용"},{"flrNo":"2","kind":"전유"}
+                ]}}}}
+                """;
+
+        try (JsonParser parser = jsonFactory.createParser(json)) {
+            BuildingLedgerResponseParser.Page<String> page = BuildingLedgerResponseParser.parse(parser, itemParser -> {
+                String flrNo = "";
+                String kind = "";
+                while (itemParser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = itemParser.currentName();
+                    itemParser.nextToken();
+                    if ("flrNo".equals(field)) {
+                        flrNo = BuildingLedgerResponseParser.text(itemParser, "");
+                    } else if ("kind".equals(field)) {
+                        kind = BuildingLedgerResponseParser.text(itemParser, "");
+                    } else {
+                        itemParser.skipChildren();
+                    }
+                }
+                return "전유".equals(kind) ? flrNo : null;
+            });
+
+            assertThat(page.totalCount()).isEqualTo(3);
+            assertThat(page.rowCount()).isEqualTo(3);
+            assertThat(page.items()).containsExactly("1", "2");
+        }
+    }
+
+    @Test
+    @DisplayName("빈 본문은 예외로 처리한다")
+    void rejectsEmptyBody() throws IOException {
+        try (JsonParser parser = jsonFactory.createParser("")) {
+            assertThatThrownBy(() -> BuildingLedgerResponseParser.parse(parser, itemParser -> null))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    private BuildingLedgerResponseParser.Page<String> parse(String json) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(json)) {
+            return BuildingLedgerResponseParser.parse(parser, itemParser -> {
+                String flrNo = "";
+                String areaText = "0";
+                while (itemParser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = itemParser.currentName();
+                    itemParser.nextToken();
+                    if ("flrNo".equals(field)) {
+                        flrNo = BuildingLedgerResponseParser.text(itemParser, "");
+                    } else if ("area".equals(field)) {
+                        areaText = BuildingLedgerResponseParser.text(itemParser, "0");
+                    } else {
+                        itemParser.skipChildren();
+                    }
+                }
+                return flrNo + ":" + areaText;
+            });
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package panda.listing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.server.ResponseStatusException;
+import panda.listing.dto.BuildingLedgerExclusivityResponse;
+import panda.listing.dto.BuildingLedgerUnitSummaryResponse;
+
+class BuildingLedgerServiceTest {
+
+    private static final Pattern PAGE_NO = Pattern.compile("pageNo=(\\d+)");
+    private static final int TOTAL_COUNT = 250;
+    private static final int NUM_OF_ROWS = 100;
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private volatile int servedPageSize = NUM_OF_ROWS;
+    private volatile boolean oversizedBuilding;
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private BuildingLedgerService buildingLedgerService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress(0), 0);
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.createContext("/getBrExposPubuseAreaInfo", this::respondExclusivityPage);
+        server.start();
+
+        StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+        when(stringRedisTemplate.opsForValue()).thenReturn(mock(ValueOperations.class));
+        buildingLedgerService = new BuildingLedgerService(
+                RestClient.builder(),
+                new ObjectMapper(),
+                stringRedisTemplate,
+                "http://localhost:" + server.getAddress().getPort(),
+                "test-key",
+                NUM_OF_ROWS,
+                2,
+                200,
+                10,
+                10,
+                1,
+                1
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("첫 페이지 이후 나머지 페이지를 제한된 동시성으로 가져오고 페이지 순서를 유지한다")
+    void fetchesRemainingPagesConcurrentlyInOrder() {
+        BuildingLedgerExclusivityResponse response =
+                buildingLedgerService.getExclusivityInfo("11680", "10300", "0", "12", "0", "101동", "1203호");
+
+        var items = response.data().items().item();
+        assertThat(items).hasSize(TOTAL_COUNT);
+        assertThat(items.getFirst().flrNo()).isEqualTo("1000");
+        assertThat(items.get(NUM_OF_ROWS).flrNo()).isEqualTo("2000");
+        assertThat(items.getLast().flrNo()).isEqualTo("3049");
+        assertThat(requests).hasValue(3);
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("API가 numOfRows보다 적게 주면 첫 페이지의 건수를 페이지 크기로 삼아 끝까지 가져온다")
+    void derivesPageSizeFromFirstPage() {
+        servedPageSize = 40;
+
+        BuildingLedgerExclusivityResponse response =
+                buildingLedgerService.getExclusivityInfo("11680", "10300", "0", "12", "0", "101동", "1203호");
+
+        var items = response.data().items().item();
+        assertThat(items).hasSize(TOTAL_COUNT);
+        assertThat(items.get(40).flrNo()).isEqualTo("2000");
+        assertThat(items.getLast().flrNo()).isEqualTo("7009");
+        assertThat(requests).hasValue(7);
+    }
+
+    @Test
+    @DisplayName("정규화된 지번이 같으면 캐시된 응답을 재사용한다")
+    void reusesCachedResponseForEquivalentParcel() {
+        buildingLedgerService.getExclusivityInfo("11680", "10300", "0", "12", "0", "101동", "1203호");
+        buildingLedgerService.getExclusivityInfo("11680", "10300", "0", "0012", "0000", "101 동", "1203호");
+
+        assertThat(requests).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("호 단위 면적 요약을 계산하고 같은 건물의 다른 호는 캐시된 색인에서 조회한다")
+    void summarizesUnitsFromBuildingIndex() {
+        BuildingLedgerUnitSummaryResponse first =
+                buildingLedgerService.getUnitSummary("11680", "10300", "0", "12", "0", "101 동", "1203");
+        BuildingLedgerUnitSummaryResponse second =
+                buildingLedgerService.getUnitSummary("11680", "10300", "0", "12", "0", "102동", "301호");
+
+        assertThat(first.flrNo()).isEqualTo("12");
+        assertThat(first.exclusiveArea()).isEqualTo(84.97);
+        assertThat(first.publicArea()).isEqualTo(25.03);
+        assertThat(first.supplyArea()).isEqualTo(110.0);
+        assertThat(first.exclusiveRatio()).isEqualTo(77.25);
+        assertThat(second.hoNm()).isEqualTo("301호");
+        assertThat(second.exclusiveArea()).isEqualTo(59.9);
+        assertThat(requests).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("maxPages에 다 담기지 않는 건물은 색인을 캐시하지 않고 동·호 조건 조회로 찾는다")
+    void fallsBackToFilteredLookupForOversizedBuilding() {
+        oversizedBuilding = true;
+
+        BuildingLedgerUnitSummaryResponse first =
+                buildingLedgerService.getUnitSummary("11680", "10300", "0", "12", "0", "101 동", "1203");
+        BuildingLedgerUnitSummaryResponse second =
+                buildingLedgerService.getUnitSummary("11680", "10300", "0", "12", "0", "102동", "301호");
+
+        assertThat(first.exclusiveArea()).isEqualTo(84.97);
+        assertThat(second.exclusiveArea()).isEqualTo(59.9);
+        assertThat(requests).hasValue(3);
+        assertThatThrownBy(() ->
+                buildingLedgerService.getUnitSummary("11680", "10300", "0", "12", "0", "101동", "9999호"))
+                .isInstanceOf(ResponseStatusException.class);
+    }
+
+    @Test
+    @DisplayName("건축물대장에 없는 호는 404로 응답한다")
+    void rejectsUnknownUnit() {
+        assertThatThrownBy(() ->
+                buildingLedgerService.getUnitSummary("11680", "10300", "0", "12", "0", "101동", "9999호"))
+                .isInstanceOf(ResponseStatusException.class)
+                .satisfies(ex -> assertThat(((ResponseStatusException) ex).getStatusCode())
+                        .isEqualTo(HttpStatus.NOT_FOUND));
+    }
+
+    private void respondExclusivityPage(HttpExchange exchange) throws IOException {
+        if (!exchange.getRequestURI().getRawQuery().contains("hoNm=")) {
+            respondBuildingUnits(exchange, oversizedBuilding ? 4_000 : 4);
+            return;
+        }
+        if (oversizedBuilding) {
+            respondBuildingUnits(exchange, 4);
+            return;
+        }
+        requests.incrementAndGet();
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try {
+            Thread.sleep(50);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        inFlight.decrementAndGet();
+
+        Matcher matcher = PAGE_NO.matcher(exchange.getRequestURI().getRawQuery());
+        int pageNo = matcher.find() ? Integer.parseInt(matcher.group(1)) : 1;
+        int size = Math.min(servedPageSize, TOTAL_COUNT - (pageNo - 1) * servedPageSize);
+        StringBuilder items = new StringBuilder();
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                items.append(',');
+            }
+            items.append("{\"flrNo\":\"").append(pageNo * 1000 + i)
+                    .append("\",\"area\":\"59.9\",\"exposPubuseGbCdNm\":\"전유\"}");
+        }
+        String body = "{\"response\":{\"body\":{\"totalCount\":" + TOTAL_COUNT
+                + ",\"items\":{\"item\":[" + items + "]}}}}";
+
+        writeJson(exchange, body);
+    }
+
+    private void respondBuildingUnits(HttpExchange exchange, int totalCount) throws IOException {
+        requests.incrementAndGet();
+        String body = """
+                {"response":{"body":{"totalCount":%d,"items":{"item":[
+                  {"dongNm":"101동","hoNm":"1203호","flrNo":"12","exposPubuseGbCdNm":"전유","area":"84.97"},
+                  {"dongNm":"101동","hoNm":"1203호","flrNo":"12","exposPubuseGbCdNm":"공용","area":"20.01"},
+                  {"dongNm":"101동","hoNm":"1203호","flrNo":"1","exposPubuseGbCdNm":"공용","area":"5.02"},
+                  {"dongNm":"102동","hoNm":"301호","flrNo":"3","exposPubuseGbCdNm":"전유","area":59.9}
+                ]}}}}
+                """.formatted(totalCount);
+        writeJson(exchange, body);
+    }
+
+    private void writeJson(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+}
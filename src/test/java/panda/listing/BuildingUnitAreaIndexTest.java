@@ -0,0 +1,55 @@
+package panda.listing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BuildingUnitAreaIndexTest {
+
+    @Test
+    @DisplayName("호별로 전유면적과 공용면적을 합산하고 전유 행의 층을 사용한다")
+    void aggregatesAreasPerUnit() {
+        BuildingUnitAreaIndex index = BuildingUnitAreaIndex.from(List.of(
+                new BuildingUnitAreaIndex.Row("101동", "1203호", "12", "전유", "84.97"),
+                new BuildingUnitAreaIndex.Row("101동", "1203호", "1", "공용", "20.5"),
+                new BuildingUnitAreaIndex.Row("101동", "1203호", "지하1", "공용", "4.5"),
+                new BuildingUnitAreaIndex.Row("101동", "", "1", "공용", "300")
+        ));
+
+        BuildingUnitAreaIndex.UnitArea unit = index.find("101동", "1203호");
+
+        assertThat(unit.flrNo()).isEqualTo("12");
+        assertThat(unit.exclusiveArea()).isEqualTo(84.97);
+        assertThat(unit.publicArea()).isEqualTo(25.0);
+    }
+
+    @Test
+    @DisplayName("동/호 표기의 공백과 접미사 차이를 무시하고 조회한다")
+    void matchesUnitNamesIgnoringSpacingAndSuffix() {
+        BuildingUnitAreaIndex index = BuildingUnitAreaIndex.from(List.of(
+                new BuildingUnitAreaIndex.Row("101동", "1203호", "12", "전유", "84.97"),
+                new BuildingUnitAreaIndex.Row("102동", "1203호", "12", "전유", "59.9")
+        ));
+
+        assertThat(index.find("101 동", "1203").exclusiveArea()).isEqualTo(84.97);
+        assertThat(index.find("102", "1203 호").exclusiveArea()).isEqualTo(59.9);
+        assertThat(index.find(null, "1203호")).isNull();
+        assertThat(index.find("103동", "1203호")).isNull();
+    }
+
+    @Test
+    @DisplayName("동이 하나뿐인 건물은 동 없이도 호를 찾는다")
+    void resolvesSingleDongBuildingWithoutDong() {
+        BuildingUnitAreaIndex index = BuildingUnitAreaIndex.from(List.of(
+                new BuildingUnitAreaIndex.Row("", "301호", "3", "전유", "33.1")
+        ));
+        BuildingUnitAreaIndex singleNamedDong = BuildingUnitAreaIndex.from(List.of(
+                new BuildingUnitAreaIndex.Row("A동", "301호", "3", "전유", "40")
+        ));
+
+        assertThat(index.find(null, "301호").exclusiveArea()).isEqualTo(33.1);
+        assertThat(singleNamedDong.find("", "301").exclusiveArea()).isEqualTo(40.0);
+    }
+}
@@ -0,0 +1,74 @@
+package panda.listing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CachingGeocodingServiceTest {
+
+    private final NcpGeocodingService delegate = mock(NcpGeocodingService.class);
+    private final GeocodeCacheRepository repository = mock(GeocodeCacheRepository.class);
+    private final CachingGeocodingService service = new CachingGeocodingService(delegate, repository, 100, 1, true);
+
+    @Test
+    @DisplayName("정규화 키가 같은 주소는 NCP를 한 번만 호출하고 DB 캐시에 저장한다")
+    void reusesCoordinateForEquivalentAddresses() {
+        when(repository.findByAddressKey(anyString())).thenReturn(Optional.empty());
+        when(delegate.convertAddressToCoordinate("서울특별시 강남구 테헤란로 123"))
+                .thenReturn(new Coordinate(37.5, 127.0));
+
+        Coordinate first = service.convertAddressToCoordinate("서울특별시 강남구 테헤란로 123");
+        Coordinate second = service.convertAddressToCoordinate("서울 강남구 테헤란로123, 301호");
+
+        assertThat(second).isEqualTo(first);
+        verify(delegate, times(1)).convertAddressToCoordinate(anyString());
+        verify(repository).insertIgnore(eq("서울 강남구 테헤란로 123"), eq(37.5), eq(127.0), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("DB 캐시에 있는 주소는 NCP를 호출하지 않는다")
+    void readsPersistentTierBeforeCallingNcp() {
+        when(repository.findByAddressKey("서울 강남구 테헤란로 123")).thenReturn(Optional.of(
+                GeocodeCacheEntry.builder()
+                        .addressKey("서울 강남구 테헤란로 123")
+                        .latitude(37.5)
+                        .longitude(127.0)
+                        .createdAt(LocalDateTime.now())
+                        .build()
+        ));
+
+        Coordinate coordinate = service.convertAddressToCoordinate("서울시 강남구 테헤란로 123");
+
+        assertThat(coordinate).isEqualTo(new Coordinate(37.5, 127.0));
+        verify(delegate, never()).convertAddressToCoordinate(anyString());
+    }
+
+    @Test
+    @DisplayName("NCP 호출 실패는 캐시하지 않는다")
+    void doesNotCacheFailures() {
+        when(repository.findByAddressKey(anyString())).thenReturn(Optional.empty());
+        when(delegate.convertAddressToCoordinate(anyString()))
+                .thenThrow(new IllegalStateException("No geocoding result"));
+
+        assertThatThrownBy(() -> service.convertAddressToCoordinate("없는 주소 1"))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> service.convertAddressToCoordinate("없는 주소 1"))
+                .isInstanceOf(IllegalStateException.class);
+
+        verify(delegate, times(2)).convertAddressToCoordinate(anyString());
+        verify(repository, never()).insertIgnore(anyString(), anyDouble(), anyDouble(), any(LocalDateTime.class));
+    }
+}
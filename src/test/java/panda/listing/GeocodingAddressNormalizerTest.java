@@ -0,0 +1,31 @@
+package panda.listing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class GeocodingAddressNormalizerTest {
+
+    @Test
+    @DisplayName("도로명 주소의 공백, 시도 표기, 참고항목, 동/호수를 정규화한다")
+    void normalizesRoadAddressVariants() {
+        String expected = "서울 강남구 테헤란로 123";
+
+        assertThat(GeocodingAddressNormalizer.normalize("서울특별시 강남구 테헤란로 123")).isEqualTo(expected);
+        assertThat(GeocodingAddressNormalizer.normalize(" 서울  강남구 테헤란로123 ")).isEqualTo(expected);
+        assertThat(GeocodingAddressNormalizer.normalize("서울시 강남구 테헤란로 123 (역삼동)")).isEqualTo(expected);
+        assertThat(GeocodingAddressNormalizer.normalize("서울특별시 강남구 테헤란로 123, 101동 1203호")).isEqualTo(expected);
+        assertThat(GeocodingAddressNormalizer.normalize("부산 해운대구 중앙로12번길 3"))
+                .isEqualTo(GeocodingAddressNormalizer.normalize("부산광역시 해운대구 중앙로 12 번길 3"));
+    }
+
+    @Test
+    @DisplayName("지번 주소의 번지, 하이픈, 산 표기를 정규화한다")
+    void normalizesJibunAddressVariants() {
+        assertThat(GeocodingAddressNormalizer.normalize("서울 강남구 역삼동 123 - 4번지"))
+                .isEqualTo("서울 강남구 역삼동 123-4");
+        assertThat(GeocodingAddressNormalizer.normalize("경기도 성남시 분당구 정자동 산 12"))
+                .isEqualTo("경기 성남시 분당구 정자동 산12");
+    }
+}
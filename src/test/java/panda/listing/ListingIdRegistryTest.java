@@ -0,0 +1,43 @@
+package panda.listing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ListingIdRegistryTest {
+
+    private final ListingRepository listingRepository = mock(ListingRepository.class);
+    private final ListingIdRegistry registry = new ListingIdRegistry(listingRepository, 100, 60);
+
+    @Test
+    @DisplayName("없는 매물 id는 짧게 기억해 반복 조회 시 DB를 다시 조회하지 않는다")
+    void cachesMissingIds() {
+        when(listingRepository.findAllIds()).thenReturn(List.of(1L));
+        when(listingRepository.existsById(7L)).thenReturn(false);
+
+        assertThat(registry.contains(7L)).isFalse();
+        assertThat(registry.contains(7L)).isFalse();
+        assertThat(registry.contains(7L)).isFalse();
+
+        verify(listingRepository, times(1)).existsById(7L);
+    }
+
+    @Test
+    @DisplayName("등록된 id는 부재 캐시와 관계없이 바로 조회된다")
+    void registerOverridesMissingEntry() {
+        when(listingRepository.findAllIds()).thenReturn(List.of());
+        when(listingRepository.existsById(7L)).thenReturn(false);
+        assertThat(registry.contains(7L)).isFalse();
+
+        registry.register(7L);
+
+        assertThat(registry.contains(7L)).isTrue();
+        verify(listingRepository, times(1)).existsById(7L);
+    }
+}
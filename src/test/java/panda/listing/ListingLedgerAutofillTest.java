@@ -0,0 +1,113 @@
+package panda.listing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+import panda.listing.dto.BuildingLedgerParcelRequest;
+import panda.listing.dto.BuildingLedgerTitleResponse;
+import panda.listing.dto.BuildingLedgerUnitSummaryResponse;
+
+class ListingLedgerAutofillTest {
+
+    private final BuildingLedgerService buildingLedgerService = mock(BuildingLedgerService.class);
+    private final ListingLedgerAutofill autofill = new ListingLedgerAutofill(buildingLedgerService, 1000);
+
+    @Test
+    @DisplayName("요청한 동의 표제부와 호의 전용면적으로 채울 값을 만든다")
+    void collectsFactsForRequestedDongAndHo() {
+        when(buildingLedgerService.getTitleInfo("11680", "10300", "0", "12", "0")).thenReturn(titles(
+                new BuildingLedgerTitleResponse.TitleItem("1", "101동", "15", "20190830", "120", true),
+                new BuildingLedgerTitleResponse.TitleItem("2", "102동", "20", "20200101", "0", false)
+        ));
+        when(buildingLedgerService.getUnitSummary("11680", "10300", "0", "12", "0", "101 동", "1203호"))
+                .thenReturn(new BuildingLedgerUnitSummaryResponse("101동", "1203호", "12", 84.97, 25.03, 110.0, 77.25));
+
+        ListingLedgerAutofill.LedgerFacts facts = autofill.await(
+                autofill.prefetch(parcel("101 동", "1203호"))
+        );
+
+        assertThat(facts.totalFloors()).isEqualTo(15);
+        assertThat(facts.useAprDay()).isEqualTo(LocalDate.of(2019, 8, 30));
+        assertThat(facts.parkingCount()).isEqualTo(120);
+        assertThat(facts.exclusivityArea()).isEqualByComparingTo(new BigDecimal("84.97"));
+    }
+
+    @Test
+    @DisplayName("동을 특정할 수 없거나 호가 없으면 해당 값은 비워 둔다")
+    void leavesAmbiguousFactsEmpty() {
+        when(buildingLedgerService.getTitleInfo(any(), any(), any(), any(), any())).thenReturn(titles(
+                new BuildingLedgerTitleResponse.TitleItem("1", "101동", "15", "20190830", "120", true),
+                new BuildingLedgerTitleResponse.TitleItem("2", "102동", "20", "20200101", "0", false)
+        ));
+
+        ListingLedgerAutofill.LedgerFacts facts = autofill.await(autofill.prefetch(parcel(null, null)));
+
+        assertThat(facts).isEqualTo(ListingLedgerAutofill.LedgerFacts.EMPTY);
+        verify(buildingLedgerService, never()).getUnitSummary(any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("건축물대장 조회가 실패해도 예외 없이 빈 값을 반환한다")
+    void returnsEmptyFactsWhenLedgerFails() {
+        when(buildingLedgerService.getTitleInfo(any(), any(), any(), any(), any()))
+                .thenThrow(new IllegalStateException("upstream down"));
+        when(buildingLedgerService.getUnitSummary(any(), any(), any(), any(), any(), any(), any()))
+                .thenThrow(new ResponseStatusException(HttpStatus.NOT_FOUND));
+
+        ListingLedgerAutofill.LedgerFacts facts = autofill.await(autofill.prefetch(parcel("101동", "1203호")));
+
+        assertThat(facts).isEqualTo(ListingLedgerAutofill.LedgerFacts.EMPTY);
+    }
+
+    @Test
+    @DisplayName("지번 정보가 없으면 조회하지 않는다")
+    void skipsLookupWithoutParcel() {
+        assertThat(autofill.await(autofill.prefetch(null))).isEqualTo(ListingLedgerAutofill.LedgerFacts.EMPTY);
+        verify(buildingLedgerService, never()).getTitleInfo(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("더 이상 필요 없는 조회를 취소하면 진행 중인 upstream 호출이 인터럽트된다")
+    void cancelInterruptsInFlightLookups() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        when(buildingLedgerService.getTitleInfo(any(), any(), any(), any(), any())).thenAnswer(invocation -> {
+            started.countDown();
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException ex) {
+                interrupted.countDown();
+            }
+            return titles();
+        });
+
+        ListingLedgerAutofill.Prefetch prefetch = autofill.prefetch(parcel("101동", null));
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+        autofill.cancel(prefetch);
+
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private BuildingLedgerParcelRequest parcel(String dongNm, String hoNm) {
+        return new BuildingLedgerParcelRequest("11680", "10300", "0", "12", "0", dongNm, hoNm);
+    }
+
+    private BuildingLedgerTitleResponse titles(BuildingLedgerTitleResponse.TitleItem... items) {
+        return new BuildingLedgerTitleResponse(
+                new BuildingLedgerTitleResponse.Data(new BuildingLedgerTitleResponse.Items(List.of(items)))
+        );
+    }
+}
@@ -0,0 +1,122 @@
+package panda.listing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockHttpSession;
+import panda.analytics.AnalyticsService;
+
+/**
+ * Run with {@code ./gradlew benchmark} and BENCH_REDIS_HOST (and optionally BENCH_REDIS_PORT) pointing at a
+ * disposable local Redis; the default test task excludes the {@code benchmark} tag.
+ */
+@Slf4j
+@Tag("benchmark")
+@EnabledIfEnvironmentVariable(named = "BENCH_REDIS_HOST", matches = ".+")
+class ListingRecentViewedBenchmarkTest {
+
+    private static final int WARMUP = 500;
+    private static final int ITERATIONS = 5_000;
+
+    @Test
+    @DisplayName("recordView Lua 스크립트(1회 왕복)와 기존 5회 왕복 방식의 p50/p99 지연을 비교한다")
+    void compareRecordViewLatency() {
+        String host = System.getenv("BENCH_REDIS_HOST");
+        String port = System.getenv().getOrDefault("BENCH_REDIS_PORT", "6379");
+        LettuceConnectionFactory connectionFactory =
+                new LettuceConnectionFactory(new RedisStandaloneConfiguration(host, Integer.parseInt(port)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        try {
+            StringRedisTemplate redis = new StringRedisTemplate(connectionFactory);
+            ListingIdRegistry listingIdRegistry = mock(ListingIdRegistry.class);
+            when(listingIdRegistry.contains(anyLong())).thenReturn(true);
+            ListingRecentViewedService service = new ListingRecentViewedService(
+                    redis,
+                    mock(ListingService.class),
+                    listingIdRegistry,
+                    new ListingSummaryCache(100, 60),
+                    mock(AnalyticsService.class),
+                    20,
+                    1,
+                    1,
+                    ListingRecentViewedService.KeySource.SESSION,
+                    new SimpleMeterRegistry()
+            );
+
+            MockHttpSession session = new MockHttpSession(null, "bench-script");
+            MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/listings/1/view");
+            request.setSession(session);
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            long[] legacy = new long[ITERATIONS];
+            long[] script = new long[ITERATIONS];
+            for (int i = 0; i < WARMUP + ITERATIONS; i++) {
+                long listingId = 1_000_000L + i;
+
+                long start = System.nanoTime();
+                legacyRecordView(redis, "bench-legacy", listingId);
+                long legacyElapsed = System.nanoTime() - start;
+
+                start = System.nanoTime();
+                service.recordView(listingId, request, response);
+                long scriptElapsed = System.nanoTime() - start;
+
+                if (i >= WARMUP) {
+                    legacy[i - WARMUP] = legacyElapsed;
+                    script[i - WARMUP] = scriptElapsed;
+                }
+            }
+
+            redis.delete(List.of("recent:bench-legacy", "recent:bench-script"));
+
+            Arrays.sort(legacy);
+            Arrays.sort(script);
+            log.info(
+                    "recordView latency [legacyP50Us={}, legacyP99Us={}, scriptP50Us={}, scriptP99Us={}]",
+                    percentile(legacy, 50) / 1_000, percentile(legacy, 99) / 1_000,
+                    percentile(script, 50) / 1_000, percentile(script, 99) / 1_000
+            );
+
+            assertThat(percentile(script, 50)).isLessThan(percentile(legacy, 50));
+        } finally {
+            connectionFactory.destroy();
+        }
+    }
+
+    private void legacyRecordView(StringRedisTemplate redis, String sessionId, long listingId) {
+        String key = "recent:" + sessionId;
+        String value = String.valueOf(listingId);
+        Boolean acquired = redis.opsForValue()
+                .setIfAbsent("recent:debounce:" + sessionId + ":" + listingId, "1", Duration.ofSeconds(1));
+        if (Boolean.FALSE.equals(acquired)) {
+            return;
+        }
+        redis.opsForList().remove(key, 0, value);
+        redis.opsForList().leftPush(key, value);
+        redis.opsForList().trim(key, 0, 19);
+        redis.expire(key, Duration.ofDays(1));
+    }
+
+    private long percentile(long[] sorted, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+}
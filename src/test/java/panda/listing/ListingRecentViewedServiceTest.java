@@ -0,0 +1,125 @@
+package panda.listing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.Cookie;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.server.ResponseStatusException;
+import panda.analytics.AnalyticsService;
+
+class ListingRecentViewedServiceTest {
+
+    private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ListOperations<String, String> listOperations = mock(ListOperations.class);
+    private final ListingIdRegistry listingIdRegistry = mock(ListingIdRegistry.class);
+    private ListingRecentViewedService service;
+
+    @BeforeEach
+    void setUp() {
+        when(stringRedisTemplate.opsForList()).thenReturn(listOperations);
+        when(listingIdRegistry.contains(anyLong())).thenReturn(true);
+        AnalyticsService analyticsService = new AnalyticsService(
+                null, null, null, null, null, null, "anon_id", true, "None", 180, 5000, 0
+        );
+        service = new ListingRecentViewedService(
+                stringRedisTemplate,
+                mock(ListingService.class),
+                listingIdRegistry,
+                new ListingSummaryCache(100, 60),
+                analyticsService,
+                20,
+                1,
+                3,
+                ListingRecentViewedService.KeySource.ACTOR,
+                new SimpleMeterRegistry()
+        );
+    }
+
+    @Test
+    @DisplayName("ACTOR 모드는 anon_id 쿠키로 이력을 기록하고 세션을 만들지 않는다")
+    @SuppressWarnings("unchecked")
+    void recordsHistoryUnderActorKey() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/listings/5/view");
+        request.setCookies(new Cookie("anon_id", "anon_abc"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        service.recordView(5L, request, response);
+
+        ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+        verify(stringRedisTemplate).execute(any(RedisScript.class), keys.capture(), any(), any(), any(), any());
+        assertThat(keys.getValue()).containsExactly("recent:anon_abc", "recent:debounce:anon_abc:5");
+        assertThat(request.getSession(false)).isNull();
+        assertThat(response.getHeader(HttpHeaders.SET_COOKIE)).isNull();
+    }
+
+    @Test
+    @DisplayName("ACTOR 모드에서 쿠키가 없거나 잘못되면 새 actor key를 발급해 기록한다")
+    @SuppressWarnings("unchecked")
+    void issuesActorKeyWhenCookieMissingOrInvalid() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/listings/5/view");
+        request.setCookies(new Cookie("anon_id", "bad value"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        service.recordView(5L, request, response);
+
+        ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+        verify(stringRedisTemplate).execute(any(RedisScript.class), keys.capture(), any(), any(), any(), any());
+        String issuedCookie = response.getHeader(HttpHeaders.SET_COOKIE);
+        assertThat(issuedCookie).startsWith("anon_id=anon_");
+        String actorKey = issuedCookie.substring("anon_id=".length(), issuedCookie.indexOf(';'));
+        assertThat(keys.getValue().getFirst()).isEqualTo("recent:" + actorKey);
+        assertThat(request.getSession(false)).isNull();
+    }
+
+    @Test
+    @DisplayName("ACTOR 모드 조회는 쿠키의 actor key로 읽고, 쿠키가 없거나 잘못되면 Redis를 읽지 않는다")
+    void readsHistoryByActorKeyOnly() {
+        when(listOperations.range(anyString(), anyLong(), anyLong())).thenReturn(List.of());
+        MockHttpServletRequest withCookie = new MockHttpServletRequest();
+        withCookie.setCookies(new Cookie("anon_id", "anon_abc"));
+        MockHttpServletRequest invalidCookie = new MockHttpServletRequest();
+        invalidCookie.setCookies(new Cookie("anon_id", "anon abc"));
+
+        assertThat(service.getRecentViewed(new MockHttpServletRequest(), 5)).isEmpty();
+        assertThat(service.getRecentViewed(invalidCookie, 5)).isEmpty();
+        verify(listOperations, never()).range(anyString(), anyLong(), anyLong());
+
+        assertThat(service.getRecentViewed(withCookie, 5)).isEmpty();
+        verify(listOperations).range("recent:anon_abc", 0, 4);
+        assertThat(withCookie.getSession(false)).isNull();
+    }
+
+    @Test
+    @DisplayName("없는 매물 조회 기록은 actor key를 발급하지 않고 거부한다")
+    void rejectsUnknownListingBeforeIssuingActorKey() {
+        when(listingIdRegistry.contains(9L)).thenReturn(false);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThatThrownBy(() -> service.recordView(9L, new MockHttpServletRequest(), response))
+                .isInstanceOf(ResponseStatusException.class);
+
+        assertThat(response.getHeader(HttpHeaders.SET_COOKIE)).isNull();
+        verifyNoInteractions(listOperations);
+    }
+}
@@ -111,6 +111,7 @@ class ListingSchedulerTest {
                 null,
                 null,
                 null,
+                null,
                 null
         ));
     }
@@ -12,6 +12,7 @@ import org.springframework.context.annotation.Primary;
 import org.springframework.http.HttpStatus;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.server.ResponseStatusException;
 import panda.image.ImageStorageService;
 import panda.listing.dto.*;
@@ -21,6 +22,7 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -42,10 +44,16 @@ class ListingServiceTest {
     @Autowired
     private ImageStorageService imageStorageService;
 
+    @Autowired
+    private BuildingLedgerService buildingLedgerService;
+
+    private static final AtomicBoolean GEOCODED_IN_TRANSACTION = new AtomicBoolean();
+
     @BeforeEach
     void setUp() {
+        GEOCODED_IN_TRANSACTION.set(false);
         listingRepository.deleteAll();
-        reset(imageStorageService);
+        reset(imageStorageService, buildingLedgerService);
         when(imageStorageService.issuePresignedGetUrl(anyString())).thenReturn("https://example.com/a.jpg");
         when(imageStorageService.normalizeKey(anyString()))
                 .thenAnswer(invocation -> invocation.getArgument(0));
@@ -78,7 +86,8 @@ class ListingServiceTest {
                 85000L,
                 LoanStatus.BELOW_30,
                 IllegalBuildingStatus.NO,
-                "room condition is excellent"
+                "room condition is excellent",
+                null
         );
 
         CreateListingResponse response = listingService.create(request);
@@ -134,7 +143,8 @@ class ListingServiceTest {
                 60000L,
                 LoanStatus.NONE,
                 IllegalBuildingStatus.NO,
-                "quiet neighborhood"
+                "quiet neighborhood",
+                null
         ));
 
         ListingDetailResponse detail = listingService.getByIdForEdit(created.id());
@@ -255,7 +265,8 @@ class ListingServiceTest {
                 null,
                 null,
                 null,
-                "Test"
+                "Test",
+                null
         ));
 
         Listing patched = listingRepository.findById(created.id()).orElseThrow();
@@ -294,7 +305,8 @@ class ListingServiceTest {
                 null,
                 null,
                 null,
-                "Test"
+                "Test",
+                null
         ));
 
         Listing patched = listingRepository.findById(created.id()).orElseThrow();
@@ -332,7 +344,8 @@ class ListingServiceTest {
                 null,
                 null,
                 null,
-                "Test"
+                "Test",
+                null
         ));
 
         Listing patched = listingRepository.findById(created.id()).orElseThrow();
@@ -373,7 +386,8 @@ class ListingServiceTest {
                 null,
                 null,
                 null,
-                "Test"
+                "Test",
+                null
         ));
 
         Listing patched = listingRepository.findById(created.id()).orElseThrow();
@@ -381,6 +395,43 @@ class ListingServiceTest {
         verify(imageStorageService).delete(List.of("listings/remove.jpg"));
     }
 
+    @Test
+    @DisplayName("지오코딩은 DB 트랜잭션 밖에서 호출된다")
+    void geocodesOutsideTransaction() {
+        CreateListingResponse created = createListing("Seoul Jung Toegye-ro 1", false);
+
+        listingService.patch(created.id(), new UpdateListingRequest(
+                "Seoul New Address 456",
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                false,
+                null,
+                MoveInType.FIXED,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                "Test",
+                null
+        ));
+
+        assertThat(GEOCODED_IN_TRANSACTION).isFalse();
+        assertThat(listingRepository.findById(created.id()).orElseThrow().getLatitude()).isEqualTo(37.1234);
+    }
+
     @Test
     @DisplayName("매물 삭제")
     void deleteRemovesListing() {
@@ -431,6 +482,7 @@ class ListingServiceTest {
                 null,
                 null,
                 null,
+                null,
                 null
         );
 
@@ -467,6 +519,7 @@ class ListingServiceTest {
                 null,
                 null,
                 null,
+                null,
                 null
         );
 
@@ -476,6 +529,22 @@ class ListingServiceTest {
                         .isEqualTo(HttpStatus.BAD_REQUEST));
     }
 
+    @Test
+    @DisplayName("없는 매물을 수정하면 건축물대장·지오코딩 조회를 시작하지 않고 404를 반환한다")
+    void patchMissingListingFailsBeforeLedgerLookup() {
+        UpdateListingRequest request = new UpdateListingRequest(
+                "Seoul New Address 789",
+                null, null, null, null, null, null, null, null, null, null, null, null, null, null,
+                null, null, null, null, null, null, null, null, null,
+                new BuildingLedgerParcelRequest("11680", "10300", "0", "12", "0", null, "1203호")
+        );
+
+        assertThatThrownBy(() -> listingService.patch(999L, request))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        ex -> assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND));
+        verifyNoInteractions(buildingLedgerService);
+    }
+
     @Test
     @DisplayName("삭제할 매물이 존재하지 않으면 에러가 발생한다")
     void deleteThrowsNotFoundWhenListingMissing() {
@@ -519,6 +588,7 @@ class ListingServiceTest {
                 null,
                 null,
                 null,
+                null,
                 null
         );
     }
@@ -529,6 +599,9 @@ class ListingServiceTest {
         @Primary
         GeocodingService geocodingService() {
             return address -> {
+                if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                    GEOCODED_IN_TRANSACTION.set(true);
+                }
                 if (address != null && address.contains("New Address")) {
                     return new Coordinate(37.1234, 127.5678);
                 }
@@ -541,5 +614,11 @@ class ListingServiceTest {
         ImageStorageService imageStorageService() {
             return mock(ImageStorageService.class);
         }
+
+        @Bean
+        @Primary
+        BuildingLedgerService buildingLedgerService() {
+            return mock(BuildingLedgerService.class);
+        }
     }
 }
@@ -0,0 +1,67 @@
+package panda.listing.bulk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.StringReader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CsvRecordReaderTest {
+
+    @Test
+    @DisplayName("따옴표 안의 쉼표, 줄바꿈, 이중 따옴표를 하나의 필드로 읽는다")
+    void readsQuotedFields() throws IOException {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader(
+                "\uFEFFaddress,note\r\n\"Seoul, Gangnam\",\"line1\nline2 \"\"quoted\"\"\"\nplain,\n"
+        ));
+
+        assertThat(reader.next()).containsExactly("address", "note");
+        assertThat(reader.next()).containsExactly("Seoul, Gangnam", "line1\nline2 \"quoted\"");
+        assertThat(reader.next()).containsExactly("plain", "");
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    @DisplayName("마지막 줄에 줄바꿈이 없어도 레코드를 읽는다")
+    void readsLastRecordWithoutTrailingNewline() throws IOException {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader("a,b\r1,2"));
+
+        assertThat(reader.next()).containsExactly("a", "b");
+        assertThat(reader.next()).containsExactly("1", "2");
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    @DisplayName("닫히지 않은 따옴표는 오류로 처리한다")
+    void rejectsUnterminatedQuote() throws IOException {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader("a\n\"open,1\n"));
+
+        assertThat(reader.next()).containsExactly("a");
+        assertThatThrownBy(reader::next).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    @DisplayName("내보내기 값은 필요한 경우에만 따옴표로 감싼다")
+    void escapesExportValues() {
+        assertThat(ListingBulkExporter.escapeCsv("plain")).isEqualTo("plain");
+        assertThat(ListingBulkExporter.escapeCsv("a,b")).isEqualTo("\"a,b\"");
+        assertThat(ListingBulkExporter.escapeCsv("say \"hi\"")).isEqualTo("\"say \"\"hi\"\"\"");
+    }
+
+    @Test
+    @DisplayName("수식으로 해석될 수 있는 텍스트는 작은따옴표를 붙여 내보내고 가져올 때 되돌린다")
+    void neutralizesFormulaLikeText() {
+        assertThat(ListingBulkExporter.neutralizeFormula("=HYPERLINK(\"x\")")).isEqualTo("'=HYPERLINK(\"x\")");
+        assertThat(ListingBulkExporter.neutralizeFormula("+82")).isEqualTo("'+82");
+        assertThat(ListingBulkExporter.neutralizeFormula("-1")).isEqualTo("'-1");
+        assertThat(ListingBulkExporter.neutralizeFormula("@SUM(A1)")).isEqualTo("'@SUM(A1)");
+        assertThat(ListingBulkExporter.neutralizeFormula("plain")).isEqualTo("plain");
+        assertThat(ListingBulkExporter.neutralizeFormula("")).isEmpty();
+
+        assertThat(ListingBulkExporter.restoreFormula("'=HYPERLINK(\"x\")")).isEqualTo("=HYPERLINK(\"x\")");
+        assertThat(ListingBulkExporter.restoreFormula("'quoted")).isEqualTo("'quoted");
+        assertThat(ListingBulkExporter.restoreFormula("'")).isEqualTo("'");
+    }
+}
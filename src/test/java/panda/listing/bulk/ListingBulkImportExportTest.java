@@ -0,0 +1,209 @@
+package panda.listing.bulk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Primary;
+import org.springframework.test.context.ActiveProfiles;
+import panda.image.ImageStorageService;
+import panda.listing.Coordinate;
+import panda.listing.GeocodingAddressNormalizer;
+import panda.listing.Listing;
+import panda.listing.ListingIdRegistry;
+import panda.listing.ListingRepository;
+import panda.listing.dto.ListingImportResponse;
+import panda.listing.enums.LoanProduct;
+import panda.listing.enums.MoveInType;
+import panda.listing.geocoding.BulkGeocoder;
+
+@SpringBootTest(properties = {
+        "app.listing.bulk.chunk-size=2",
+        "app.listing.bulk.export-page-size=2"
+})
+@Import(ListingBulkImportExportTest.TestBulkConfig.class)
+@ActiveProfiles("test")
+class ListingBulkImportExportTest {
+
+    private static final String CSV_HEADER = "address,parking,elevator,pet,contractType,roomType,loanProducts,"
+            + "moveInType,moveInDate,deposit,monthlyRent,exclusivityArea,note\n";
+
+    @Autowired
+    private ListingBulkImporter listingBulkImporter;
+
+    @Autowired
+    private ListingBulkExporter listingBulkExporter;
+
+    @Autowired
+    private ListingRepository listingRepository;
+
+    @Autowired
+    private ListingIdRegistry listingIdRegistry;
+
+    @BeforeEach
+    void setUp() {
+        listingRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("CSV 가져오기는 유효한 행만 저장하고 잘못된 행은 행 번호와 함께 보고한다")
+    void importsValidCsvRowsAndReportsFailures() {
+        String csv = CSV_HEADER
+                + "\"Seoul Gangnam Teheran-ro 1\",AVAILABLE,YES,AVAILABLE,JEONSE,ONE_ROOM,HF_YOUTH|KAKAO_BANK,"
+                + "IMMEDIATE,,10000000,0,18.75,\"quiet, sunny\"\n"
+                + "Seoul Jung Toegye-ro 1,NOPE,YES,AVAILABLE,JEONSE,ONE_ROOM,HF_YOUTH,IMMEDIATE,,1,0,,\n"
+                + "Seoul Jung Toegye-ro 2,AVAILABLE,YES,AVAILABLE,JEONSE,ONE_ROOM,HF_YOUTH,FIXED,,1,0,,\n"
+                + "\n"
+                + "Unknown Address 1,AVAILABLE,YES,AVAILABLE,JEONSE,ONE_ROOM,HF_YOUTH,IMMEDIATE,,1,0,,\n"
+                + "Seoul Mapo Yanghwa-ro 1,AVAILABLE,NO,AVAILABLE,MONTHLY_RENT,TWO_ROOM,CASH,FIXED,2026-03-01,5000000,600000,,\n"
+                + "Seoul Jung Toegye-ro 3,AVAILABLE,YES,AVAILABLE,JEONSE,ONE_ROOM,HF_YOUTH,,,1,0,,\n";
+
+        ListingImportResponse response = importBody(csv, ListingBulkFormat.CSV);
+
+        assertThat(response.totalRows()).isEqualTo(6);
+        assertThat(response.importedRows()).isEqualTo(2);
+        assertThat(response.failedRows()).isEqualTo(4);
+        assertThat(response.errors()).extracting(ListingImportResponse.RowError::row).containsExactly(2L, 3L, 5L, 7L);
+        assertThat(response.errors().get(0).message()).startsWith("parking:");
+        assertThat(response.errors().get(1).message()).contains("moveInDate is required");
+        assertThat(response.errors().get(2).message()).startsWith("Geocoding failed");
+        assertThat(response.errors().get(3).message()).contains("moveInDate is required");
+
+        List<Listing> saved = listingRepository.findAll();
+        assertThat(saved).hasSize(2);
+        Listing first = saved.stream()
+                .filter(listing -> listing.getAddress().equals("Seoul Gangnam Teheran-ro 1"))
+                .findFirst()
+                .orElseThrow();
+        assertThat(first.getLoanProducts()).containsExactly(LoanProduct.HF_YOUTH, LoanProduct.KAKAO_BANK);
+        assertThat(first.getMoveInType()).isEqualTo(MoveInType.IMMEDIATE);
+        assertThat(first.getNote()).isEqualTo("quiet, sunny");
+        assertThat(first.getLatitude()).isEqualTo(37.5);
+        assertThat(first.isRecentlyRegistered()).isTrue();
+        assertThat(listingIdRegistry.contains(first.getId())).isTrue();
+    }
+
+    @Test
+    @DisplayName("DB가 거부한 행만 실패로 보고하고 같은 청크의 나머지 행은 저장한다")
+    void keepsRowsOfAChunkTheDatabasePartlyRejects() {
+        String csv = "address,parking,elevator,pet,contractType,roomType,loanProducts,moveInType,deposit,monthlyRent,description\n"
+                + "Seoul Seocho Gangnam-daero 1,AVAILABLE,YES,AVAILABLE,JEONSE,ONE_ROOM,LH,IMMEDIATE,1000,0,"
+                + "x".repeat(1001) + "\n"
+                + "Seoul Seocho Gangnam-daero 2,AVAILABLE,YES,AVAILABLE,JEONSE,ONE_ROOM,LH,IMMEDIATE,1000,0,short\n"
+                + "Seoul Seocho Gangnam-daero 3,AVAILABLE,YES,AVAILABLE,JEONSE,ONE_ROOM,LH,IMMEDIATE,1000,0,\n";
+
+        ListingImportResponse response = importBody(csv, ListingBulkFormat.CSV);
+
+        assertThat(response.importedRows()).isEqualTo(2);
+        assertThat(response.failedRows()).isEqualTo(1);
+        assertThat(response.errors()).extracting(ListingImportResponse.RowError::row).containsExactly(1L);
+        assertThat(response.errors().getFirst().message()).startsWith("Insert failed:");
+        assertThat(listingRepository.findAll())
+                .extracting(Listing::getAddress)
+                .containsExactlyInAnyOrder("Seoul Seocho Gangnam-daero 2", "Seoul Seocho Gangnam-daero 3");
+    }
+
+    @Test
+    @DisplayName("JSON Lines 가져오기는 줄 번호로 오류를 보고한다")
+    void importsJsonLines() {
+        String jsonl = """
+                {"address":"Seoul Jongno Sejong-daero 1","parking":"AVAILABLE","elevator":"YES","pet":"AVAILABLE","contractType":"JEONSE","roomType":"ONE_ROOM","loanProducts":["LH"],"moveInType":"IMMEDIATE","deposit":1000,"monthlyRent":0,"id":99}
+                {"address":"broken"
+
+                {"address":"Seoul Jongno Sejong-daero 2","parking":"AVAILABLE","elevator":"YES","pet":"AVAILABLE","contractType":"JEONSE","roomType":"ONE_ROOM","loanProducts":[],"moveInType":"IMMEDIATE","deposit":1000,"monthlyRent":0}
+                """;
+
+        ListingImportResponse response = importBody(jsonl, ListingBulkFormat.JSONL);
+
+        assertThat(response.importedRows()).isEqualTo(1);
+        assertThat(response.errors()).extracting(ListingImportResponse.RowError::row).containsExactly(2L, 4L);
+        assertThat(response.errors().get(1).message()).startsWith("loanProducts:");
+    }
+
+    @Test
+    @DisplayName("내보내기는 페이지 단위로 모든 매물을 쓰고 다시 가져올 수 있다")
+    void exportsAllListingsInPagesAndRoundTrips() throws IOException {
+        StringBuilder csv = new StringBuilder(CSV_HEADER);
+        for (int i = 1; i <= 5; i++) {
+            csv.append("Seoul Songpa Olympic-ro ").append(i)
+                    .append(",AVAILABLE,YES,AVAILABLE,JEONSE,ONE_ROOM,HF_YOUTH|LH,IMMEDIATE,,")
+                    .append(i * 1000).append(",0,,=1+1\n");
+        }
+        assertThat(importBody(csv.toString(), ListingBulkFormat.CSV).importedRows()).isEqualTo(5);
+
+        String exportedCsv = export(ListingBulkFormat.CSV);
+        String exportedJsonl = export(ListingBulkFormat.JSONL);
+
+        List<String> csvLines = exportedCsv.lines().toList();
+        assertThat(csvLines).hasSize(6);
+        assertThat(csvLines.getFirst()).startsWith("id,address,");
+        assertThat(csvLines.get(1)).contains("Seoul Songpa Olympic-ro 1", "HF_YOUTH|LH", ",'=1+1,");
+        List<String> jsonLines = exportedJsonl.lines().toList();
+        assertThat(jsonLines).hasSize(5);
+        assertThat(jsonLines.getLast()).contains("\"address\":\"Seoul Songpa Olympic-ro 5\"", "\"loanProducts\":[\"HF_YOUTH\",\"LH\"]");
+
+        listingRepository.deleteAll();
+        ListingImportResponse reimported = importBody(exportedCsv, ListingBulkFormat.CSV);
+        assertThat(reimported.importedRows()).isEqualTo(5);
+        assertThat(reimported.failedRows()).isZero();
+        assertThat(listingRepository.findAll()).extracting(Listing::getNote).containsOnly("=1+1");
+    }
+
+    private ListingImportResponse importBody(String body, ListingBulkFormat format) {
+        return listingBulkImporter.importListings(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)),
+                format
+        );
+    }
+
+    private String export(ListingBulkFormat format) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        listingBulkExporter.export(outputStream, format);
+        return outputStream.toString(StandardCharsets.UTF_8);
+    }
+
+    @TestConfiguration
+    static class TestBulkConfig {
+        @Bean
+        @Primary
+        BulkGeocoder bulkGeocoder() {
+            return new BulkGeocoder(null, 1, 1) {
+                @Override
+                public Result geocode(Collection<String> addresses, boolean refresh) {
+                    Map<String, Coordinate> coordinates = new HashMap<>();
+                    Map<String, String> failures = new HashMap<>();
+                    for (String address : addresses) {
+                        String key = GeocodingAddressNormalizer.normalize(address);
+                        if (address.startsWith("Unknown")) {
+                            failures.put(key, "No geocoding result");
+                        } else {
+                            coordinates.put(key, new Coordinate(37.5, 127.0));
+                        }
+                    }
+                    return new Result(coordinates, failures);
+                }
+            };
+        }
+
+        @Bean
+        @Primary
+        ImageStorageService imageStorageService() {
+            return mock(ImageStorageService.class);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package panda.listing.geocoding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestClient;
+import panda.listing.CachingGeocodingService;
+import panda.listing.GeocodeCacheRepository;
+import panda.listing.NcpGeocodingService;
+
+class BulkGeocoderTest {
+
+    private static final int CONCURRENCY = 3;
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private BulkGeocoder bulkGeocoder;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress(0), 0);
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.createContext("/map-geocode/v2/geocode", exchange -> {
+            requests.incrementAndGet();
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(30);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            inFlight.decrementAndGet();
+            String query = URLDecoder.decode(exchange.getRequestURI().getRawQuery(), StandardCharsets.UTF_8);
+            String body = query.contains("없는")
+                    ? "{\"addresses\":[]}"
+                    : "{\"addresses\":[{\"x\":\"127.0\",\"y\":\"37.5\"}]}";
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(bytes);
+            }
+        });
+        server.start();
+
+        NcpGeocodingService ncpGeocodingService = new NcpGeocodingService(
+                RestClient.builder(),
+                "http://localhost:" + server.getAddress().getPort(),
+                "test-id",
+                "test-key"
+        );
+        GeocodeCacheRepository repository = mock(GeocodeCacheRepository.class);
+        when(repository.findByAddressKey(anyString())).thenReturn(Optional.empty());
+        CachingGeocodingService cachingGeocodingService =
+                new CachingGeocodingService(ncpGeocodingService, repository, 100, 1, true);
+        bulkGeocoder = new BulkGeocoder(cachingGeocodingService, CONCURRENCY, 1000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("중복 주소는 한 번만 호출하고 동시 호출 수는 설정값을 넘지 않는다")
+    void deduplicatesAddressesAndBoundsConcurrency() {
+        List<String> addresses = List.of(
+                "서울특별시 강남구 테헤란로 123",
+                "서울 강남구 테헤란로123",
+                "서울 강남구 테헤란로 123, 101동 202호",
+                "서울 마포구 와우산로 29",
+                "서울 종로구 종로 1",
+                "서울 중구 세종대로 110",
+                "서울 용산구 한강대로 10",
+                "없는 주소 1"
+        );
+
+        BulkGeocoder.Result result = bulkGeocoder.geocode(addresses, false);
+
+        assertThat(requests).hasValue(6);
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(CONCURRENCY);
+        assertThat(result.find("서울 강남구 테헤란로123").latitude()).isEqualTo(37.5);
+        assertThat(result.coordinatesByKey()).hasSize(5);
+        assertThat(result.failuresByKey()).containsOnlyKeys("없는 주소 1");
+    }
+
+    @Test
+    @DisplayName("refresh가 아니면 캐시된 주소는 다시 호출하지 않고, refresh면 다시 호출한다")
+    void reusesCacheUnlessRefreshing() {
+        List<String> addresses = List.of("서울 마포구 와우산로 29", "서울 종로구 종로 1");
+
+        bulkGeocoder.geocode(addresses, false);
+        bulkGeocoder.geocode(addresses, false);
+        assertThat(requests).hasValue(2);
+
+        bulkGeocoder.geocode(addresses, true);
+        assertThat(requests).hasValue(4);
+    }
+}
@@ -0,0 +1,70 @@
+package panda.listing.geocoding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import panda.listing.Coordinate;
+import panda.listing.GeocodingAddressNormalizer;
+import panda.listing.ListingSummaryCache;
+import panda.listing.dto.ListingRegeocodeStatusResponse;
+
+class ListingRegeocodeJobTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final BulkGeocoder bulkGeocoder = mock(BulkGeocoder.class);
+
+    @Test
+    @DisplayName("좌표는 주소가 그대로인 행에만 쓰고, 그사이 바뀌거나 삭제된 행은 건너뜀으로 센다")
+    @SuppressWarnings("unchecked")
+    void updatesOnlyRowsWhoseAddressIsUnchanged() throws Exception {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getLong(1)).thenReturn(1L, 2L);
+        when(resultSet.getString(2)).thenReturn("Seoul Mapo 1", "Seoul Mapo 2");
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(0L), eq(500))).thenAnswer(invocation -> {
+            RowMapper<?> rowMapper = invocation.getArgument(1);
+            return List.of(rowMapper.mapRow(resultSet, 0), rowMapper.mapRow(resultSet, 1));
+        });
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(2L), eq(500))).thenReturn(List.of());
+        Coordinate coordinate = new Coordinate(37.5, 127.0);
+        when(bulkGeocoder.geocode(anyList(), eq(false))).thenReturn(new BulkGeocoder.Result(Map.of(
+                GeocodingAddressNormalizer.normalize("Seoul Mapo 1"), coordinate,
+                GeocodingAddressNormalizer.normalize("Seoul Mapo 2"), coordinate
+        ), Map.of()));
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[]{1, 0});
+        ListingRegeocodeJob job = new ListingRegeocodeJob(
+                jdbcTemplate,
+                mock(StringRedisTemplate.class),
+                bulkGeocoder,
+                new ListingSummaryCache(100, 60),
+                500
+        );
+
+        job.run(false);
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<List<Object[]>> args = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(sql.capture(), args.capture());
+        assertThat(sql.getValue()).endsWith("WHERE id = ? AND address = ?");
+        assertThat(args.getValue().getFirst()).containsExactly(37.5, 127.0, 1L, "Seoul Mapo 1");
+        ListingRegeocodeStatusResponse status = job.getStatus();
+        assertThat(status.processed()).isEqualTo(2);
+        assertThat(status.updated()).isEqualTo(1);
+        assertThat(status.skipped()).isEqualTo(1);
+        assertThat(status.failed()).isZero();
+    }
+}
@@ -0,0 +1,60 @@
+package panda.listing.similar;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ListingCoViewIndexTest {
+
+    @Test
+    @DisplayName("함께 본 횟수를 코사인 점수로 정규화해 높은 순으로 정렬한다")
+    void ranksNeighborsByCosineScore() {
+        ListingCoViewIndex index = new ListingCoViewIndex();
+        index.update("recent:a", new long[]{1, 2});
+        index.update("recent:b", new long[]{2, 1, 1});
+        index.update("recent:c", new long[]{1, 3, 0});
+
+        Map<Long, ListingCoViewIndex.Neighbors> neighbors = index.topK(10, 1);
+
+        assertThat(neighbors.get(1L).listingIds()).containsExactly(2L, 3L);
+        assertThat(neighbors.get(1L).scores()[0]).isCloseTo(2 / (float) Math.sqrt(6), within(1e-6f));
+        assertThat(neighbors.get(3L).listingIds()).containsExactly(1L);
+        assertThat(index.topK(10, 2).get(1L).listingIds()).containsExactly(2L);
+        assertThat(index.topK(10, 2)).doesNotContainKey(3L);
+    }
+
+    @Test
+    @DisplayName("점수가 같으면 ID 순으로 정렬하고 k개까지만 남긴다")
+    void breaksTiesByIdAndKeepsTopK() {
+        ListingCoViewIndex index = new ListingCoViewIndex();
+        index.update("recent:a", new long[]{5, 7});
+        index.update("recent:b", new long[]{5, 6});
+
+        assertThat(index.topK(10, 1).get(5L).listingIds()).containsExactly(6L, 7L);
+        assertThat(index.topK(1, 1).get(5L).listingIds()).containsExactly(6L);
+    }
+
+    @Test
+    @DisplayName("기록이 바뀌면 차이만 반영하고 사라진 기록은 집계에서 뺀다")
+    void appliesHistoryDeltasAndDropsExpiredHistories() {
+        ListingCoViewIndex index = new ListingCoViewIndex();
+        index.update("recent:a", new long[]{1, 2});
+        index.update("recent:b", new long[]{1, 3});
+
+        assertThat(index.update("recent:b", new long[]{3, 1})).isFalse();
+        assertThat(index.update("recent:b", new long[]{2, 3})).isTrue();
+        assertThat(index.topK(10, 1).get(1L).listingIds()).containsExactly(2L);
+        assertThat(index.topK(10, 1).get(3L).listingIds()).containsExactly(2L);
+
+        assertThat(index.retainOnly(Set.of("recent:b"))).isEqualTo(1);
+        assertThat(index.historyCount()).isEqualTo(1);
+        assertThat(index.topK(10, 1)).containsOnlyKeys(2L, 3L);
+
+        assertThat(index.update("recent:b", new long[0])).isTrue();
+        assertThat(index.topK(10, 1)).isEmpty();
+    }
+}
@@ -0,0 +1,61 @@
+package panda.listing.similar;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import panda.listing.ListingRepository;
+import panda.listing.enums.RoomType;
+
+class ListingFeatureTableTest {
+
+    private final ListingFeatureTable table = ListingFeatureTable.from(List.of(
+            row(1, RoomType.ONE_ROOM, 1_000, 50, 37.5000, 127.0000),
+            row(2, RoomType.ONE_ROOM, 1_200, 60, 37.5010, 127.0000),
+            row(3, RoomType.ONE_ROOM, 800, 45, 37.5100, 127.0000),
+            row(4, RoomType.TWO_ROOM, 1_000, 50, 37.5001, 127.0000),
+            row(5, RoomType.ONE_ROOM, 2_000, 50, 37.5002, 127.0000),
+            row(6, RoomType.ONE_ROOM, 1_000, 50, 37.5003, 127.0000),
+            row(7, RoomType.ONE_ROOM, 1_000, 50, 37.5000, 127.0030)
+    ));
+
+    @Test
+    @DisplayName("방 종류가 같고 보증금·월세가 비율 범위 안인 매물을 가까운 순으로 고른다")
+    void returnsSameTypeWithinBandNearestFirst() {
+        assertThat(table.nearestSimilar(1, 10, Set.of(6L), 0.3)).containsExactly(2L, 7L, 3L);
+        assertThat(table.nearestSimilar(1, 2, Set.of(6L), 0.3)).containsExactly(2L, 7L);
+        assertThat(table.nearestSimilar(1, 10, Set.of(), 0.3)).startsWith(6L).doesNotContain(1L, 4L, 5L);
+    }
+
+    @Test
+    @DisplayName("스냅샷에 없는 매물이나 0 이하의 limit은 빈 결과를 돌려준다")
+    void returnsNothingForUnknownListingOrEmptyLimit() {
+        assertThat(table.contains(8)).isFalse();
+        assertThat(table.nearestSimilar(8, 10, Set.of(), 0.3)).isEmpty();
+        assertThat(table.nearestSimilar(1, 0, Set.of(), 0.3)).isEmpty();
+        assertThat(ListingFeatureTable.empty().size()).isZero();
+    }
+
+    static ListingRepository.SimilarityFeatureRow row(
+            long id,
+            RoomType roomType,
+            long deposit,
+            long monthlyRent,
+            double latitude,
+            double longitude
+    ) {
+        return new FeatureRow(id, roomType, deposit, monthlyRent, latitude, longitude);
+    }
+
+    private record FeatureRow(
+            Long getId,
+            RoomType getRoomType,
+            Long getDeposit,
+            Long getMonthlyRent,
+            Double getLatitude,
+            Double getLongitude
+    ) implements ListingRepository.SimilarityFeatureRow {
+    }
+}
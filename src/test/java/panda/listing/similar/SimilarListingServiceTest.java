@@ -0,0 +1,135 @@
+package panda.listing.similar;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisListCommands;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+import panda.listing.ListingIdRegistry;
+import panda.listing.ListingRepository;
+import panda.listing.ListingService;
+import panda.listing.ListingSummaryCache;
+import panda.listing.dto.ListingResponse;
+import panda.listing.enums.RoomType;
+
+class SimilarListingServiceTest {
+
+    private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+    private final ListingRepository listingRepository = mock(ListingRepository.class);
+    private final ListingIdRegistry listingIdRegistry = mock(ListingIdRegistry.class);
+    private final ListingSummaryCache listingSummaryCache = mock(ListingSummaryCache.class);
+    private final RedisConnection connection = mock(RedisConnection.class);
+    private final RedisListCommands listCommands = mock(RedisListCommands.class);
+    private final Map<String, List<String>> histories = new LinkedHashMap<>();
+    private final List<Object> pipelined = new ArrayList<>();
+    private final SimilarListingService service = new SimilarListingService(
+            stringRedisTemplate,
+            listingRepository,
+            mock(ListingService.class),
+            listingIdRegistry,
+            listingSummaryCache,
+            20,
+            3,
+            1,
+            0.3,
+            500
+    );
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        histories.put("recent:a", List.of("1", "2"));
+        histories.put("recent:b", List.of("2", "1"));
+        histories.put("recent:c", List.of("1", "9", "stale"));
+        histories.put("recent:debounce:a:1", List.of());
+
+        when(stringRedisTemplate.scan(any(ScanOptions.class))).thenAnswer(invocation -> {
+            Iterator<String> keys = histories.keySet().iterator();
+            Cursor<String> cursor = mock(Cursor.class);
+            when(cursor.hasNext()).thenAnswer(hasNext -> keys.hasNext());
+            when(cursor.next()).thenAnswer(next -> keys.next());
+            return cursor;
+        });
+        when(connection.listCommands()).thenReturn(listCommands);
+        when(listCommands.lRange(any(byte[].class), anyLong(), anyLong())).thenAnswer(invocation -> {
+            pipelined.add(histories.get(new String((byte[]) invocation.getArgument(0), StandardCharsets.UTF_8)));
+            return null;
+        });
+        when(stringRedisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+            pipelined.clear();
+            RedisCallback<?> callback = invocation.getArgument(0);
+            callback.doInRedis(connection);
+            return new ArrayList<>(pipelined);
+        });
+        when(listingRepository.findUnsoldSimilarityFeatures()).thenReturn(List.of(
+                ListingFeatureTableTest.row(1, RoomType.ONE_ROOM, 1_000, 50, 37.5000, 127.0000),
+                ListingFeatureTableTest.row(2, RoomType.TWO_ROOM, 5_000, 90, 37.6000, 127.1000),
+                ListingFeatureTableTest.row(3, RoomType.ONE_ROOM, 1_100, 55, 37.5010, 127.0000),
+                ListingFeatureTableTest.row(4, RoomType.ONE_ROOM, 900, 50, 37.5100, 127.0000),
+                ListingFeatureTableTest.row(5, RoomType.ONE_ROOM, 1_000, 50, 37.5200, 127.0000)
+        ));
+        when(listingIdRegistry.contains(any())).thenAnswer(invocation -> (Long) invocation.getArgument(0) <= 9);
+        when(listingSummaryCache.getAllInOrder(any(), any())).thenAnswer(invocation -> {
+            List<Long> ids = invocation.getArgument(0);
+            return ids.stream().map(SimilarListingServiceTest::summary).toList();
+        });
+    }
+
+    @Test
+    @DisplayName("함께 본 매물을 먼저 두고 남은 자리는 조건이 비슷한 가까운 매물로 채운다")
+    void mergesCoViewNeighborsBeforeContentMatches() {
+        service.rebuild();
+
+        assertThat(service.getSimilar(1L, 3))
+                .extracting(ListingResponse::id)
+                .containsExactly(2L, 3L, 4L);
+    }
+
+    @Test
+    @DisplayName("판매 완료로 스냅샷에 없는 매물은 함께 본 매물이어도 제외한다")
+    void skipsCoViewNeighborsMissingFromTheUnsoldSnapshot() {
+        service.rebuild();
+
+        assertThat(service.getSimilar(1L, 3)).extracting(ListingResponse::id).doesNotContain(9L, 1L);
+        assertThat(service.getSimilar(9L, 3)).extracting(ListingResponse::id).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("limit은 최대값으로 자르고 0 이하는 400, 없는 매물은 404로 거절한다")
+    void clampsLimitAndRejectsInvalidRequests() {
+        service.rebuild();
+
+        assertThat(service.getSimilar(1L, 50)).hasSize(3);
+        assertThat(service.getSimilar(1L, null)).hasSize(3);
+        assertThat(service.getSimilar(1L, 1)).extracting(ListingResponse::id).containsExactly(2L);
+        assertThatThrownBy(() -> service.getSimilar(1L, 0))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        ex -> assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+        assertThatThrownBy(() -> service.getSimilar(10L, 3))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        ex -> assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND));
+    }
+
+    private static ListingResponse summary(Long id) {
+        return new ListingResponse(id, "address " + id, 0L, 0L, 0L, List.of(), false, false, false, null, null, null);
+    }
+}
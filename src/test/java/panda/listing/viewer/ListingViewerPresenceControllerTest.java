@@ -27,6 +27,7 @@ import panda.listing.enums.MoveInType;
 import panda.listing.enums.ParkingStatus;
 import panda.listing.enums.PetPolicy;
 import panda.listing.enums.RoomType;
+import panda.listing.viewer.dto.ViewerPresenceBatchRequest;
 import panda.listing.viewer.dto.ViewerPresenceRequest;
 
 @SpringBootTest
@@ -126,6 +127,31 @@ class ListingViewerPresenceControllerTest {
                 .andExpect(jsonPath("$.viewerCount").value(1));
     }
 
+    @Test
+    @DisplayName("배치 하트비트는 여러 매물의 viewerCount를 한 번에 반환하고 존재하지 않는 매물은 제외한다")
+    void batchHeartbeatReturnsCountsForAllListings() throws Exception {
+        ViewerPresenceBatchRequest request = new ViewerPresenceBatchRequest(List.of(
+                new ViewerPresenceBatchRequest.Heartbeat(listing1Id, "session-a"),
+                new ViewerPresenceBatchRequest.Heartbeat(listing1Id, "session-b"),
+                new ViewerPresenceBatchRequest.Heartbeat(listing2Id, "session-c"),
+                new ViewerPresenceBatchRequest.Heartbeat(999_999L, "session-d")
+        ));
+
+        mockMvc.perform(post("/api/v1/listings/viewer-presence/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].listingId").value(listing1Id))
+                .andExpect(jsonPath("$[0].viewerCount").value(2))
+                .andExpect(jsonPath("$[1].listingId").value(listing2Id))
+                .andExpect(jsonPath("$[1].viewerCount").value(1));
+
+        mockMvc.perform(get("/api/v1/listings/{id}/viewer-count", listing1Id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.viewerCount").value(2));
+    }
+
     private Listing createListing(String address) {
         return Listing.builder()
                 .address(address)